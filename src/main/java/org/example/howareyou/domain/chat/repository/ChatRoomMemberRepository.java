@@ -1,5 +1,6 @@
 package org.example.howareyou.domain.chat.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.example.howareyou.domain.chat.entity.ChatRoom;
@@ -32,6 +33,22 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
       @Param("roomStatus") ChatRoomStatus roomStatus
   );
 
+  /**
+   * 여러 회원의 참여 채팅방 UUID 를 한 번에 조회 (엔티티 로딩 없이 projection)
+   */
+  @Query("""
+      select m.member.id as memberId, r.uuid as roomUuid
+      from ChatRoomMember m
+      join m.chatRoom r
+      where m.member.id in :memberIds
+      """)
+  List<MemberRoomUuid> findRoomUuidsByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+  interface MemberRoomUuid {
+    Long getMemberId();
+    String getRoomUuid();
+  }
+
   @Query("""
     select r from ChatRoom r
     join fetch r.members m
@@ -4,7 +4,11 @@ import jakarta.transaction.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -264,6 +268,22 @@ public class ChatRoomService {
             .collect(Collectors.toSet());
   }
 
+  /**
+   * 단어장 배치용 참여 채팅방 일괄 조회 (쿼리 1회)
+   * @return memberId → 참여 채팅방 UUID (참여 방이 없는 회원은 키 없음)
+   */
+  @Transactional
+  public Map<Long, Set<String>> getChatRoomUuidsByMemberIds(Collection<Long> memberIds) {
+    if (memberIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, Set<String>> result = new HashMap<>();
+    for (ChatRoomMemberRepository.MemberRoomUuid row : chatRoomMemberRepository.findRoomUuidsByMemberIds(memberIds)) {
+      result.computeIfAbsent(row.getMemberId(), k -> new HashSet<>()).add(row.getRoomUuid());
+    }
+    return result;
+  }
+
   /**
    * 매칭 수락 되지 않은 대기 방 조회
    */
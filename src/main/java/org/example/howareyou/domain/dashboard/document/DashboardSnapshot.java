@@ -0,0 +1,48 @@
+package org.example.howareyou.domain.dashboard.document;
+
+import lombok.*;
+import org.example.howareyou.domain.dashboard.dto.ScorePoint;
+import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대시보드 요약 읽기 모델 (회원당 1문서, _id = memberId)
+ *
+ * - 타임존/기간(week/month)과 무관한 원천 데이터만 보관 → 요약은 요청 시 메모리에서 계산
+ * - 퀴즈 채점(QuizGradedEvent), 단어장 생성(MemberVocabularyUpdatedEvent) 시 증분 반영
+ * - rebuiltAt 이 오래됐거나 보관 범위가 조회 기간을 못 덮으면 원천(Postgres/Mongo)에서 다시 계산
+ * - version: 증분 반영마다 +1, 재계산 결과는 읽을 때의 version 그대로일 때만 저장 (그 사이 증분을 덮어쓰지 않도록)
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "dashboard_snapshot")
+public class DashboardSnapshot {
+
+    @Id
+    private Long memberId;
+
+    @Indexed(name = "ix_membername")
+    private String membername;
+
+    private long totalWords;            // member_word 전체 개수
+
+    @Builder.Default
+    private List<ScorePoint> recentScores = new ArrayList<>();          // 최근 제출 퀴즈 (제출시각 내림차순)
+
+    @Builder.Default
+    private List<WrongAnswerResponse> wrongAnswers = new ArrayList<>(); // 최근 오답 (최신순)
+
+    private Instant rebuiltAt;          // 원천에서 전체 재계산한 시각
+    private Instant updatedAt;          // 마지막 증분 반영 시각
+
+    private Long version;               // 이전 문서에는 없을 수 있음 (null)
+}
@@ -0,0 +1,7 @@
+package org.example.howareyou.domain.dashboard.repository;
+
+import org.example.howareyou.domain.dashboard.document.DashboardSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface DashboardSnapshotRepository extends MongoRepository<DashboardSnapshot, Long>, DashboardSnapshotRepositoryCustom {
+}
@@ -0,0 +1,27 @@
+package org.example.howareyou.domain.dashboard.repository;
+
+import org.example.howareyou.domain.dashboard.document.DashboardSnapshot;
+import org.example.howareyou.domain.dashboard.dto.ScorePoint;
+import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
+
+import java.util.List;
+
+public interface DashboardSnapshotRepositoryCustom {
+
+    /**
+     * 채점된 퀴즈 1건 반영 ($push + $sort + $slice, 스냅샷이 있을 때만)
+     * @return 반영된 문서 수 (스냅샷이 아직 없으면 0 → 첫 조회 때 전체 계산)
+     */
+    long pushQuizResult(Long memberId, ScorePoint score, List<WrongAnswerResponse> wrongAnswers,
+                        int maxScores, int maxWrongAnswers);
+
+    /** 사용자 단어 총개수 갱신 (스냅샷이 있을 때만) */
+    long updateTotalWords(String membername, long totalWords);
+
+    /**
+     * 재계산 결과 저장 - 문서의 version 이 expectedVersion 그대로일 때만 (null = 문서 없음/version 없는 이전 문서)
+     * 재계산한 필드만 $set 하고 version +1
+     * @return 저장했으면 true, 그 사이 증분 반영/다른 재계산이 있었으면 false
+     */
+    boolean saveIfUnchanged(DashboardSnapshot snapshot, Long expectedVersion);
+}
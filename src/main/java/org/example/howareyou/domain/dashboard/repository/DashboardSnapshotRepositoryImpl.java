@@ -0,0 +1,78 @@
+package org.example.howareyou.domain.dashboard.repository;
+
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.example.howareyou.domain.dashboard.document.DashboardSnapshot;
+import org.example.howareyou.domain.dashboard.dto.ScorePoint;
+import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class DashboardSnapshotRepositoryImpl implements DashboardSnapshotRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public long pushQuizResult(Long memberId, ScorePoint score, List<WrongAnswerResponse> wrongAnswers,
+                               int maxScores, int maxWrongAnswers) {
+        Update update = new Update().set("updatedAt", Instant.now()).inc("version", 1);
+        update.push("recentScores")
+                .sort(Sort.by(Sort.Direction.DESC, "submittedAtUtc"))
+                .slice(maxScores)
+                .each(score);
+        if (!wrongAnswers.isEmpty()) {
+            update.push("wrongAnswers")
+                    .atPosition(Update.Position.FIRST)
+                    .slice(maxWrongAnswers)
+                    .each(wrongAnswers.toArray());
+        }
+        return mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(memberId)), update, DashboardSnapshot.class
+        ).getModifiedCount();
+    }
+
+    @Override
+    public long updateTotalWords(String membername, long totalWords) {
+        return mongoTemplate.updateFirst(
+                new Query(Criteria.where("membername").is(membername)),
+                new Update().set("totalWords", totalWords).set("updatedAt", Instant.now()).inc("version", 1),
+                DashboardSnapshot.class
+        ).getModifiedCount();
+    }
+
+    @Override
+    public boolean saveIfUnchanged(DashboardSnapshot snapshot, Long expectedVersion) {
+        Criteria criteria = Criteria.where("_id").is(snapshot.getMemberId());
+        criteria = expectedVersion == null
+                ? criteria.and("version").exists(false)
+                : criteria.and("version").is(expectedVersion);
+        long nextVersion = expectedVersion == null ? 1L : expectedVersion + 1;
+        Update update = new Update()
+                .set("membername", snapshot.getMembername())
+                .set("totalWords", snapshot.getTotalWords())
+                .set("recentScores", snapshot.getRecentScores())
+                .set("wrongAnswers", snapshot.getWrongAnswers())
+                .set("rebuiltAt", snapshot.getRebuiltAt())
+                .set("updatedAt", snapshot.getUpdatedAt())
+                .set("version", nextVersion);
+        try {
+            // 조건에 맞는 문서가 없으면 upsert → 같은 _id 가 이미 있으면(version 이 바뀜) 중복 키로 실패
+            UpdateResult result = mongoTemplate.upsert(new Query(criteria), update, DashboardSnapshot.class);
+            if (result.getMatchedCount() == 0 && result.getUpsertedId() == null) return false;
+            snapshot.setVersion(nextVersion);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.howareyou.domain.dashboard.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 대시보드 위젯 조회 병렬 실행기
+ *  - 서로 독립적인 하위 조회(단어 수, 연속 학습일, 점수 시리즈 등)를 고정 크기 풀에서 동시에 실행
+ *  - 대기열은 queue-capacity 로 제한, 꽉 차면 바로 거절(rejected) → 느린 DB 때문에 작업이 무한정 쌓이지 않음
+ *  - 위젯별 타임아웃, 넘으면 작업을 취소(대기 중이면 실행 안 함, 실행 중이면 인터럽트)
+ *  - 실패/타임아웃 시 기본값으로 대체(부분 결과) 또는 예외 전파 선택
+ *  - 하위 조회(Supplier)는 예외를 삼키지 않아야 실패가 기본값/예외 전파로 이어짐
+ *
+ * 메트릭: dashboard.widget.latency{widget} (p50/p95/p99), dashboard.widget.fallback{widget, reason=timeout|rejected|error}
+ */
+@Slf4j
+@Component
+public class DashboardAssembler {
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+
+    public DashboardAssembler(MeterRegistry meterRegistry,
+                              @Value("${dashboard.fanout.concurrency:8}") int concurrency,
+                              @Value("${dashboard.fanout.queue-capacity:64}") int queueCapacity,
+                              @Value("${dashboard.fanout.timeout-ms:2000}") long timeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.timeout = Duration.ofMillis(timeoutMs);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);   // 기본 AbortPolicy → 꽉 차면 RejectedExecutionException
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setDaemon(true);
+        executor.initialize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 위젯 조회 (실패/타임아웃 시 fallback 값으로 완료 → 나머지 위젯은 그대로 응답)
+     */
+    public <T> CompletableFuture<T> fetch(String widget, Supplier<T> call, T fallback) {
+        return fetchStrict(widget, call)
+                .handle((value, ex) -> {
+                    if (ex == null) return value;
+                    Throwable cause = rootCause(ex);
+                    String reason = cause instanceof TimeoutException ? "timeout"
+                            : cause instanceof RejectedExecutionException ? "rejected" : "error";
+                    fallback(widget, reason);
+                    log.warn("⚠️ 대시보드 위젯 조회 실패({}) → 기본값 - widget={}: {}", reason, widget, cause.getMessage());
+                    return fallback;
+                });
+    }
+
+    /**
+     * 위젯 조회 (실패/타임아웃/거절 시 join 에서 예외) - 결과를 저장해야 해서 부분 결과를 쓰면 안 되는 경우
+     */
+    public <T> CompletableFuture<T> fetchStrict(String widget, Supplier<T> call) {
+        Timer timer = Timer.builder("dashboard.widget.latency")
+                .description("대시보드 위젯별 조회 시간")
+                .tag("widget", widget)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> task;
+        try {
+            task = executor.submit(() -> {
+                try {
+                    result.complete(timer.record(call));
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // 타임아웃이면 작업도 취소 (풀 스레드를 계속 잡고 있지 않도록)
+        result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((value, ex) -> {
+                    if (ex != null) task.cancel(true);
+                });
+        return result;
+    }
+
+    private void fallback(String widget, String reason) {
+        Counter.builder("dashboard.widget.fallback")
+                .tag("widget", widget)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static Throwable rootCause(Throwable ex) {
+        Throwable t = ex;
+        while (t.getCause() != null) t = t.getCause();
+        return t;
+    }
+}
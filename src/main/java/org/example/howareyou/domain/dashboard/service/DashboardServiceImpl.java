@@ -2,6 +2,7 @@ package org.example.howareyou.domain.dashboard.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.dashboard.document.DashboardSnapshot;
 import org.example.howareyou.domain.dashboard.dto.DashboardSummary;
 import org.example.howareyou.domain.dashboard.dto.ScorePoint;
 import org.example.howareyou.domain.dashboard.dto.WrongAnswer;
@@ -11,14 +12,17 @@ import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,57 +32,108 @@ public class DashboardServiceImpl implements DashboardService {
 
     private final QuizService quizService;
     private final MemberVocaBookService memberVocaBookService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DashboardAssembler dashboardAssembler;
 
+    /**
+     * 트랜잭션 없이 실행: 원천 조회는 dashboard-* 작업 스레드에서 QuizService 호출별 읽기 전용 트랜잭션으로 수행
+     * (요청 스레드가 커넥션을 잡은 채 작업 스레드들이 또 커넥션을 기다리면 풀이 작을 때 모든 위젯이 타임아웃)
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardSummary getDashboardSummary(Long memberId, ZoneId zoneId, String period) {
         try {
             log.info("대시보드 요약 정보 조회 시작 - memberId: {}, zoneId: {}, period: {}", memberId, zoneId, period);
-            
+
             // 기간에 따른 날짜 범위 계산
             LocalDate to = LocalDate.now(zoneId);
             LocalDate from = calculateFromDate(to, period);
-            
-            // 1. 총 단어 개수 조회 (전체, 기간별 필터링 없음)
-            long totalWords = memberVocaBookService.countTotalWordsByMemberId(memberId);
-            
-            // 2. 연속 학습일 계산 (기간별 필터링)
-            int learningStreakDays = quizService.calculateLearningStreak(memberId, zoneId, period);
-            
-            // 3. 복습 필요 날짜 계산 (기간별)
-            int reviewNeededDays = quizService.countReviewNeededDays(memberId, from, to, zoneId);
-            
-            // 4. 격려 메시지 생성
-            String encouragementMessage = reviewNeededDays == 0 
-                ? "학습을 꾸준히 하시고계시는군요? 최고에요!" 
-                : "오늘도 열심히 학습해보세요!";
-            
-            // 5. 학습 성과 분석 (기간별)
             Instant toUtc = Instant.now();
             Instant fromUtc = from.atStartOfDay(zoneId).toInstant();
             int limit = "week".equals(period) ? 7 : 30; // 주간: 7일, 월간: 30일
-            List<ScorePoint> scoreSeries = quizService.getScoreSeries(memberId, fromUtc, toUtc, limit);
-            
-            // 6. 오답노트 조회 (최근 10개) - 일단 빈 리스트로 처리
-            List<WrongAnswerResponse> wrongAnswerNotes = quizService.getWrongAnswer(memberId);
-            
-            DashboardSummary summary = new DashboardSummary(
-                totalWords,
-                learningStreakDays,
-                reviewNeededDays,
-                encouragementMessage,
-                scoreSeries,
-                wrongAnswerNotes
-            );
-            
+
+            // 스냅샷 단건 조회 (실패하거나 기간을 덮지 못하면 원천 조회로 대체)
+            DashboardSnapshot snapshot = null;
+            try {
+                snapshot = dashboardSnapshotService.getOrRebuild(memberId);
+            } catch (Exception e) {
+                log.warn("⚠️ 대시보드 스냅샷 조회 실패 → 원천 조회 - memberId: {}: {}", memberId, e.getMessage());
+            }
+
+            DashboardSummary summary = (snapshot != null && dashboardSnapshotService.covers(snapshot, fromUtc))
+                    ? summarize(snapshot, zoneId, from, to, fromUtc, toUtc, limit)
+                    : computeFromSources(memberId, zoneId, period, from, to, fromUtc, toUtc, limit);
+
             log.info("대시보드 요약 정보 조회 완료 - memberId: {}", memberId);
             return summary;
-            
+
         } catch (Exception e) {
             log.error("대시보드 요약 정보 조회 실패 - memberId: {}, error: {}", memberId, e.getMessage(), e);
             throw new CustomException(ErrorCode.DASHBOARD_CALCULATION_FAILED, "대시보드 데이터 계산 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 스냅샷으로 요약 계산 (DB 조회 없음)
+     * 연속 학습일/복습 필요 날짜는 기존 SQL 과 같이 기간 내 퀴즈 제출 날짜(사용자 타임존) 수
+     */
+    private DashboardSummary summarize(DashboardSnapshot snapshot, ZoneId zoneId,
+                                       LocalDate from, LocalDate to,
+                                       Instant fromUtc, Instant toUtc, int limit) {
+        Set<LocalDate> quizDays = new HashSet<>();
+        List<ScorePoint> scoreSeries = new ArrayList<>();
+        for (ScorePoint p : snapshot.getRecentScores()) { // 제출시각 내림차순
+            Instant at = p.submittedAtUtc();
+            LocalDate day = at.atZone(zoneId).toLocalDate();
+            if (!day.isBefore(from) && !day.isAfter(to)) quizDays.add(day);
+            if (!at.isBefore(fromUtc) && !at.isAfter(toUtc) && scoreSeries.size() < limit) scoreSeries.add(p);
+        }
+
+        return new DashboardSummary(
+                snapshot.getTotalWords(),
+                quizDays.size(),
+                quizDays.size(),
+                encouragementMessage(quizDays.size()),
+                scoreSeries,
+                snapshot.getWrongAnswers()
+        );
+    }
+
+    /**
+     * 원천(Postgres/Mongo) 직접 조회 - 스냅샷을 쓸 수 없을 때 (위젯별 병렬, 부분 결과 허용)
+     */
+    private DashboardSummary computeFromSources(Long memberId, ZoneId zoneId, String period,
+                                                LocalDate from, LocalDate to,
+                                                Instant fromUtc, Instant toUtc, int limit) {
+        // 서로 독립적인 하위 조회를 병렬로 실행 (위젯별 타임아웃, 실패 시 기본값)
+        var totalWords = dashboardAssembler.fetch("totalWords",
+                () -> memberVocaBookService.countTotalWordsByMemberId(memberId), 0L);
+        var learningStreakDays = dashboardAssembler.fetch("learningStreak",
+                () -> quizService.calculateLearningStreak(memberId, zoneId, period), 0);
+        var reviewNeededDays = dashboardAssembler.fetch("reviewDays",
+                () -> quizService.countReviewNeededDays(memberId, from, to, zoneId), 0);
+        var scoreSeries = dashboardAssembler.fetch("scoreSeries",
+                () -> quizService.getScoreSeries(memberId, fromUtc, toUtc, limit), List.<ScorePoint>of());
+        var wrongAnswerNotes = dashboardAssembler.fetch("wrongAnswers",
+                () -> quizService.getWrongAnswer(memberId), List.<WrongAnswerResponse>of());
+
+        return new DashboardSummary(
+            totalWords.join(),
+            learningStreakDays.join(),
+            reviewNeededDays.join(),
+            encouragementMessage(reviewNeededDays.join()),
+            scoreSeries.join(),
+            dashboardSnapshotService.limitWrongAnswers(wrongAnswerNotes.join())
+        );
+    }
+
+    /** 격려 메시지 생성 */
+    private static String encouragementMessage(int reviewNeededDays) {
+        return reviewNeededDays == 0
+            ? "학습을 꾸준히 하시고계시는군요? 최고에요!"
+            : "오늘도 열심히 학습해보세요!";
+    }
+
     @Override
     public long countWords(Long memberId, String lang, String pos, String period) {
         try {
@@ -0,0 +1,147 @@
+package org.example.howareyou.domain.dashboard.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.dashboard.document.DashboardSnapshot;
+import org.example.howareyou.domain.dashboard.dto.ScorePoint;
+import org.example.howareyou.domain.dashboard.repository.DashboardSnapshotRepository;
+import org.example.howareyou.domain.member.service.MemberService;
+import org.example.howareyou.domain.quiz.event.QuizGradedEvent;
+import org.example.howareyou.domain.quiz.service.QuizService;
+import org.example.howareyou.domain.vocabulary.event.MemberVocabularyUpdatedEvent;
+import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ 대시보드 스냅샷(DashboardSnapshot) 관리
+ *  - 조회: _id 단건 조회 1회, 없거나 max-staleness 를 넘으면 원천에서 재계산 후 저장
+ *  - 퀴즈 채점 커밋 후: 점수/오답을 $push 로 증분 반영
+ *  - 단어장 재생성 후: 단어 총개수만 다시 count 해서 반영
+ *  - 증분 반영이 누락돼도 staleness 한도 안에서 재계산으로 복구됨
+ */
+@Slf4j
+@Service
+public class DashboardSnapshotService {
+
+    private static final Duration SCORE_RETENTION = Duration.ofDays(33); // month 기간(최대 31일) + 타임존 여유
+
+    private final DashboardSnapshotRepository dashboardSnapshotRepository;
+    private final QuizService quizService;
+    private final MemberService memberService;
+    private final MemberVocaBookService memberVocaBookService;
+    private final DashboardAssembler dashboardAssembler;
+    private final Duration maxStaleness;
+    private final int maxScores;
+    private final int maxWrongAnswers;
+
+    public DashboardSnapshotService(DashboardSnapshotRepository dashboardSnapshotRepository,
+                                    QuizService quizService,
+                                    MemberService memberService,
+                                    MemberVocaBookService memberVocaBookService,
+                                    DashboardAssembler dashboardAssembler,
+                                    @Value("${dashboard.snapshot.max-staleness-minutes:360}") long maxStalenessMinutes,
+                                    @Value("${dashboard.snapshot.max-scores:300}") int maxScores,
+                                    @Value("${dashboard.snapshot.max-wrong-answers:50}") int maxWrongAnswers) {
+        this.dashboardSnapshotRepository = dashboardSnapshotRepository;
+        this.quizService = quizService;
+        this.memberService = memberService;
+        this.memberVocaBookService = memberVocaBookService;
+        this.dashboardAssembler = dashboardAssembler;
+        this.maxStaleness = Duration.ofMinutes(maxStalenessMinutes);
+        this.maxScores = maxScores;
+        this.maxWrongAnswers = maxWrongAnswers;
+    }
+
+    /** 스냅샷 조회 (없거나 오래됐으면 재계산) */
+    public DashboardSnapshot getOrRebuild(Long memberId) {
+        DashboardSnapshot snapshot = dashboardSnapshotRepository.findById(memberId).orElse(null);
+        if (snapshot != null && snapshot.getRebuiltAt() != null
+                && snapshot.getRebuiltAt().isAfter(Instant.now().minus(maxStaleness))) {
+            return snapshot;
+        }
+        return rebuild(memberId, snapshot == null ? null : snapshot.getVersion());
+    }
+
+    /**
+     * 원천(Postgres/Mongo)에서 전체 재계산 후 저장
+     *  - 하위 조회가 하나라도 실패하면 예외 (저장하지 않음)
+     *  - 읽은 뒤 증분 반영이 끼어들었으면(version 변경) 저장하지 않고 이번 응답에만 사용
+     */
+    public DashboardSnapshot rebuild(Long memberId, Long expectedVersion) {
+        Instant now = Instant.now();
+        // 저장할 값이라 부분 결과는 쓰지 않음 (하나라도 실패하면 예외 → 호출 측에서 원천 조회로 대체)
+        //   (findMembernameById 는 실패를 null 로 삼키므로 예외가 나는 getMemberById 사용)
+        var membernameF = dashboardAssembler.fetchStrict("membername",
+                () -> memberService.getMemberById(memberId).getMembername());
+        var scoresF = dashboardAssembler.fetchStrict("scoreSeries",
+                () -> quizService.getScoreSeries(memberId, now.minus(SCORE_RETENTION), now, maxScores));
+        var wrongAnswersF = dashboardAssembler.fetchStrict("wrongAnswers", () -> quizService.getWrongAnswer(memberId));
+
+        String membername = membernameF.join();
+        long totalWords = membername == null ? 0 : memberVocaBookService.countTotalWords(membername);
+        List<ScorePoint> scores = scoresF.join();
+        var wrongAnswers = wrongAnswersF.join();
+
+        DashboardSnapshot snapshot = DashboardSnapshot.builder()
+                .memberId(memberId)
+                .membername(membername)
+                .totalWords(totalWords)
+                .recentScores(new ArrayList<>(scores))
+                .wrongAnswers(new ArrayList<>(limitWrongAnswers(wrongAnswers)))
+                .rebuiltAt(now)
+                .updatedAt(now)
+                .build();
+        if (dashboardSnapshotRepository.saveIfUnchanged(snapshot, expectedVersion)) {
+            log.debug("대시보드 스냅샷 재계산 - memberId: {}, scores: {}", memberId, scores.size());
+        } else {
+            log.debug("대시보드 스냅샷 재계산 중 증분 반영 발생 → 저장 생략 - memberId: {}", memberId);
+        }
+        return snapshot;
+    }
+
+    /** 오답은 최신순 max-wrong-answers 개까지 (스냅샷/원천 조회 경로 공통) */
+    public <T> List<T> limitWrongAnswers(List<T> wrongAnswers) {
+        return wrongAnswers.size() <= maxWrongAnswers ? wrongAnswers : wrongAnswers.subList(0, maxWrongAnswers);
+    }
+
+    /**
+     * 보관 중인 점수 목록이 조회 시작 시각까지 덮는지
+     * (maxScores 로 잘린 상태에서 가장 오래된 항목이 시작 시각 이후면 기간 집계가 모자람)
+     */
+    public boolean covers(DashboardSnapshot snapshot, Instant fromUtc) {
+        List<ScorePoint> scores = snapshot.getRecentScores();
+        if (scores.size() < maxScores) return true;
+        return !scores.get(scores.size() - 1).submittedAtUtc().isAfter(fromUtc);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizGraded(QuizGradedEvent event) {
+        try {
+            dashboardSnapshotRepository.pushQuizResult(
+                    event.memberId(),
+                    new ScorePoint(event.quizUuid(), event.completedAt(), event.score()),
+                    event.wrongAnswers(),
+                    maxScores,
+                    maxWrongAnswers);
+        } catch (Exception e) {
+            log.warn("⚠️ 대시보드 스냅샷 퀴즈 반영 실패 - memberId={}: {}", event.memberId(), e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onVocabularyUpdated(MemberVocabularyUpdatedEvent event) {
+        try {
+            dashboardSnapshotRepository.updateTotalWords(
+                    event.membername(), memberVocaBookService.countTotalWords(event.membername()));
+        } catch (Exception e) {
+            log.warn("⚠️ 대시보드 스냅샷 단어 수 반영 실패 - member={}: {}", event.membername(), e.getMessage());
+        }
+    }
+}
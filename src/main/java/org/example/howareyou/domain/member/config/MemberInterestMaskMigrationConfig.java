@@ -0,0 +1,53 @@
+package org.example.howareyou.domain.member.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.member.entity.MemberTag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * member_profiles.interest_mask 백필
+ * member_interests 로 계산한 마스크와 다른 프로필만 갱신 (이미 맞으면 아무것도 하지 않으므로 켜 두어도 안전)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migration.member-interest-mask.enabled", havingValue = "true")
+public class MemberInterestMaskMigrationConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        // ('TRAVEL', 2), ... → 태그 이름별 비트
+        String bits = Arrays.stream(MemberTag.values())
+                .map(t -> "('%s', %d::bigint)".formatted(t.name(), t.bit()))
+                .collect(Collectors.joining(", "));
+        try {
+            int updated = jdbcTemplate.update("""
+                    with m as (select p.member_id, coalesce(bit_or(t.bit), 0) as mask
+                                 from member_profiles p
+                                 left join member_interests mi on mi.member_id = p.member_id
+                                 left join (values %s) as t(name, bit) on t.name = mi.interest
+                                group by p.member_id)
+                    update member_profiles p
+                       set interest_mask = m.mask
+                      from m
+                     where p.member_id = m.member_id
+                       and p.interest_mask <> m.mask
+                    """.formatted(bits));
+            if (updated > 0) {
+                log.info("✅ member_profiles.interest_mask 백필 완료 - {}건", updated);
+            }
+        } catch (Exception e) {
+            log.error("❌ member_profiles.interest_mask 백필 실패", e);
+        }
+    }
+}
@@ -14,10 +14,13 @@ import lombok.RequiredArgsConstructor;
 import org.example.howareyou.domain.member.dto.request.FilterRequest;
 import org.example.howareyou.domain.member.dto.request.MembernameRequest;
 import org.example.howareyou.domain.member.dto.request.ProfileCreateRequest;
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryPage;
 import org.example.howareyou.domain.member.dto.response.MemberStatusResponse;
 import org.example.howareyou.domain.member.dto.response.MembernameResponse;
+import org.example.howareyou.domain.member.dto.response.PresenceStatsResponse;
 import org.example.howareyou.domain.member.dto.response.ProfileResponse;
 import org.example.howareyou.domain.member.entity.MemberProfile;
+import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.member.service.MemberService;
 import org.example.howareyou.global.security.CustomMemberDetails;
 import org.springframework.http.MediaType;
@@ -27,6 +30,7 @@ import org.springframework.web.ErrorResponse;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @Tag(name = "회원 관리", description = "사용자 계정 및 프로필 관련 API")
 @RestController
@@ -71,6 +75,20 @@ public class MemberController {
 //        return ResponseEntity.noContent().build();
 //    }
 
+    @Operation(summary = "온라인 회원 목록", description = "지금 온라인인 회원의 membername을 최근 활동순으로 반환합니다. (최대 100명)")
+    @GetMapping("/presence/online")
+    public ResponseEntity<List<String>> getOnlineMembers(
+            @Parameter(description = "조회 인원", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(memberService.findOnlineMembernames(limit));
+    }
+
+    @Operation(summary = "접속 통계", description = "전체 온라인 회원 수와 서버 노드별 온라인 회원 수를 반환합니다.")
+    @GetMapping("/presence/stats")
+    public ResponseEntity<PresenceStatsResponse> getPresenceStats() {
+        return ResponseEntity.ok(memberService.getPresenceStats());
+    }
+
     @Operation(summary = "공개 프로필 조회", description = "특정 사용자의 공개 프로필을 조회합니다.")
     @GetMapping("/{membername}")
     public ResponseEntity<ProfileResponse> getPublicProfile(
@@ -208,4 +226,28 @@ public class MemberController {
         List<ProfileResponse> users = memberService.findOthersWithFilter(filterRequest, memberDetails.getId());
         return ResponseEntity.ok(users);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "회원 탐색 (관심사 + 최근 활동순 커서 조회)",
+            description = """
+        지정한 관심사를 모두 가진 다른 활성 회원을 최근 활동순으로 반환합니다.
+        응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다. 관심사를 생략하면 전체 회원이 대상입니다.
+      """
+    )
+    @GetMapping("/search/discover")
+    public ResponseEntity<MemberDiscoveryPage> discover(
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal CustomMemberDetails memberDetails,
+            @Parameter(description = "모두 포함해야 하는 관심사", example = "TRAVEL")
+            @RequestParam(required = false) Set<MemberTag> interests,
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        if (memberDetails == null) {
+            return ResponseEntity.status(401).build();
+        }
+        return ResponseEntity.ok(memberService.discoverMembers(memberDetails.getId(), interests, cursor, size));
+    }
+}
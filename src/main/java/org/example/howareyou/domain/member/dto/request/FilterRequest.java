@@ -11,5 +11,12 @@ import java.util.Set;
 @Setter
 @NoArgsConstructor
 public class FilterRequest {
-    private Set<MemberTag> interests;
+    private Set<MemberTag> interests;   // 모두 포함해야 하는 관심사
+
+    /* 선택 조건 (null = 조건 없음) */
+    private String language;
+    private String country;             // ISO-3166 alpha-2
+    private Integer minAge;
+    private Integer maxAge;
+    private boolean onlineOnly;
 }
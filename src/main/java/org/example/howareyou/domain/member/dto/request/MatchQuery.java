@@ -0,0 +1,29 @@
+package org.example.howareyou.domain.member.dto.request;
+
+import org.example.howareyou.domain.member.entity.MemberTag;
+
+import java.util.Set;
+
+/**
+ * 매칭 인덱스 조회 조건 (null/빈 값 = 조건 없음)
+ * @param allInterests 모두 포함해야 하는 관심사
+ * @param anyInterests 하나 이상 포함해야 하는 관심사
+ * @param onlineOnly   true 면 온라인 회원만
+ */
+public record MatchQuery(
+        Set<MemberTag> allInterests,
+        Set<MemberTag> anyInterests,
+        String language,
+        String country,
+        Integer minAge,
+        Integer maxAge,
+        boolean onlineOnly
+) {
+    public static MatchQuery allOf(Set<MemberTag> interests) {
+        return new MatchQuery(interests, null, null, null, null, null, false);
+    }
+
+    public static MatchQuery anyOf(Set<MemberTag> interests) {
+        return new MatchQuery(null, interests, null, null, null, null, false);
+    }
+}
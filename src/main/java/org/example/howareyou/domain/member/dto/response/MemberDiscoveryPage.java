@@ -0,0 +1,19 @@
+package org.example.howareyou.domain.member.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원 탐색 키셋 페이지 응답 (최근 활동순)
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회
+ */
+@Getter
+@Builder
+public class MemberDiscoveryPage {
+    private final List<ProfileResponse> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+}
@@ -0,0 +1,23 @@
+package org.example.howareyou.domain.member.dto.response;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * 회원 탐색 조회용 프로젝션 (members + member_profiles 컬럼만, 관심사는 비트마스크)
+ */
+public record MemberDiscoveryView(
+        Long memberId,
+        String membername,
+        String nickname,
+        String avatarUrl,
+        String bio,
+        long interestMask,
+        boolean completed,
+        String language,
+        String timezone,
+        LocalDate birthDate,
+        String country,
+        String region,
+        Instant lastActiveAt
+) {}
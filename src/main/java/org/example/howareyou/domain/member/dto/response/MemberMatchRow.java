@@ -0,0 +1,14 @@
+package org.example.howareyou.domain.member.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * 매칭 인덱스 적재용 프로젝션 (관심사 비트마스크 + 언어/국가/생년월일만)
+ */
+public record MemberMatchRow(
+        Long memberId,
+        long interestMask,
+        String language,
+        String country,
+        LocalDate birthDate
+) {}
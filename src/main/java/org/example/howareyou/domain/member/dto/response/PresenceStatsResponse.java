@@ -0,0 +1,9 @@
+package org.example.howareyou.domain.member.dto.response;
+
+import java.util.Map;
+
+/**
+ * 접속 통계 (online = 전체 온라인 회원 수, perNode = 노드별 온라인 회원 수)
+ */
+public record PresenceStatsResponse(long online, Map<String, Long> perNode) {
+}
@@ -66,4 +66,21 @@ public class ProfileResponse {
                 .region(m.getProfile().getRegion())
                 .build();
     }
-}
\ No newline at end of file
+
+    public static ProfileResponse from(MemberDiscoveryView v) {
+        return ProfileResponse.builder()
+                .membername(v.membername())
+                .nickname(v.nickname())
+                .avatarUrl(v.avatarUrl())
+                .bio(v.bio())
+                .interests(MemberTag.fromMask(v.interestMask()))
+                .completed(v.completed())
+                .language(v.language())
+                .timezone(v.timezone())
+                .birthDate(v.birthDate())
+                .age(MemberProfile.ageOf(v.birthDate()))
+                .country(v.country())
+                .region(v.region())
+                .build();
+    }
+}
@@ -21,7 +21,10 @@ import java.util.Set;
 @Entity
 @Table(
         name = "members",
-        indexes = @Index(name = "idx_member_email", columnList = "email", unique = true)
+        indexes = {
+                @Index(name = "idx_member_email", columnList = "email", unique = true),
+                @Index(name = "idx_member_last_active", columnList = "last_active_at DESC, id DESC") // 회원 탐색 키셋
+        }
 )
 @Getter
 @Setter
@@ -57,6 +57,10 @@ public class MemberProfile extends BaseEntity {
     @Builder.Default
     private Set<MemberTag> interests = new HashSet<>();// 관심사
 
+    @Column(name = "interest_mask", nullable = false, columnDefinition = "bigint default 0 not null")
+    @Builder.Default
+    private long interestMask = 0L;                   // 관심사 비트마스크 (MemberTag.bit() 합, 탐색 검색용)
+
     /* ==================== 라이프스타일 & 로케일 ==================== */
 
     @Column(nullable = false)
@@ -143,6 +147,7 @@ public class MemberProfile extends BaseEntity {
         if (interests != null) {
             this.interests.clear();
             this.interests.addAll(interests);
+            this.interestMask = MemberTag.maskOf(this.interests);
         }
 
         /* ④ 로케일 */
@@ -155,6 +160,11 @@ public class MemberProfile extends BaseEntity {
 
     /** 현재 나이 (birthDate가 없으면 -1) */
     public int getAge() {
+        return ageOf(birthDate);
+    }
+
+    /** 생년월일 → 현재 나이 (null 이면 -1), 엔티티 없이 프로젝션에서도 같은 계산을 쓰도록 */
+    public static int ageOf(LocalDate birthDate) {
         return birthDate == null ? -1 :
                 Period.between(birthDate, LocalDate.now()).getYears();
     }
@@ -165,11 +175,26 @@ public class MemberProfile extends BaseEntity {
         this.avatarUrl = null;
         this.bio = null;
         this.interests.clear();
+        this.interestMask = 0L;
         this.birthDate = null;
         this.country = null;
         this.region  = null;
     }
 
+    /* ==================== 관심사 비트마스크 ==================== */
+
+    public void setInterests(Set<MemberTag> interests) {
+        this.interests = interests;
+        this.interestMask = MemberTag.maskOf(interests);
+    }
+
+    /** 빌더 등으로 interests 만 채운 경우에도 저장 시 마스크 동기화 */
+    @PrePersist
+    @PreUpdate
+    void syncInterestMask() {
+        this.interestMask = MemberTag.maskOf(this.interests);
+    }
+
     /* ==================== 로케일 유효성 ==================== */
 
     public void setLanguage(String language) {
@@ -4,6 +4,10 @@ package org.example.howareyou.domain.member.entity;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum MemberTag {
     LANGUAGE_LEARNING,
     TRAVEL,
@@ -35,6 +39,26 @@ public enum MemberTag {
         return this.name();
     }
 
+    /**
+     * 관심사 비트마스크(member_profiles.interest_mask)의 비트 = 1 << ordinal
+     * 저장값이 순서에 의존하므로 새 태그는 맨 뒤에만 추가 (64개까지)
+     */
+    public long bit() {
+        return 1L << ordinal();
+    }
+
+    public static long maskOf(Collection<MemberTag> tags) {
+        long mask = 0L;
+        if (tags != null) for (MemberTag t : tags) mask |= t.bit();
+        return mask;
+    }
+
+    public static Set<MemberTag> fromMask(long mask) {
+        Set<MemberTag> tags = EnumSet.noneOf(MemberTag.class);
+        for (MemberTag t : values()) if ((mask & t.bit()) != 0) tags.add(t);
+        return tags;
+    }
+
     @JsonCreator
     public static MemberTag fromValue(String value) {
         try {
@@ -0,0 +1,27 @@
+package org.example.howareyou.domain.member.event;
+
+import org.example.howareyou.domain.member.dto.response.MemberMatchRow;
+import org.example.howareyou.domain.member.entity.Member;
+import org.example.howareyou.domain.member.entity.MemberProfile;
+import org.example.howareyou.domain.member.entity.MemberTag;
+
+/**
+ * 매칭 대상 회원의 프로필/상태가 바뀌었을 때 발행 (커밋 후 매칭 인덱스에 반영)
+ * row 가 null 이면 탐색 대상에서 제외
+ */
+public record MemberMatchChangedEvent(Long memberId, MemberMatchRow row) {
+
+    /** 현재 엔티티 상태 기준 (비활성·membername 없음·프로필 없음이면 제외) */
+    public static MemberMatchChangedEvent of(Member member) {
+        MemberProfile p = member.getProfile();
+        if (!member.isActive() || member.getMembername() == null || p == null) {
+            return removed(member.getId());
+        }
+        return new MemberMatchChangedEvent(member.getId(), new MemberMatchRow(member.getId(),
+                MemberTag.maskOf(p.getInterests()), p.getLanguage(), p.getCountry(), p.getBirthDate()));
+    }
+
+    public static MemberMatchChangedEvent removed(Long memberId) {
+        return new MemberMatchChangedEvent(memberId, null);
+    }
+}
@@ -5,6 +5,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.member.entity.Member;
 import org.example.howareyou.domain.member.repository.MemberRepository;
+import org.example.howareyou.global.redis.MaintenanceProgress;
+import org.example.howareyou.global.redis.RedisMaintenance;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
@@ -13,7 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
-import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * 멤버 캐싱 서비스
@@ -33,9 +35,12 @@ public class MemberCacheService {
 
     private static final String PREFIX = "member:";
     private static final Duration TTL = Duration.ofMinutes(5); // 짧은 TTL
+    private static final String SCAN_PATTERN = PREFIX + "[0-9]*";
+    private static final Pattern CACHE_KEY = Pattern.compile("member:\\d+");
 
     private final RedisTemplate<String, Object> redis;
     private final MemberRepository memberRepo;
+    private final RedisMaintenance redisMaintenance;
     private ValueOperations<String, Object> ops;
 
     @PostConstruct
@@ -238,53 +243,21 @@ public class MemberCacheService {
 
     /**
      * 모든 멤버 캐시 삭제 (마이그레이션 시 사용)
+     * SCAN + 배치 UNLINK, member:{id} 키만 대상 (member:vector:* 등 다른 member: 키는 건드리지 않음)
      */
-    public void clearAllCache() {
-        try {
-            Set<String> keys = redis.keys(PREFIX + "*");
-            if (keys != null && !keys.isEmpty()) {
-                redis.delete(keys);
-                log.info("모든 멤버 캐시 삭제 완료: {} 개", keys.size());
-            }
-        } catch (Exception e) {
-            log.error("캐시 전체 삭제 중 오류 발생", e);
-        }
+    public MaintenanceProgress clearAllCache() {
+        return redisMaintenance.unlink("member-cache-clear", SCAN_PATTERN, MemberCacheService::isCacheKey);
     }
 
     /**
      * 캐시 마이그레이션 (기존 LinkedHashMap 캐시를 새로운 형식으로 변환)
+     * SCAN + 배치 MGET → MemberCache 가 아니거나 읽을 수 없는 캐시만 배치 UNLINK
      */
-    public void migrateCache() {
-        try {
-            Set<String> keys = redis.keys(PREFIX + "*");
-            if (keys != null && !keys.isEmpty()) {
-                int migratedCount = 0;
-                int deletedCount = 0;
-                
-                for (String key : keys) {
-                    try {
-                        Object cached = ops.get(key);
-                        if (cached != null && !(cached instanceof MemberCache)) {
-                            // LinkedHashMap 등으로 저장된 기존 캐시 삭제
-                            redis.delete(key);
-                            deletedCount++;
-                            log.debug("기존 캐시 삭제: {}", key);
-                        } else if (cached instanceof MemberCache) {
-                            migratedCount++;
-                        }
-                    } catch (Exception e) {
-                        // 오류 발생 시 해당 키 삭제
-                        redis.delete(key);
-                        deletedCount++;
-                        log.debug("오류로 인한 캐시 삭제: {} - {}", key, e.getMessage());
-                    }
-                }
-                
-                log.info("캐시 마이그레이션 완료: 유지 {} 개, 삭제 {} 개", migratedCount, deletedCount);
-            }
-        } catch (Exception e) {
-            log.error("캐시 마이그레이션 중 오류 발생", e);
-        }
+    public MaintenanceProgress migrateCache() {
+        MaintenanceProgress result = redisMaintenance.sweep("member-cache-migrate", redis, SCAN_PATTERN,
+                MemberCacheService::isCacheKey, (key, cached) -> !(cached instanceof MemberCache));
+        log.info("캐시 마이그레이션 완료: 유지 {} 개, 삭제 {} 개", result.matched() - result.unlinked(), result.unlinked());
+        return result;
     }
 
     /**
@@ -307,4 +280,8 @@ public class MemberCacheService {
     private String key(Long memberId) {
         return PREFIX + memberId;
     }
+
+    private static boolean isCacheKey(String key) {
+        return CACHE_KEY.matcher(key).matches();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,187 @@
+package org.example.howareyou.domain.member.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ✅ 접속(presence) 인덱스 - Redis Sorted Set, score = 마지막 활동 시각(epoch ms)
+ *
+ *  presence:last-seen          전체 회원 (member → lastSeen)
+ *  presence:node:{nodeId}      이 노드가 처리한 회원 (노드별 접속자 수 용)
+ *  presence:nodes              노드 목록 (nodeId → 마지막 heartbeat)
+ *
+ *  - 갱신: JWT 인증 필터 / SSE 연결·heartbeat 에서 ZADD (O(log n)), 같은 회원은 write-interval 안에 한 번만 기록
+ *  - 조회: "지금 온라인"(online-window 이내) / "최근 활동" 범위 조회, 개수, 여러 회원 점수 한 번에(ZMSCORE)
+ *  - 정리: 1분마다 보존 기간이 지난 항목 ZREMRANGEBYSCORE
+ *  - KEYS 없이 목록/개수 조회 가능
+ */
+@Slf4j
+@Service
+public class PresenceService {
+
+    private static final String LAST_SEEN_KEY = "presence:last-seen";
+    private static final String NODE_PREFIX = "presence:node:";
+    private static final String NODES_KEY = "presence:nodes";
+
+    private final RedisTemplate<String, String> redis;
+    private final String nodeId;
+    private final Duration onlineWindow;
+    private final Duration retention;
+    private final long writeIntervalMs;
+    private final Map<Long, Long> lastWritten = new ConcurrentHashMap<>();
+
+    public PresenceService(RedisTemplate<String, String> redis,
+                           @Value("${presence.node-id:${HOSTNAME:}}") String nodeId,
+                           @Value("${presence.online-window-seconds:300}") long onlineWindowSeconds,
+                           @Value("${presence.retention-days:30}") long retentionDays,
+                           @Value("${presence.write-interval-seconds:15}") long writeIntervalSeconds) {
+        this.redis = redis;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : nodeId;
+        this.onlineWindow = Duration.ofSeconds(onlineWindowSeconds);
+        this.retention = Duration.ofDays(retentionDays);
+        this.writeIntervalMs = writeIntervalSeconds * 1000;
+    }
+
+    /** 활동 기록 (같은 회원은 write-interval 안에 한 번만 Redis 에 씀) */
+    public void seen(Long memberId) {
+        if (memberId == null) return;
+        long now = System.currentTimeMillis();
+        Long previous = lastWritten.get(memberId);
+        if (previous != null && now - previous < writeIntervalMs) return;
+        lastWritten.put(memberId, now);
+
+        byte[] member = memberId.toString().getBytes(StandardCharsets.UTF_8);
+        byte[] global = LAST_SEEN_KEY.getBytes(StandardCharsets.UTF_8);
+        byte[] node = (NODE_PREFIX + nodeId).getBytes(StandardCharsets.UTF_8);
+        try {
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                connection.zSetCommands().zAdd(global, now, member);
+                connection.zSetCommands().zAdd(node, now, member);
+                return null;
+            });
+        } catch (Exception e) {
+            lastWritten.remove(memberId);
+            log.warn("⚠️ presence 기록 실패 - memberId={}: {}", memberId, e.getMessage());
+        }
+    }
+
+    public boolean isOnline(Long memberId) {
+        Double score = redis.opsForZSet().score(LAST_SEEN_KEY, memberId.toString());
+        return score != null && score >= onlineSince();
+    }
+
+    /** 마지막 활동 시각(epoch ms), 기록이 없으면 null — 여러 회원 한 번에 (ZMSCORE) */
+    public Map<Long, Long> lastSeen(Collection<Long> memberIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (memberIds.isEmpty()) return result;
+        List<Long> ids = new ArrayList<>(memberIds);
+        List<Double> scores = redis.opsForZSet().score(LAST_SEEN_KEY, ids.stream().map(String::valueOf).toArray());
+        for (int i = 0; scores != null && i < ids.size(); i++) {
+            if (scores.get(i) != null) result.put(ids.get(i), scores.get(i).longValue());
+        }
+        return result;
+    }
+
+    /** 지금 온라인인 회원 (최근 활동순, offset/limit) */
+    public List<Long> onlineMembers(long offset, long limit) {
+        return range(onlineSince(), offset, limit);
+    }
+
+    /** 지정 기간 안에 활동한 회원 (최근 활동순, offset/limit) */
+    public List<Long> recentlyActive(Duration within, long offset, long limit) {
+        return range(System.currentTimeMillis() - within.toMillis(), offset, limit);
+    }
+
+    /** 지금 온라인인 회원 전체 (매칭 인덱스 온라인 비트맵용) */
+    public List<Long> onlineMemberIds() {
+        return toIds(redis.opsForZSet().rangeByScore(LAST_SEEN_KEY, onlineSince(), Double.POSITIVE_INFINITY));
+    }
+
+    public long countOnline() {
+        Long count = redis.opsForZSet().count(LAST_SEEN_KEY, onlineSince(), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    /** 노드별 온라인 회원 수 (최근 online-window 안에 살아 있던 노드만) */
+    public Map<String, Long> countOnlineByNode() {
+        double since = onlineSince();
+        Set<String> nodes = redis.opsForZSet().rangeByScore(NODES_KEY, since, Double.POSITIVE_INFINITY);
+        Map<String, Long> counts = new TreeMap<>();
+        if (nodes == null) return counts;
+        for (String node : nodes) {
+            Long count = redis.opsForZSet().count(NODE_PREFIX + node, since, Double.POSITIVE_INFINITY);
+            counts.put(node, count == null ? 0 : count);
+        }
+        return counts;
+    }
+
+    /**
+     * 온라인 회원을 앞으로 (각 그룹 안의 기존 순서는 유지) — 매칭/추천 결과 정렬용
+     */
+    public <T> List<T> onlineFirst(List<T> items, Function<T, Long> idOf) {
+        if (items.size() < 2) return items;
+        Map<Long, Long> seen;
+        try {
+            seen = lastSeen(items.stream().map(idOf).toList());
+        } catch (Exception e) {
+            log.warn("⚠️ presence 조회 실패 → 원래 순서 유지: {}", e.getMessage());
+            return items;
+        }
+        double since = onlineSince();
+        List<T> online = new ArrayList<>(items.size());
+        List<T> offline = new ArrayList<>();
+        for (T item : items) {
+            Long at = seen.get(idOf.apply(item));
+            (at != null && at >= since ? online : offline).add(item);
+        }
+        online.addAll(offline);
+        return online;
+    }
+
+    /** 노드 heartbeat + 오래된 항목 정리 */
+    @Scheduled(fixedDelay = 60_000)
+    public void maintain() {
+        long now = System.currentTimeMillis();
+        try {
+            redis.opsForZSet().add(NODES_KEY, nodeId, now);
+            redis.opsForZSet().removeRangeByScore(LAST_SEEN_KEY, Double.NEGATIVE_INFINITY, now - retention.toMillis());
+            redis.opsForZSet().removeRangeByScore(NODE_PREFIX + nodeId, Double.NEGATIVE_INFINITY, onlineSince());
+            redis.expire(NODE_PREFIX + nodeId, onlineWindow.multipliedBy(2)); // 내려간 노드의 집합은 만료
+            redis.opsForZSet().removeRangeByScore(NODES_KEY, Double.NEGATIVE_INFINITY, now - retention.toMillis());
+        } catch (Exception e) {
+            log.warn("⚠️ presence 정리 실패: {}", e.getMessage());
+        }
+        lastWritten.values().removeIf(at -> now - at >= writeIntervalMs);
+    }
+
+    private List<Long> range(double since, long offset, long limit) {
+        return toIds(redis.opsForZSet().reverseRangeByScore(LAST_SEEN_KEY, since, Double.POSITIVE_INFINITY, offset, limit));
+    }
+
+    private double onlineSince() {
+        return System.currentTimeMillis() - onlineWindow.toMillis();
+    }
+
+    private static List<Long> toIds(Set<String> members) {
+        if (members == null || members.isEmpty()) return List.of();
+        List<Long> ids = new ArrayList<>(members.size());
+        for (String m : members) {
+            try {
+                ids.add(Long.parseLong(m));
+            } catch (NumberFormatException ignored) {
+                // 잘못 들어간 값은 건너뜀
+            }
+        }
+        return ids;
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.howareyou.domain.member.repository;
 
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryView;
+import org.example.howareyou.domain.member.dto.response.MemberMatchRow;
 import org.example.howareyou.domain.member.dto.response.MemberProfileViewForVoca;
 import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.member.entity.Member;
@@ -11,6 +13,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -119,4 +123,160 @@ HAVING
     """)
     Page<MemberProfileViewForVoca> findAllActiveProfilesForVoca(Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * 활성 회원의 타임존 목록 (타임존별 회원 수 포함) — 단어장 배치가 "지금 05시인 타임존"만 고를 때 사용
+     */
+    @Query("""
+        select p.timezone as timezone, count(m) as members
+        from Member m
+        join m.profile p
+        where m.active = true
+        group by p.timezone
+    """)
+    List<TimezoneCount> countActiveMembersByTimezone();
+
+    interface TimezoneCount {
+        String getTimezone();
+        Long getMembers();
+    }
+
+    /**
+     * 지정 타임존들의 활성 회원을 id 키셋으로 페이지 조회 (afterId 보다 큰 id 부터 pageable.size 개)
+     */
+    @Query("""
+        select new org.example.howareyou.domain.member.dto.response.MemberProfileViewForVoca(
+            m.id,
+            m.membername,
+            p.language,
+            p.timezone
+        )
+        from Member m
+        join m.profile p
+        where m.active = true
+          and p.timezone in :timezones
+          and m.id > :afterId
+        order by m.id
+    """)
+    List<MemberProfileViewForVoca> findActiveProfilesForVocaByTimezones(@Param("timezones") Collection<String> timezones,
+                                                                        @Param("afterId") Long afterId,
+                                                                        Pageable pageable);
+
+    /**
+     * 회원 탐색: 관심사를 모두 포함(interest_mask & :mask = :mask)하는 활성 회원 id 를
+     * (last_active_at desc, id desc) 키셋으로 limit 개 조회 (mask = 0 이면 관심사 조건 없음)
+     * 최근 활동 인덱스를 따라 읽다가 limit 개가 차면 멈춤 → 회원 수와 무관
+     */
+    default List<Long> findDiscoverableIds(Long requesterId, long mask, Instant afterActiveAt, long afterId, int limit) {
+        return findDiscoverableIds(requesterId, mask, null, null, null, null, afterActiveAt, afterId, limit);
+    }
+
+    /**
+     * 회원 탐색 + 선택 조건 (null = 조건 없음)
+     *  - language / country : 대소문자 무시 일치
+     *  - bornOnOrBefore / bornOnOrAfter : 나이 조건을 생년월일 범위로 바꾼 값 (생년월일 없는 회원은 제외)
+     * 조건을 SQL 에서 걸어야 LIMIT 이 조건에 맞는 회원 기준으로 채워짐
+     */
+    @Query(value = """
+SELECT m.id
+  FROM members m
+  JOIN member_profiles p ON p.member_id = m.id
+ WHERE m.active = true
+   AND m.membername IS NOT NULL
+   AND m.last_active_at IS NOT NULL
+   AND m.id <> :requesterId
+   AND (p.interest_mask & :mask) = :mask
+   AND (CAST(:language AS varchar) IS NULL OR lower(p.language) = lower(CAST(:language AS varchar)))
+   AND (CAST(:country AS varchar) IS NULL OR upper(p.country) = upper(CAST(:country AS varchar)))
+   AND (CAST(:bornOnOrBefore AS date) IS NULL OR p.birth_date <= CAST(:bornOnOrBefore AS date))
+   AND (CAST(:bornOnOrAfter AS date) IS NULL OR p.birth_date >= CAST(:bornOnOrAfter AS date))
+   AND (m.last_active_at, m.id) < (:afterActiveAt, :afterId)
+ ORDER BY m.last_active_at DESC, m.id DESC
+ LIMIT :limit
+""", nativeQuery = true)
+    List<Long> findDiscoverableIds(@Param("requesterId") Long requesterId,
+                                   @Param("mask") long mask,
+                                   @Param("language") String language,
+                                   @Param("country") String country,
+                                   @Param("bornOnOrBefore") LocalDate bornOnOrBefore,
+                                   @Param("bornOnOrAfter") LocalDate bornOnOrAfter,
+                                   @Param("afterActiveAt") Instant afterActiveAt,
+                                   @Param("afterId") long afterId,
+                                   @Param("limit") int limit);
+
+    /**
+     * 같은 관심사 회원: 관심사 중 하나라도 겹치는(interest_mask & :mask <> 0) 활성 회원 id 를
+     * 최근 활동순(last_active_at desc, id desc)으로 limit 개 조회 (매칭 인덱스 적재 전 폴백용)
+     */
+    @Query(value = """
+SELECT m.id
+  FROM members m
+  JOIN member_profiles p ON p.member_id = m.id
+ WHERE m.active = true
+   AND m.membername IS NOT NULL
+   AND m.last_active_at IS NOT NULL
+   AND m.id <> :requesterId
+   AND (p.interest_mask & :mask) <> 0
+ ORDER BY m.last_active_at DESC, m.id DESC
+ LIMIT :limit
+""", nativeQuery = true)
+    List<Long> findIdsWithAnyInterest(@Param("requesterId") Long requesterId,
+                                      @Param("mask") long mask,
+                                      @Param("limit") int limit);
+
+    /**
+     * 회원 탐색 결과 프로젝션 (엔티티/관심사 컬렉션 로딩 없이 한 번에)
+     */
+    @Query("""
+        select new org.example.howareyou.domain.member.dto.response.MemberDiscoveryView(
+            m.id,
+            m.membername,
+            p.nickname,
+            p.avatarUrl,
+            p.bio,
+            p.interestMask,
+            p.completed,
+            p.language,
+            p.timezone,
+            p.birthDate,
+            p.country,
+            p.region,
+            m.lastActiveAt
+        )
+        from Member m
+        join m.profile p
+        where m.id in :ids
+    """)
+    List<MemberDiscoveryView> findDiscoveryViewsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 매칭 인덱스 적재: 탐색 대상 회원(활성, membername 설정)을 id 키셋으로 페이지 조회
+     */
+    @Query("""
+        select new org.example.howareyou.domain.member.dto.response.MemberMatchRow(
+            m.id,
+            p.interestMask,
+            p.language,
+            p.country,
+            p.birthDate
+        )
+        from Member m
+        join m.profile p
+        where m.active = true
+          and m.membername is not null
+          and m.id > :afterId
+        order by m.id
+    """)
+    List<MemberMatchRow> findMatchRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * id 목록 → (id, membername) 일괄 조회 (추천 이웃 목록 등 여러 회원 이름이 한 번에 필요한 곳용)
+     */
+    @Query("select m.id as id, m.membername as membername from Member m where m.id in :ids")
+    List<IdMembername> findMembernamesByIds(@Param("ids") Collection<Long> ids);
+
+    interface IdMembername {
+        Long getId();
+        String getMembername();
+    }
+
+}
@@ -0,0 +1,371 @@
+package org.example.howareyou.domain.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.member.dto.request.MatchQuery;
+import org.example.howareyou.domain.member.dto.response.MemberMatchRow;
+import org.example.howareyou.domain.member.entity.MemberTag;
+import org.example.howareyou.domain.member.event.MemberMatchChangedEvent;
+import org.example.howareyou.domain.member.redis.PresenceService;
+import org.example.howareyou.domain.member.repository.MemberRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ✅ 회원 매칭 인메모리 인덱스 (비트맵)
+ *  - 회원마다 슬롯 번호를 주고, 관심사(MemberTag)·언어·국가·온라인 여부별로 슬롯 BitSet 을 유지
+ *  - 필터 조회 = 비트맵 AND/OR → 나이 조건만 남은 후보를 순회하며 확인 (DB 조회 없음)
+ *  - 결과는 온라인 회원 먼저
+ *  - 시작 시와 주기적으로(member.match.rebuild-interval-ms) Postgres 에서 id 키셋 페이지로 재적재
+ *  - 프로필 수정/계정 삭제는 MemberMatchChangedEvent 로 받아 트랜잭션 커밋 후에만 증분 반영 (롤백되면 반영 안 됨)
+ *  - 재적재 중 들어온 증분은 따로 모아 두었다가 새 구조로 교체한 직후 다시 적용 (적재 스냅샷이 덮어쓰지 않도록)
+ *  - 온라인 비트맵은 접속 인덱스(PresenceService)의 지금 온라인인 회원으로 주기적 교체
+ *
+ * 여러 인스턴스는 각자 인덱스를 가지므로 다른 인스턴스의 프로필 수정은 다음 주기 재적재 때 반영
+ */
+@Slf4j
+@Component
+public class MemberMatchIndex {
+
+    private static final int PAGE_SIZE = 5000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int NO_BIRTH = Integer.MIN_VALUE;
+
+    private final MemberRepository memberRepository;
+    private final PresenceService presenceService;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<Long, Integer> slots = new HashMap<>();
+    private Deque<Integer> freeSlots = new ArrayDeque<>();
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private long[] masks = new long[INITIAL_CAPACITY];
+    private String[] languages = new String[INITIAL_CAPACITY];
+    private String[] countries = new String[INITIAL_CAPACITY];
+    private int[] birthDays = new int[INITIAL_CAPACITY];       // LocalDate.toEpochDay(), 없으면 NO_BIRTH
+    private int highWater;                                      // 한 번이라도 쓰인 슬롯 수
+
+    private BitSet members = new BitSet();                      // 사용 중인 슬롯
+    private BitSet[] byTag = newTagBitmaps();
+    private Map<String, BitSet> byLanguage = new HashMap<>();
+    private Map<String, BitSet> byCountry = new HashMap<>();
+    private BitSet online = new BitSet();
+    private Map<Long, MemberMatchRow> pendingDuringRebuild;     // 재적재 중 증분 (값 null = 제거), 평소에는 null
+    private volatile boolean ready;
+
+    public MemberMatchIndex(MemberRepository memberRepository, PresenceService presenceService) {
+        this.memberRepository = memberRepository;
+        this.presenceService = presenceService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 회원 매칭 인덱스 초기화 실패 - DB 조회로 대체", e);
+        }
+    }
+
+    /** 다른 인스턴스의 수정·누락된 증분을 맞추기 위한 주기 재적재 */
+    @Scheduled(initialDelayString = "${member.match.rebuild-interval-ms:600000}",
+            fixedDelayString = "${member.match.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("⚠️ 회원 매칭 인덱스 주기 재적재 실패 - 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    /** 트랜잭션 커밋 후 증분 반영 (트랜잭션 밖에서 발행되면 바로 반영) */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberMatchChanged(MemberMatchChangedEvent event) {
+        if (event.row() == null) remove(event.memberId());
+        else put(event.row());
+    }
+
+    /** 적재가 끝났는지 (끝나기 전에는 호출 측이 DB 조회로 대체) */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Postgres 에서 전체 다시 적재 (새 구조를 만든 뒤 한 번에 교체, 동시에 하나만) */
+    public synchronized void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        int replayed;
+        MemberMatchIndex fresh = new MemberMatchIndex(memberRepository, presenceService);
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<MemberMatchRow> rows = memberRepository.findMatchRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                if (rows.isEmpty()) break;
+                rows.forEach(fresh::put);
+                afterId = rows.get(rows.size() - 1).memberId();
+                if (rows.size() < PAGE_SIZE) break;
+            }
+            fresh.online = fresh.toSlots(onlineMemberIds());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;             // 기존 인덱스에는 이미 반영됨
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Map<Long, MemberMatchRow> pending = pendingDuringRebuild;
+            pendingDuringRebuild = null;
+            slots = fresh.slots;
+            freeSlots = fresh.freeSlots;
+            ids = fresh.ids;
+            masks = fresh.masks;
+            languages = fresh.languages;
+            countries = fresh.countries;
+            birthDays = fresh.birthDays;
+            highWater = fresh.highWater;
+            members = fresh.members;
+            byTag = fresh.byTag;
+            byLanguage = fresh.byLanguage;
+            byCountry = fresh.byCountry;
+            online = fresh.online;
+            // 적재 스냅샷보다 나중일 수 있는 증분을 새 구조에 다시 적용
+            pending.forEach((memberId, row) -> {
+                if (row == null) removeLocked(memberId);
+                else putLocked(row);
+            });
+            replayed = pending.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+        log.info("✅ 회원 매칭 인덱스 적재 - {}명 (재적재 중 증분 {}건), {}ms",
+                fresh.slots.size(), replayed, System.currentTimeMillis() - startedAt);
+    }
+
+    public void put(MemberMatchRow row) {
+        lock.writeLock().lock();
+        try {
+            putLocked(row);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.put(row.memberId(), row);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long memberId) {
+        if (memberId == null) return;
+        lock.writeLock().lock();
+        try {
+            removeLocked(memberId);
+            if (pendingDuringRebuild != null) pendingDuringRebuild.put(memberId, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putLocked(MemberMatchRow row) {
+        Integer slot = slots.get(row.memberId());
+        if (slot == null) {
+            slot = freeSlots.isEmpty() ? highWater++ : freeSlots.poll();
+            ensureCapacity(slot + 1);
+            slots.put(row.memberId(), slot);
+            ids[slot] = row.memberId();
+            members.set(slot);
+        } else {
+            clearAttributes(slot);
+        }
+        masks[slot] = row.interestMask();
+        languages[slot] = normalize(row.language(), false);
+        countries[slot] = normalize(row.country(), true);
+        birthDays[slot] = row.birthDate() == null ? NO_BIRTH : (int) row.birthDate().toEpochDay();
+
+        for (MemberTag tag : MemberTag.fromMask(masks[slot])) byTag[tag.ordinal()].set(slot);
+        if (languages[slot] != null) byLanguage.computeIfAbsent(languages[slot], k -> new BitSet()).set(slot);
+        if (countries[slot] != null) byCountry.computeIfAbsent(countries[slot], k -> new BitSet()).set(slot);
+    }
+
+    private void removeLocked(Long memberId) {
+        Integer slot = slots.remove(memberId);
+        if (slot == null) return;
+        clearAttributes(slot);
+        members.clear(slot);
+        online.clear(slot);
+        freeSlots.push(slot);
+    }
+
+    /** 온라인 비트맵 교체 */
+    @Scheduled(fixedDelayString = "${member.match.online-refresh-ms:30000}")
+    public void refreshOnline() {
+        if (!ready) return;
+        try {
+            List<Long> active = presenceService.onlineMemberIds();
+            lock.writeLock().lock();
+            try {
+                online = toSlots(active);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 매칭 인덱스 온라인 비트맵 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 조건에 맞는 회원 id (excludeId 제외, 온라인 회원 먼저, 최대 limit 명)
+     */
+    public List<Long> match(MatchQuery q, Long excludeId, int limit) {
+        if (limit <= 0) return List.of();
+        int minBirth = Integer.MIN_VALUE, maxBirth = Integer.MAX_VALUE;
+        LocalDate today = LocalDate.now();
+        if (q.minAge() != null) maxBirth = (int) today.minusYears(q.minAge()).toEpochDay();
+        if (q.maxAge() != null) minBirth = (int) today.minusYears(q.maxAge() + 1L).plusDays(1).toEpochDay();
+        boolean ageFilter = q.minAge() != null || q.maxAge() != null;
+
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) members.clone();
+            if (q.allInterests() != null) {
+                for (MemberTag tag : q.allInterests()) result.and(byTag[tag.ordinal()]);
+            }
+            if (q.anyInterests() != null && !q.anyInterests().isEmpty()) {
+                BitSet any = new BitSet();
+                for (MemberTag tag : q.anyInterests()) any.or(byTag[tag.ordinal()]);
+                result.and(any);
+            }
+            if (!andAttribute(result, byLanguage, normalize(q.language(), false))) return List.of();
+            if (!andAttribute(result, byCountry, normalize(q.country(), true))) return List.of();
+            if (q.onlineOnly()) result.and(online);
+            Integer self = excludeId == null ? null : slots.get(excludeId);
+            if (self != null) result.clear(self);
+
+            List<Long> out = new ArrayList<>(Math.min(limit, result.cardinality()));
+            BitSet onlineFirst = (BitSet) result.clone();
+            onlineFirst.and(online);
+            collect(onlineFirst, ageFilter, minBirth, maxBirth, limit, out);
+            if (out.size() < limit && !q.onlineOnly()) {
+                result.andNot(online);
+                collect(result, ageFilter, minBirth, maxBirth, limit, out);
+            }
+            return out;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 해당 회원이 온라인 비트맵에 있는지 */
+    public boolean isOnline(Long memberId) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(memberId);
+            return slot != null && online.get(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> onlineMemberIds() {
+        try {
+            return presenceService.onlineMemberIds();
+        } catch (Exception e) {
+            log.warn("⚠️ 온라인 회원 조회 실패 → 온라인 비트맵 비움: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void collect(BitSet bits, boolean ageFilter, int minBirth, int maxBirth, int limit, List<Long> out) {
+        for (int slot = bits.nextSetBit(0); slot >= 0 && out.size() < limit; slot = bits.nextSetBit(slot + 1)) {
+            if (ageFilter) {
+                int birth = birthDays[slot];
+                if (birth == NO_BIRTH || birth < minBirth || birth > maxBirth) continue;
+            }
+            out.add(ids[slot]);
+        }
+    }
+
+    /** value 가 있으면 해당 비트맵과 AND, 해당 값을 가진 회원이 없으면 false */
+    private static boolean andAttribute(BitSet result, Map<String, BitSet> index, String value) {
+        if (value == null) return true;
+        BitSet bits = index.get(value);
+        if (bits == null) return false;
+        result.and(bits);
+        return true;
+    }
+
+    private void clearAttributes(int slot) {
+        for (MemberTag tag : MemberTag.fromMask(masks[slot])) byTag[tag.ordinal()].clear(slot);
+        clearFrom(byLanguage, languages[slot], slot);
+        clearFrom(byCountry, countries[slot], slot);
+        masks[slot] = 0L;
+        languages[slot] = null;
+        countries[slot] = null;
+        birthDays[slot] = NO_BIRTH;
+    }
+
+    private static void clearFrom(Map<String, BitSet> index, String value, int slot) {
+        if (value == null) return;
+        BitSet bits = index.get(value);
+        if (bits == null) return;
+        bits.clear(slot);
+        if (bits.isEmpty()) index.remove(value);
+    }
+
+    private BitSet toSlots(Collection<Long> memberIds) {
+        BitSet bits = new BitSet(highWater);
+        for (Long id : memberIds) {
+            Integer slot = slots.get(id);
+            if (slot != null) bits.set(slot);
+        }
+        return bits;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= ids.length) return;
+        int capacity = Math.max(ids.length << 1, needed);
+        ids = Arrays.copyOf(ids, capacity);
+        masks = Arrays.copyOf(masks, capacity);
+        languages = Arrays.copyOf(languages, capacity);
+        countries = Arrays.copyOf(countries, capacity);
+        int from = birthDays.length;
+        birthDays = Arrays.copyOf(birthDays, capacity);
+        Arrays.fill(birthDays, from, capacity, NO_BIRTH);
+    }
+
+    private static String normalize(String value, boolean upper) {
+        if (value == null || value.isBlank()) return null;
+        String v = value.trim();
+        return upper ? v.toUpperCase(Locale.ENGLISH) : v.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static BitSet[] newTagBitmaps() {
+        BitSet[] bitmaps = new BitSet[MemberTag.values().length];
+        for (int i = 0; i < bitmaps.length; i++) bitmaps[i] = new BitSet();
+        return bitmaps;
+    }
+}
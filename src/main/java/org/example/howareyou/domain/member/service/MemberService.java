@@ -4,15 +4,21 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.example.howareyou.domain.member.dto.request.FilterRequest;
 import org.example.howareyou.domain.member.dto.request.MembernameRequest;
 import org.example.howareyou.domain.member.dto.request.ProfileCreateRequest;
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryPage;
 import org.example.howareyou.domain.member.dto.response.MemberProfileViewForVoca;
 import org.example.howareyou.domain.member.dto.response.MembernameResponse;
 import org.example.howareyou.domain.member.dto.response.ProfileResponse;
 import org.example.howareyou.domain.member.dto.response.MemberStatusResponse;
+import org.example.howareyou.domain.member.dto.response.PresenceStatsResponse;
 import org.example.howareyou.domain.member.entity.Member;
 import org.example.howareyou.domain.member.entity.MemberProfile;
+import org.example.howareyou.domain.member.entity.MemberTag;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface MemberService {
@@ -36,15 +42,38 @@ public interface MemberService {
     void deleteAccount(Long id);
 
     List<ProfileResponse> findOthersWithSameCategories(Long requesterId);
+
+    /**
+     * 조건(관심사 모두 포함 + 언어/국가/나이/온라인)에 맞는 다른 회원, 최대 200명
+     *  - 대상: 활성 회원 중 membername 을 설정한 회원 (탈퇴/가입 미완료 회원 제외), 요청자 본인 제외
+     *  - 관심사 조건이 비어 있으면 관심사 무관 (이전처럼 전체 회원을 반환하지 않음)
+     *  - 매칭 인덱스 적재 후: 온라인 회원 먼저
+     *  - 적재 전(DB 조회): 한 번이라도 활동한(last_active_at 있음) 회원만 최근 활동순, 온라인 조건은 무시
+     */
     List<ProfileResponse> findOthersWithFilter(FilterRequest filterRequest,Long requesterId);
 
+    /**
+     * 회원 탐색 (관심사 모두 포함, 최근 활동순 커서 페이지, 페이지당 최대 100명)
+     *  - 대상: 활성 + membername 설정 + 한 번이라도 활동한(last_active_at 있음) 회원, 요청자 본인 제외
+     */
+    MemberDiscoveryPage discoverMembers(Long requesterId, Set<MemberTag> interests, String cursor, int size);
+
     /* get member */
     Member getMemberById(Long id);
     Member getMemberByMembername(String membername);
 
     /* 단어장 생성용 프로필 조회*/
     List<MemberProfileViewForVoca> findAllActiveProfilesForVoca();
+    List<String> findActiveTimezones();
+    List<MemberProfileViewForVoca> findActiveProfilesForVoca(Collection<String> timezones, long afterId, int limit);
 
     /* 대시보드용 메서드 */
     String findMembernameById(Long memberId);
+
+    /* 추천용: id → membername 일괄 조회 (없는 회원/이름 미설정은 제외) */
+    Map<Long, String> findMembernamesByIds(Collection<Long> memberIds);
+
+    /* 접속(presence) 조회 */
+    List<String> findOnlineMembernames(int limit);
+    PresenceStatsResponse getPresenceStats();
 }
\ No newline at end of file
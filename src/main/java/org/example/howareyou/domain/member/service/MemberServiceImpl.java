@@ -4,18 +4,25 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.member.dto.request.DiscoveryCursor;
 import org.example.howareyou.domain.member.dto.request.FilterRequest;
+import org.example.howareyou.domain.member.dto.request.MatchQuery;
 import org.example.howareyou.domain.member.dto.request.MembernameRequest;
 import org.example.howareyou.domain.member.dto.request.ProfileCreateRequest;
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryPage;
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryView;
 import org.example.howareyou.domain.member.dto.response.MemberProfileViewForVoca;
 import org.example.howareyou.domain.member.dto.response.MemberStatusResponse;
+import org.example.howareyou.domain.member.dto.response.PresenceStatsResponse;
 import org.example.howareyou.domain.member.dto.response.MembernameResponse;
 import org.example.howareyou.domain.member.dto.response.ProfileResponse;
 import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.member.entity.Member;
 import org.example.howareyou.domain.member.entity.MemberProfile;
+import org.example.howareyou.domain.member.event.MemberMatchChangedEvent;
 import org.example.howareyou.domain.member.redis.MemberCache;
 import org.example.howareyou.domain.member.redis.MemberCacheService;
+import org.example.howareyou.domain.member.redis.PresenceService;
 import org.example.howareyou.domain.member.repository.MemberRepository;
 import org.example.howareyou.domain.auth.repository.AuthRepository;
 import org.example.howareyou.domain.auth.entity.Auth;
@@ -24,16 +31,21 @@ import org.example.howareyou.global.util.CookieUtils;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
 import org.example.howareyou.domain.recommendationtag.service.RecommendationTagService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.Duration;
 
-import java.util.HashSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 
 @Service
@@ -47,6 +59,13 @@ public class MemberServiceImpl implements MemberService {
     private final AuthRepository authRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final RecommendationTagService recommendationTagService;
+    private final MemberMatchIndex memberMatchIndex;
+    private final PresenceService presenceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int MAX_DISCOVERY_SIZE = 100;   // 탐색 페이지 최대 크기
+    private static final int FILTER_LIMIT = 200;         // 필터 조회(비페이지) 최대 인원
+    private static final Instant DISCOVERY_START = Instant.parse("9999-12-31T23:59:59Z"); // 첫 페이지 커서
 
     /* ---------- 프로필 ---------- */
 
@@ -76,6 +95,7 @@ public class MemberServiceImpl implements MemberService {
 
         if (!p.isCompleted()) p.completeProfile();
         memberCacheService.cache(m);       // 캐시 동기화
+        eventPublisher.publishEvent(MemberMatchChangedEvent.of(m));   // 커밋 후 매칭 인덱스 반영
 
         // 프로필 관심사 기반 자동 태깅 생성
         try {
@@ -108,6 +128,7 @@ public class MemberServiceImpl implements MemberService {
         Member m = memberRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
         m.setMembername(req.membername());
+        eventPublisher.publishEvent(MemberMatchChangedEvent.of(m));   // membername 이 생기면 매칭 대상 (커밋 후)
         
         // 멤버네임만 설정하고 토큰은 건드리지 않음
         // Access Token은 Auth ID 기반, Refresh Token은 UUID 기반으로 유지
@@ -184,6 +205,7 @@ public class MemberServiceImpl implements MemberService {
         Member m = fetchMember(id);
         m.deleteAccount();
         memberCacheService.delete(id);
+        eventPublisher.publishEvent(MemberMatchChangedEvent.removed(id));
     }
 
     /* ---------- Related Users (같은 카테고리 사용자) ---------- */
@@ -199,35 +221,88 @@ public class MemberServiceImpl implements MemberService {
 
         // 예: 관심사(카테고리)를 기준으로 다른 사용자 찾기
         Set<MemberTag> interests = myProfile.getInterests(); //
-        List<ProfileResponse> members =   memberRepository.findDistinctByProfileInterestsInAndIdNot(interests, requesterId)
-                .stream()
-                .map(ProfileResponse::from)
-                .toList();
-        return members;
+        if (interests.isEmpty()) return List.of();
+        if (memberMatchIndex.isReady()) {
+            List<Long> ids = memberMatchIndex.match(MatchQuery.anyOf(interests), requesterId, FILTER_LIMIT);
+            return loadDiscoveryViews(ids).stream().map(ProfileResponse::from).toList();
+        }
+
+        // 인덱스 적재 전: 관심사가 하나라도 겹치는 활성 회원, 최근 활동순 상위 FILTER_LIMIT 명 (인덱스 경로와 같은 상한)
+        List<Long> ids = memberRepository.findIdsWithAnyInterest(requesterId, MemberTag.maskOf(interests), FILTER_LIMIT);
+        return loadDiscoveryViews(ids).stream().map(ProfileResponse::from).toList();
     }
     /* ---------- Filter로 사용자 찾기 ---------- */
     @Override
-    @Transactional
     public List<ProfileResponse> findOthersWithFilter(FilterRequest filter,Long requesterId){
-        Set<MemberTag> interestsEnums = new HashSet<>(filter.getInterests());
-        Set<String> interests = interestsEnums.stream()
-                .map(Enum::name)
-                .collect(Collectors.toSet());
-        if (interests.isEmpty()) {
-            // 관심사 필터가 비어있으면, requester만 제외하고 전부 리턴
-            return memberRepository.findAll()
-                    .stream()
-                    .map(ProfileResponse::from)
-                    .toList();
-
+        // 매칭 인덱스(비트맵)로 조회, 온라인 회원 먼저 최대 FILTER_LIMIT 명
+        if (memberMatchIndex.isReady()) {
+            MatchQuery query = new MatchQuery(filter.getInterests(), null, filter.getLanguage(), filter.getCountry(),
+                    filter.getMinAge(), filter.getMaxAge(), filter.isOnlineOnly());
+            List<Long> ids = memberMatchIndex.match(query, requesterId, FILTER_LIMIT);
+            return loadDiscoveryViews(ids).stream().map(ProfileResponse::from).toList();
         }
-        List<Member> members =  memberRepository.findByInterestsContainingAll(interests, requesterId, interests.size());
-        return members.stream()
+
+        // 인덱스 적재 전: 관심사를 모두 포함하고 언어/국가/나이 조건에 맞는 활성 회원, 최근 활동순 상위 FILTER_LIMIT 명
+        // (조건은 SQL 에서 걸어 LIMIT 이 조건에 맞는 회원으로 채워지게, 온라인 조건은 무시)
+        LocalDate today = LocalDate.now();
+        LocalDate bornOnOrBefore = filter.getMinAge() == null ? null : today.minusYears(filter.getMinAge());
+        LocalDate bornOnOrAfter = filter.getMaxAge() == null ? null : today.minusYears(filter.getMaxAge() + 1L).plusDays(1);
+        List<Long> ids = memberRepository.findDiscoverableIds(requesterId, MemberTag.maskOf(filter.getInterests()),
+                blankToNull(filter.getLanguage()), blankToNull(filter.getCountry()), bornOnOrBefore, bornOnOrAfter,
+                DISCOVERY_START, Long.MAX_VALUE, FILTER_LIMIT);
+        return loadDiscoveryViews(ids).stream()
                 .map(ProfileResponse::from)
                 //.filter(MemberProfile::isCompleted) 나중에 주석해제 테스트 단계에서는 무시해도 됌
                 .toList();
     }
 
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /* ---------- 회원 탐색 (관심사 비트마스크 + 최근 활동순 키셋) ---------- */
+    @Override
+    public MemberDiscoveryPage discoverMembers(Long requesterId, Set<MemberTag> interests, String cursor, int size) {
+        int safeSize = Math.min(Math.max(1, size), MAX_DISCOVERY_SIZE);
+        DiscoveryCursor after = DiscoveryCursor.decode(cursor);
+
+        // 한 개 더 읽어서 다음 페이지 존재 여부 판단
+        List<Long> ids = memberRepository.findDiscoverableIds(
+                requesterId,
+                MemberTag.maskOf(interests),
+                after == null ? DISCOVERY_START : after.lastActiveAt(),
+                after == null ? Long.MAX_VALUE : after.memberId(),
+                safeSize + 1);
+        boolean hasNext = ids.size() > safeSize;
+        if (hasNext) {
+            ids = ids.subList(0, safeSize);
+        }
+
+        List<MemberDiscoveryView> views = loadDiscoveryViews(ids);
+        String nextCursor = null;
+        if (hasNext && !views.isEmpty()) {
+            MemberDiscoveryView last = views.get(views.size() - 1);
+            nextCursor = new DiscoveryCursor(last.lastActiveAt(), last.memberId()).encode();
+        }
+
+        return MemberDiscoveryPage.builder()
+                .content(views.stream().map(ProfileResponse::from).toList())
+                .size(safeSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /** id 순서(최근 활동순) 그대로 프로젝션 조회 */
+    private List<MemberDiscoveryView> loadDiscoveryViews(List<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        Map<Long, MemberDiscoveryView> byId = new HashMap<>(ids.size() * 2);
+        for (MemberDiscoveryView v : memberRepository.findDiscoveryViewsByIds(ids)) {
+            byId.put(v.memberId(), v);
+        }
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     @Override
     public Member getMemberById(Long id) {
         return fetchMember(id);
@@ -275,6 +350,20 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findAllActiveProfilesForVoca();
     }
 
+    @Override
+    public List<String> findActiveTimezones() {
+        return memberRepository.countActiveMembersByTimezone().stream()
+                .map(MemberRepository.TimezoneCount::getTimezone)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<MemberProfileViewForVoca> findActiveProfilesForVoca(Collection<String> timezones, long afterId, int limit) {
+        if (timezones.isEmpty()) return List.of();
+        return memberRepository.findActiveProfilesForVocaByTimezones(timezones, afterId, PageRequest.of(0, limit));
+    }
+
     /* 대시보드용 메서드 */
 
     @Override
@@ -287,4 +376,26 @@ public class MemberServiceImpl implements MemberService {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    public Map<Long, String> findMembernamesByIds(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) return Map.of();
+        Map<Long, String> names = new HashMap<>(memberIds.size() * 2);
+        for (MemberRepository.IdMembername row : memberRepository.findMembernamesByIds(memberIds)) {
+            if (row.getMembername() != null) names.put(row.getId(), row.getMembername());
+        }
+        return names;
+    }
+
+    @Override
+    public List<String> findOnlineMembernames(int limit) {
+        List<Long> ids = presenceService.onlineMembers(0, Math.min(Math.max(limit, 1), MAX_DISCOVERY_SIZE));
+        Map<Long, String> names = findMembernamesByIds(ids);
+        return ids.stream().map(names::get).filter(Objects::nonNull).toList(); // 최근 활동순 유지
+    }
+
+    @Override
+    public PresenceStatsResponse getPresenceStats() {
+        return new PresenceStatsResponse(presenceService.countOnline(), presenceService.countOnlineByNode());
+    }
+}
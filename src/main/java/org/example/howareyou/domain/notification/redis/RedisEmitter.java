@@ -3,6 +3,7 @@ package org.example.howareyou.domain.notification.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.member.redis.PresenceService;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -17,6 +18,7 @@ import java.util.concurrent.ConcurrentMap;
 @Slf4j
 public class RedisEmitter {
     private final RedisTemplate<String, String> redis;
+    private final PresenceService presenceService;
     private final ConcurrentMap<Long, SseEmitter> local = new ConcurrentHashMap<>();
     private static final long TIMEOUT = 1000L * 60 * 60 * 6; // 6h
 
@@ -61,6 +63,7 @@ public class RedisEmitter {
     public void touch(Long memberId) {
         redis.opsForValue().set("sse:online:" + memberId, "1",
                 Duration.ofMinutes(2)); // heartbeat 주기의 2배 정도
+        presenceService.seen(memberId);
     }
 
     public boolean isOnline(Long memberId) {
@@ -0,0 +1,83 @@
+package org.example.howareyou.domain.quiz.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * quiz_result / quiz_word ID 시퀀스 전환
+ * IDENTITY → 시퀀스(50개 선할당)로 바꾸면서
+ *  1) 컬럼의 identity 를 없애고 기본값을 새 시퀀스 nextval 로 변경
+ *     → 롤링 배포 중 이전 버전 노드(IDENTITY: id 없이 insert)도 같은 시퀀스에서 값을 받음 (롤백해도 동일)
+ *     pooled 블록은 (V-49 ~ V) 이고 기본값 insert 는 V 하나만 쓰므로, 서로 다른 nextval 끼리 겹치지 않음
+ *  2) 시퀀스가 기존 최대 ID 보다 뒤처져 있으면 그 뒤로 이동
+ * 테이블마다 한 트랜잭션: ALTER 가 잡은 락이 커밋까지 유지되어 전환 도중 다른 노드의 insert 가 끼어들지 않음
+ * (이미 전환/정렬된 상태면 아무것도 하지 않으므로 켜 두어도 안전)
+ *
+ * 트래픽 전에 실행: 모든 싱글톤 생성 직후(SmartInitializingSingleton)
+ *  - EntityManagerFactory 초기화(ddl 로 시퀀스 생성)는 끝난 뒤
+ *  - 웹 서버/Kafka 리스너/@Scheduled 시작(컨텍스트 refresh 마지막 단계) 보다 앞 → 정렬 전 insert 가 없음
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migration.quiz-id-sequence.enabled", havingValue = "true")
+public class QuizIdSequenceMigrationConfig implements SmartInitializingSingleton {
+
+    private static final int ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize 와 동일
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        migrate();
+    }
+
+    public void migrate() {
+        migrate("quiz_result_seq", "quiz_result", "quiz_result_id");
+        migrate("quiz_word_seq", "quiz_word", "quiz_word_id");
+    }
+
+    private void migrate(String sequence, String table, String idColumn) {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (!defaultsToSequence(sequence, table, idColumn)) {
+                    jdbcTemplate.execute("alter table %s alter column %s drop identity if exists".formatted(table, idColumn));
+                    jdbcTemplate.execute("alter table %s alter column %s set default nextval('%s')"
+                            .formatted(table, idColumn, sequence));
+                    jdbcTemplate.execute("alter sequence %s owned by %s.%s".formatted(sequence, table, idColumn));
+                    log.info("✅ {}.{} 기본값 → {} (identity 제거)", table, idColumn, sequence);
+                }
+                align(sequence, table, idColumn);
+            });
+        } catch (Exception e) {
+            log.error("❌ {} 시퀀스 전환 실패", sequence, e);
+        }
+    }
+
+    private boolean defaultsToSequence(String sequence, String table, String idColumn) {
+        String columnDefault = jdbcTemplate.query("""
+                select column_default from information_schema.columns
+                 where table_schema = current_schema() and table_name = ? and column_name = ?
+                """, rs -> rs.next() ? rs.getString(1) : null, table, idColumn);
+        return columnDefault != null && columnDefault.contains("'" + sequence + "'");
+    }
+
+    private void align(String sequence, String table, String idColumn) {
+        // pooled 옵티마이저: nextval 값 V 는 (V-49 ~ V) 블록 → 다음 nextval 이 max+50 이 되도록 설정
+        Long moved = jdbcTemplate.query("""
+                select setval('%1$s', (select max(%3$s) from %2$s) + %4$d, false)
+                 where (select max(%3$s) from %2$s) > (select last_value from %1$s)
+                """.formatted(sequence, table, idColumn, ALLOCATION_SIZE),
+                rs -> rs.next() ? rs.getLong(1) : null);
+        if (moved != null) {
+            log.info("✅ {} 시퀀스 정렬 완료 → 다음 값 {}", sequence, moved);
+        }
+    }
+}
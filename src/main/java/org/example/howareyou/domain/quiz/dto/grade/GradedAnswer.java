@@ -0,0 +1,10 @@
+package org.example.howareyou.domain.quiz.dto.grade;
+
+/**
+ * 문항별 채점 결과 (일괄 반영용)
+ * @param quizWordId quiz_word_id
+ * @param userAnswer 사용자 선택 1~4 (미선택은 -1 또는 null)
+ * @param correct    정답 여부
+ */
+public record GradedAnswer(Long quizWordId, Integer userAnswer, boolean correct) {
+}
@@ -13,6 +13,10 @@ public class QuizWordGrade {
     private final String choice2;
     private final String choice3;
     private final String choice4;
+    // 오답노트용
+    private final String word;
+    private final String meaning;
+    private final String pos;
 
     // 현재 유효한 보기개수 (널값무시)
     public int choiceSize() {
@@ -15,7 +15,8 @@ import java.util.UUID;
 public class QuizResult {
 
     @Id // 퀴즈ID
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_result_seq_gen")
+    @SequenceGenerator(name = "quiz_result_seq_gen", sequenceName = "quiz_result_seq", allocationSize = 50) // 50개 단위 선할당 → 배치 insert 가능
     @Column(name = "quiz_result_id")
     private Long id;
 
@@ -14,7 +14,8 @@ import java.time.Instant;
 public class QuizWord {
 
     @Id // 퀴즈 단어 id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "quiz_word_seq_gen")
+    @SequenceGenerator(name = "quiz_word_seq_gen", sequenceName = "quiz_word_seq", allocationSize = 50) // 50개 단위 선할당 → 배치 insert 가능
     @Column(name = "quiz_word_id")
     private Long id;
 
@@ -0,0 +1,15 @@
+package org.example.howareyou.domain.quiz.event;
+
+import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 퀴즈 채점 완료 시 발행 (커밋 이후 대시보드 스냅샷 증분 반영용)
+ */
+public record QuizGradedEvent(Long memberId,
+                              String quizUuid,
+                              Instant completedAt,
+                              int score,
+                              List<WrongAnswerResponse> wrongAnswers) {}
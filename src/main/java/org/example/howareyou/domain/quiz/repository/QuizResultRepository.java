@@ -1,5 +1,6 @@
 package org.example.howareyou.domain.quiz.repository;
 
+import jakarta.persistence.LockModeType;
 import org.example.howareyou.domain.quiz.dto.response.QuizResponse;
 import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
 import org.example.howareyou.domain.quiz.entity.QuizResult;
@@ -8,6 +9,7 @@ import org.example.howareyou.domain.quiz.entity.QuizType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -24,15 +26,16 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
     /* UUID와 멤버 ID로 퀴즈 조회 */
     Optional<QuizResult> findByUuidAndMemberId(String uuid, Long memberId);
 
-    /* UUID 로 퀴즈 완료여부 조회*/
+    /* 채점용 단건조회 - 행 잠금(select ... for update)으로 같은 퀴즈의 동시 제출을 직렬화 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("""
-        select qr.completed
+        select qr
           from QuizResult qr
          where qr.uuid = :uuid
     """)
-    Optional<Boolean> findCompletedQuizByUuid(@Param("uuid") String uuid);
+    Optional<QuizResult> findByUuidForGrading(@Param("uuid") String uuid);
 
-    /* 퀴즈 채점결과 및 상태변경 (quizStatus PENDING -> SUBMIT)*/
+    /* 퀴즈 채점결과 및 상태변경 (quizStatus PENDING -> SUBMIT), 이미 완료된 퀴즈면 0 반환 */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("""
     update QuizResult qr
@@ -43,6 +46,7 @@ public interface QuizResultRepository extends JpaRepository<QuizResult, Long> {
            qr.completedAt    = :completedAt,
            qr.quizStatus     = :quizStatus
      where qr.uuid = :uuid
+       and (qr.completed is null or qr.completed = false)
 """)
     int finalizeGradingByUuid(@Param("uuid") String uuid,
                               @Param("correct") long correct,
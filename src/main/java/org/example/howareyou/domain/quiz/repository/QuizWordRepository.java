@@ -3,7 +3,6 @@ package org.example.howareyou.domain.quiz.repository;
 import org.example.howareyou.domain.quiz.dto.grade.QuizWordGrade;
 import org.example.howareyou.domain.quiz.entity.QuizWord;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.*;
 import java.util.List;
@@ -11,12 +10,13 @@ import java.util.List;
 /**
  * 채점
  * */
-public interface QuizWordRepository extends JpaRepository<QuizWord, Long> {
+public interface QuizWordRepository extends JpaRepository<QuizWord, Long>, QuizWordRepositoryCustom {
 
-    /* 채점용 조회(보기-정답만)*/
+    /* 채점용 조회(보기-정답 + 오답노트용 단어)*/
     @Query("""
         select new org.example.howareyou.domain.quiz.dto.grade.QuizWordGrade(
-            w.id, w.correctAnswer, w.choice1, w.choice2, w.choice3, w.choice4
+            w.id, w.correctAnswer, w.choice1, w.choice2, w.choice3, w.choice4,
+            w.word, w.meaning, w.pos
         )
           from QuizWord w
          where w.quizResult.id = :quizResultId
@@ -24,18 +24,6 @@ public interface QuizWordRepository extends JpaRepository<QuizWord, Long> {
     """)
     List<QuizWordGrade> findForGrading(@Param("quizResultId") Long quizResultId);
 
-    /* 채점결과 반영 user answer 1~4, 미선택 null*/
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("""
-        update QuizWord qw
-           set qw.userAnswer = :userAnswer,
-               qw.isCorrect  = :isCorrect
-         where qw.id = :id
-    """)
-    int applyGrading(@Param("id") Long id,
-                     @Param("userAnswer") Integer userAnswer,
-                     @Param("isCorrect") Boolean isCorrect);
-
     /* 퀴즈 결과 ID로 퀴즈 단어 조회 (새로운 메서드) */
     List<QuizWord> findByQuizResultId(Long quizResultId);
 
@@ -0,0 +1,14 @@
+package org.example.howareyou.domain.quiz.repository;
+
+import org.example.howareyou.domain.quiz.dto.grade.GradedAnswer;
+
+import java.util.List;
+
+public interface QuizWordRepositoryCustom {
+
+    /**
+     * 채점 결과 일괄 반영 — 문항 수와 상관없이 JDBC batch 1회로 전송
+     * (호출 트랜잭션의 커넥션을 그대로 사용)
+     */
+    void applyGradingBatch(List<GradedAnswer> answers);
+}
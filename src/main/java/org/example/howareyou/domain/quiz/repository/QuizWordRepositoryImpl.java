@@ -0,0 +1,30 @@
+package org.example.howareyou.domain.quiz.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.howareyou.domain.quiz.dto.grade.GradedAnswer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class QuizWordRepositoryImpl implements QuizWordRepositoryCustom {
+
+    private static final String APPLY_GRADING_SQL =
+            "update quiz_word set user_answer = ?, is_correct = ? where quiz_word_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyGradingBatch(List<GradedAnswer> answers) {
+        if (answers.isEmpty()) return;
+        jdbcTemplate.batchUpdate(APPLY_GRADING_SQL, answers, answers.size(), (ps, a) -> {
+            if (a.userAnswer() == null) ps.setNull(1, Types.INTEGER);
+            else ps.setInt(1, a.userAnswer());
+            ps.setBoolean(2, a.correct());
+            ps.setLong(3, a.quizWordId());
+        });
+    }
+}
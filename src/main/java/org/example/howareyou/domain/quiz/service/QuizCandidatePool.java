@@ -0,0 +1,81 @@
+package org.example.howareyou.domain.quiz.service;
+
+import org.example.howareyou.domain.quiz.entity.QuizLevel;
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
+
+import java.util.*;
+
+/**
+ * 사용자별 퀴즈 후보 풀 (불변)
+ *  - 최신순 사용자 단어를 word 기준 중복 제거해 (word, meaning, level, pos) 병렬 배열로 보관
+ *  - 레벨별 인덱스, 보기용 뜻(중복 제거) 배열을 미리 계산 → 퀴즈 시작 시 전체 정렬/셔플 없이 인덱스 샘플링
+ */
+public final class QuizCandidatePool {
+
+    private final String[] words;
+    private final String[] meanings;
+    private final String[] levels;
+    private final String[] poss;
+    private final String[] distinctMeanings;
+    private final Map<QuizLevel, int[]> indicesByLevel;
+
+    private QuizCandidatePool(String[] words, String[] meanings, String[] levels, String[] poss) {
+        this.words = words;
+        this.meanings = meanings;
+        this.levels = levels;
+        this.poss = poss;
+
+        Set<String> meaningSet = new LinkedHashSet<>();
+        Map<QuizLevel, List<Integer>> byLevel = new EnumMap<>(QuizLevel.class);
+        for (int i = 0; i < words.length; i++) {
+            if (meanings[i] != null && !meanings[i].isBlank()) meaningSet.add(meanings[i]);
+            QuizLevel level = QuizLevel.from(levels[i]);
+            if (level != null) byLevel.computeIfAbsent(level, k -> new ArrayList<>()).add(i);
+        }
+        this.distinctMeanings = meaningSet.toArray(String[]::new);
+
+        Map<QuizLevel, int[]> idx = new EnumMap<>(QuizLevel.class);
+        byLevel.forEach((level, list) -> idx.put(level, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.indicesByLevel = idx;
+    }
+
+    /** 최신순 사용자 단어 목록으로 생성 (같은 word 는 가장 최신 항목만) */
+    public static QuizCandidatePool of(List<MemberWord> latestFirst) {
+        Set<String> seen = new HashSet<>();
+        List<MemberWord> unique = new ArrayList<>(latestFirst.size());
+        for (MemberWord w : latestFirst) {
+            if (seen.add(w.getWord() == null ? "" : w.getWord())) unique.add(w);
+        }
+
+        int n = unique.size();
+        String[] words = new String[n], meanings = new String[n], levels = new String[n], poss = new String[n];
+        for (int i = 0; i < n; i++) {
+            MemberWord w = unique.get(i);
+            words[i] = w.getWord();
+            meanings[i] = w.getMeaning();
+            levels[i] = w.getLevel() == null ? "" : w.getLevel();
+            poss[i] = w.getPos() == null ? "" : w.getPos();
+        }
+        return new QuizCandidatePool(words, meanings, levels, poss);
+    }
+
+    /** 레벨 조건에 맞는 후보 수 (level == null 이면 전체) */
+    public int count(QuizLevel level) {
+        if (level == null) return words.length;
+        int[] idx = indicesByLevel.get(level);
+        return idx == null ? 0 : idx.length;
+    }
+
+    /** 레벨 조건에 맞는 후보 중 k 번째 항목의 풀 인덱스 */
+    public int indexOf(QuizLevel level, int k) {
+        return level == null ? k : indicesByLevel.get(level)[k];
+    }
+
+    public String word(int i) { return words[i]; }
+    public String meaning(int i) { return meanings[i]; }
+    public String level(int i) { return levels[i]; }
+    public String pos(int i) { return poss[i]; }
+
+    /** 보기 후보(중복 없는 뜻) */
+    public String[] distinctMeanings() { return distinctMeanings; }
+}
@@ -0,0 +1,50 @@
+package org.example.howareyou.domain.quiz.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.event.MemberVocabularyUpdatedEvent;
+import org.example.howareyou.domain.vocabulary.repository.MemberWordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * ✅ 사용자별 퀴즈 후보 풀 캐시 (로컬 Caffeine)
+ *  - 미스 시 member_word 최신순 maxWords 개를 인덱스 범위 스캔으로 읽어 풀 생성
+ *  - 사용자 단어장 재생성(MemberVocabularyUpdatedEvent) 시 무효화
+ *  - 다른 인스턴스에서 생성된 경우를 위해 TTL 로 한 번 더 제한
+ */
+@Slf4j
+@Component
+public class QuizCandidatePoolCache {
+
+    private final MemberWordRepository memberWordRepository;
+    private final int maxWords;
+    private final Cache<String, QuizCandidatePool> pools;
+
+    public QuizCandidatePoolCache(MemberWordRepository memberWordRepository,
+                                  @Value("${quiz.pool.max-words:1000}") int maxWords,
+                                  @Value("${quiz.pool.max-members:10000}") long maxMembers,
+                                  @Value("${quiz.pool.ttl-minutes:30}") long ttlMinutes) {
+        this.memberWordRepository = memberWordRepository;
+        this.maxWords = maxWords;
+        this.pools = Caffeine.newBuilder()
+                .maximumSize(maxMembers)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public QuizCandidatePool get(String membername) {
+        return pools.get(membername, m -> QuizCandidatePool.of(
+                memberWordRepository.findLatest(m, null, null, null, 0, maxWords)));
+    }
+
+    @EventListener
+    public void onVocabularyUpdated(MemberVocabularyUpdatedEvent event) {
+        pools.invalidate(event.membername());
+        log.debug("퀴즈 후보 풀 무효화: {}", event.membername());
+    }
+}
@@ -8,27 +8,19 @@ import org.example.howareyou.domain.quiz.dto.ClientStartResponse;
 import org.example.howareyou.domain.quiz.dto.QuizQuestion;
 import org.example.howareyou.domain.quiz.entity.*;
 import org.example.howareyou.domain.quiz.repository.QuizResultRepository;
-import org.example.howareyou.domain.quiz.repository.QuizVocaRepository;
 import org.example.howareyou.domain.quiz.repository.QuizWordRepository;
 import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
-import org.example.howareyou.domain.quiz.dto.VocaDTO;
-import org.example.howareyou.domain.vocabulary.repository.MemberVocabularyRepository;
 import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -36,14 +28,14 @@ import java.util.stream.Collectors;
 @Slf4j
 public class QuizGeneratorServiceImpl implements QuizGeneratorService {
 
-    private static final SecureRandom RND = new SecureRandom();
+    private static final int DISTRACTOR_ATTEMPTS = 32;
 
     private final MemberService memberService;
     private final MemberVocaBookService vocaBookService;
     private final QuizResultRepository quizResultRepository;
     private final QuizWordRepository quizWordRepository;
-    private final QuizVocaRepository quizVocaRepository;
-    private final MemberVocabularyRepository memberVocabularyRepository;
+    private final QuizCandidatePoolCache candidatePoolCache;
+    private final QuizRandomFactory randomFactory;
 
     /* ====================== 공개 API ====================== */
 
@@ -52,47 +44,29 @@ public class QuizGeneratorServiceImpl implements QuizGeneratorService {
     public ClientStartResponse startRandomQuiz(String membername, QuizLevel quizLevel) {
         Long memberId = memberService.getIdByMembername(membername);
 
-        // 최신 유니크 단어 집계 1페이지 크게 가져오기
-        Page<VocaDTO> page =
-                findAllWordsPaged(membername, /*lang*/ null, /*pos*/ null, 0, 1000);
-
-        // 후보 집계 (언어 + 레벨 동시 필터)
-        Map<String, VocaDTO> byWord = page.getContent().stream()
-                .filter(w -> matchesLevel(quizLevel, w.getLevel()))
-                .collect(Collectors.toMap(
-                        e -> safe(e.getWord()),
-                        e -> e,
-                        (a, b) -> a // 중복 발생시 첫번째 항목 유지
-                ));
+        QuizRandom rnd = randomFactory.newQuiz();
+
+        // 사용자 후보 풀 (캐시, word 기준 중복 제거된 최신 단어)
+        QuizCandidatePool pool = candidatePoolCache.get(membername);
+
         // 문항수 체크
-        int unique = byWord.size();
+        int unique = pool.count(quizLevel);
         if (unique < 5) {
             throw new CustomException(ErrorCode.INSUFFICIENT_UNIQUE_WORDS_RANDOM);
         }
 
-        int count = pickQuestionCount(unique);
-
-        // 정답후보 목록 생성
-        List<Target> targets = byWord.values().stream()
-                .map(e -> new Target(
-                        e.getWord(),
-                        e.getMeaning(),
-                        nullToEmpty(e.getLevel()),
-                        nullToEmpty(e.getPos())
-                ))
-                .collect(Collectors.toCollection(ArrayList::new));
-        Collections.shuffle(targets, RND);
-        targets = targets.subList(0, count);
+        int count = pickQuestionCount(unique, rnd);
 
-        // 보기 풀(의미) 수집
-        Set<String> allPool = page.getContent().stream()
-
-                .map(VocaDTO::getMeaning)
-                .filter(this::nonBlank)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        // 정답후보: 레벨 후보 중 count 개만 인덱스 샘플링
+        List<Target> targets = new ArrayList<>(count);
+        for (int k : rnd.sampleDistinct(unique, count)) {
+            int i = pool.indexOf(quizLevel, k);
+            targets.add(new Target(pool.word(i), pool.meaning(i), pool.level(i), pool.pos(i)));
+        }
 
-        // 문항 생성
-        List<GeneratedItem> generated = buildQuestionsFromTargets(targets, null, allPool, QuizType.RANDOM);
+        // 문항 생성 (보기 풀 = 전체 후보의 뜻)
+        MeaningPool meanings = new MeaningPool(new String[0], pool.distinctMeanings());
+        List<GeneratedItem> generated = buildQuestionsFromTargets(targets, meanings, QuizType.RANDOM, rnd);
 
         QuizResult result = createAndPersistResult(memberId, QuizType.RANDOM, null, generated);
         return toClientStartResponse(result, generated);
@@ -109,44 +83,34 @@ public class QuizGeneratorServiceImpl implements QuizGeneratorService {
 
         if (page.isEmpty()) throw new CustomException(ErrorCode.DAILY_VOCAB_NOT_FOUND);
 
-        // 후보 집계 (언어 + 레벨 동시 필터)
-        Map<String, MemberVocabulary.MemberWordEntry> byWord = page.getContent().stream()
-                .collect(Collectors.toMap(
-                        MemberVocabulary.MemberWordEntry::getWord,
-                        w -> w,
-                        (a, b) -> a
-                ));
+        QuizRandom rnd = randomFactory.newQuiz();
+
+        // 후보 집계 (word 기준 중복 제거)
+        Map<String, MemberVocabulary.MemberWordEntry> byWord = new LinkedHashMap<>();
+        Set<String> dailyMeanings = new LinkedHashSet<>();
+        for (MemberVocabulary.MemberWordEntry w : page.getContent()) {
+            byWord.putIfAbsent(w.getWord(), w);
+            if (nonBlank(w.getMeaning())) dailyMeanings.add(w.getMeaning());
+        }
         // 문항수 체크
         int unique = byWord.size();
         if (unique < 5) throw new CustomException(ErrorCode.INSUFFICIENT_UNIQUE_WORDS_DAILY);
 
-        int count = pickQuestionCount(unique);
-        // 정답후보 목록 생성
-        List<Target> targets = byWord.values().stream()
-                .map(w -> new Target(
-                        w.getWord(),
-                        w.getMeaning(),
-                        nullToEmpty(w.getLevel()),
-                        nullToEmpty(w.getPos())
-                ))
-                .collect(Collectors.toCollection(ArrayList::new));
-        Collections.shuffle(targets, RND);
-        targets = targets.subList(0, count);
-
-        // 보기 풀
-        Set<String> dailyPool = page.getContent().stream()
-                .map(MemberVocabulary.MemberWordEntry::getMeaning)
-                .filter(this::nonBlank)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        // 전체 보기 풀(최신 유니크에서)
-        Page<VocaDTO> all = findAllWordsPaged(membername, null, null, 0, 1000);
-        Set<String> allPool = all.getContent().stream()
-                .map(VocaDTO::getMeaning)
-                .filter(this::nonBlank)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        int count = pickQuestionCount(unique, rnd);
+        // 정답후보: count 개만 인덱스 샘플링
+        List<MemberVocabulary.MemberWordEntry> entries = new ArrayList<>(byWord.values());
+        List<Target> targets = new ArrayList<>(count);
+        for (int i : rnd.sampleDistinct(unique, count)) {
+            MemberVocabulary.MemberWordEntry w = entries.get(i);
+            targets.add(new Target(w.getWord(), w.getMeaning(), nullToEmpty(w.getLevel()), nullToEmpty(w.getPos())));
+        }
+
+        // 보기 풀: 그날 단어의 뜻 + 전체 후보 풀(캐시)의 뜻
+        MeaningPool meanings = new MeaningPool(
+                dailyMeanings.toArray(String[]::new),
+                candidatePoolCache.get(membername).distinctMeanings());
         // 문항 생성
-        List<GeneratedItem> generated = buildQuestionsFromTargets(targets, dailyPool, allPool, QuizType.DAILY);
+        List<GeneratedItem> generated = buildQuestionsFromTargets(targets, meanings, QuizType.DAILY, rnd);
 
         Instant dailyKeyUtc = date.atStartOfDay(ZoneOffset.UTC).toInstant();
         QuizResult result = createAndPersistResult(memberId, QuizType.DAILY, dailyKeyUtc, generated);
@@ -161,30 +125,33 @@ public class QuizGeneratorServiceImpl implements QuizGeneratorService {
     /** 생성 결과 한 문항(클라이언트용 문항 + 메타(level,pos) 함께 보관) */
     private record GeneratedItem(QuizQuestion question, String level, String pos) {}
 
+    /** 보기 후보 뜻: 두 배열을 이어 붙인 것처럼 인덱스로 접근 (복사 없음) */
+    private record MeaningPool(String[] primary, String[] secondary) {
+        int size() { return primary.length + secondary.length; }
+        String get(int i) { return i < primary.length ? primary[i] : secondary[i - primary.length]; }
+
+        /** 서로 다른 뜻 집합 (후보가 적을 때만 사용) */
+        Set<String> distinct() {
+            Set<String> all = new LinkedHashSet<>(Arrays.asList(primary));
+            all.addAll(Arrays.asList(secondary));
+            all.removeIf(m -> m == null || m.isBlank());
+            return all;
+        }
+    }
+
     /** 4지선다 생성 */
     private List<GeneratedItem> buildQuestionsFromTargets(List<Target> targets,
-                                                          Set<String> dailyPoolOrNull,
-                                                          Set<String> allPool,
-                                                          QuizType mode) {
-        List<GeneratedItem> out = new ArrayList<>(targets.size());
+                                                          MeaningPool pool,
+                                                          QuizType mode,
+                                                          QuizRandom rnd) {
+        // 오답 후보가 충분한지 한 번만 판단 (전체 풀만으로 4개 이상이면 항상 충분)
+        Set<String> smallPool = pool.secondary().length >= 4 ? null : pool.distinct();
 
+        List<GeneratedItem> out = new ArrayList<>(targets.size());
         for (Target t : targets) {
             String answer = t.meaning();
-            List<String> choices = new ArrayList<>(4);
-            choices.add(answer);
-            // 보기후보 집합
-            List<String> candidates = new ArrayList<>();
-            if (dailyPoolOrNull != null) candidates.addAll(dailyPoolOrNull);
-            candidates.addAll(allPool);
-            // 중복제거
-            Set<String> used = new HashSet<>(choices);
-            List<String> filtered = candidates.stream()
-                    .filter(this::nonBlank)
-                    .filter(m -> !used.contains(m))
-                    .distinct()
-                    .collect(Collectors.toCollection(ArrayList::new));
             // 오답 3개이상
-            if (filtered.size() < 3) {
+            if (smallPool != null && smallPool.size() - (smallPool.contains(answer) ? 1 : 0) < 3) {
                 throw new CustomException(
                         mode == QuizType.DAILY
                                 ? ErrorCode.INSUFFICIENT_DISTRACTORS_DAILY
@@ -192,11 +159,10 @@ public class QuizGeneratorServiceImpl implements QuizGeneratorService {
                 );
             }
             // 보기 랜덤선택
-            Collections.shuffle(filtered, RND);
-            choices.add(filtered.get(0));
-            choices.add(filtered.get(1));
-            choices.add(filtered.get(2));
-            Collections.shuffle(choices, RND);
+            List<String> choices = new ArrayList<>(4);
+            choices.add(answer);
+            choices.addAll(pickDistractors(answer, pool, smallPool, rnd));
+            rnd.shuffle(choices);
 
             QuizQuestion qq = QuizQuestion.builder()
                     .question(t.word())
@@ -209,6 +175,26 @@ public class QuizGeneratorServiceImpl implements QuizGeneratorService {
         return out;
     }
 
+    /**
+     * 정답과 다른 뜻 3개를 인덱스 무작위 추출 (거절 샘플링, 기대 O(1))
+     * 후보가 적어 거절이 계속되면 남은 후보에서 직접 고름
+     */
+    private List<String> pickDistractors(String answer, MeaningPool pool, Set<String> smallPool, QuizRandom rnd) {
+        Set<String> picked = new LinkedHashSet<>(4);
+        for (int attempt = 0; attempt < DISTRACTOR_ATTEMPTS && picked.size() < 3; attempt++) {
+            String m = pool.get(rnd.nextInt(pool.size()));
+            if (nonBlank(m) && !m.equals(answer)) picked.add(m);
+        }
+        if (picked.size() < 3) {
+            List<String> rest = new ArrayList<>(smallPool != null ? smallPool : pool.distinct());
+            rest.remove(answer);
+            rest.removeAll(picked);
+            rnd.shuffle(rest);
+            for (int i = 0; picked.size() < 3; i++) picked.add(rest.get(i));
+        }
+        return new ArrayList<>(picked);
+    }
+
     /* ====================== 저장 & 응답 ====================== */
 
     private QuizResult createAndPersistResult(Long memberId,
@@ -289,45 +275,13 @@ public class QuizGeneratorServiceImpl implements QuizGeneratorService {
     /* ====================== 유틸 ====================== */
 
     private boolean nonBlank(String s) { return s != null && !s.isBlank(); }
-    private String safe(String s) { return s == null ? "" : s; }
     private String nullToEmpty(String s) { return s == null ? "" : s; }
 
-    /** 레벨 필터(quizLevel == null 이면 전체 허용) */
-    private boolean matchesLevel(QuizLevel ql, String levelRow) {
-        return ql == null || ql.match(levelRow);
-    }
-
     /** 문항수 조절 */
-    private int pickQuestionCount(int unique) {
+    private int pickQuestionCount(int unique, QuizRandom rnd) {
         int max = Math.min(30, unique);
         int min = Math.min(5, max); // unique < 5는 호출 전 예외 처리됨
-        return min + RND.nextInt(max - min + 1);
-    }
-    /* ---------------- quiz --------------------*/
-    //최신 단어들만 뽑아서 중복없이 전체 조회 - quiz 에서 사용
-    public Page<VocaDTO> findAllWordsPaged(String membername,
-                                           String lang,
-                                           String pos,
-                                           int page,
-                                           int size) {
-        int safePage = Math.max(page, 0);
-        int safeSize = Math.max(size, 1);
-
-        int skip = Math.max(page, 0) * Math.max(size, 1);
-
-        // items
-        List<VocaDTO> items =
-                quizVocaRepository.findWords(membername, lang, pos, skip, size);
-
-        // total
-        long total = 0L;
-        List<MemberVocabularyRepository.CountOnly> cnt =
-                memberVocabularyRepository.countLatestUniqueWords(membername, lang, pos);
-        if (cnt != null && !cnt.isEmpty() && cnt.get(0).getTotal() != null) {
-            total = cnt.get(0).getTotal();
-        }
-
-        return new PageImpl<>(items, PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "analyzedAt")), total);
+        return min + rnd.nextInt(max - min + 1);
     }
     //퀴즈레벨 변환메서드
     // 퀴즈레벨 변환메서드: a1/a2 -> A, b1/b2 -> B, c1/c2 -> C
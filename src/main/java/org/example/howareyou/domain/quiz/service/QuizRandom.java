@@ -0,0 +1,54 @@
+package org.example.howareyou.domain.quiz.service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 퀴즈 1회 생성에 쓰는 난수원 (요청 스레드 전용, 공유 금지)
+ *  - SplittableRandom 기반: 락/엔트로피 대기 없음, 같은 seed 면 같은 순서
+ *  - 암호학적 강도는 필요 없음 (문항/보기 순서 결정용)
+ */
+public final class QuizRandom {
+
+    private final SplittableRandom rnd;
+
+    QuizRandom(long seed) {
+        this.rnd = new SplittableRandom(seed);
+    }
+
+    /** [0, bound) */
+    public int nextInt(int bound) {
+        return rnd.nextInt(bound);
+    }
+
+    /** Fisher–Yates 제자리 셔플 */
+    public <T> void shuffle(List<T> list) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            T tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+
+    /**
+     * [0, n) 에서 서로 다른 k 개를 뽑음 (Floyd 알고리즘, O(k))
+     * 반환 순서도 무작위
+     */
+    public int[] sampleDistinct(int n, int k) {
+        Set<Integer> chosen = new LinkedHashSet<>(k * 2);
+        for (int j = n - k; j < n; j++) {
+            int t = rnd.nextInt(j + 1);
+            if (!chosen.add(t)) chosen.add(j);
+        }
+        int[] out = chosen.stream().mapToInt(Integer::intValue).toArray();
+        // Floyd 결과는 순서가 편향되므로 k 개만 섞음
+        for (int i = out.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int tmp = out[i]; out[i] = out[j]; out[j] = tmp;
+        }
+        return out;
+    }
+}
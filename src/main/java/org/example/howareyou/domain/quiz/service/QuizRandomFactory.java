@@ -0,0 +1,35 @@
+package org.example.howareyou.domain.quiz.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 퀴즈별 난수원 생성
+ *  - 기본: ThreadLocalRandom 으로 퀴즈마다 seed 를 뽑음 (스레드 간 경합 없음)
+ *  - quiz.random.seed 설정 시: 고정 master seed 에서 split → 실행 순서가 같으면 같은 문항/보기 순서 (테스트용)
+ *  - 퀴즈별 seed 는 저장하지 않음 → 이미 만든 퀴즈를 seed 로 다시 만들 수는 없음 (문항은 QuizResult 에 저장됨)
+ */
+@Component
+public class QuizRandomFactory {
+
+    private final SplittableRandom master;
+
+    public QuizRandomFactory(@Value("${quiz.random.seed:#{null}}") Long seed) {
+        this.master = seed == null ? null : new SplittableRandom(seed);
+    }
+
+    public QuizRandom newQuiz() {
+        long seed;
+        if (master == null) {
+            seed = ThreadLocalRandom.current().nextLong();
+        } else {
+            synchronized (master) {
+                seed = master.nextLong();
+            }
+        }
+        return new QuizRandom(seed);
+    }
+}
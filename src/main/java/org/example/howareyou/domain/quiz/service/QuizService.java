@@ -42,7 +42,7 @@ public interface QuizService {
      * @param memberId 사용자 ID
      * @param zoneId 타임존
      * @param period 조회 기간 (week/month)
-     * @return 연속 학습일
+     * @return 연속 학습일 (조회 실패는 예외로 전파, 기본값 처리는 호출 측)
      */
     @Transactional(readOnly = true)
     int calculateLearningStreak(Long memberId, ZoneId zoneId, String period);
@@ -53,7 +53,7 @@ public interface QuizService {
      * @param from 시작 날짜
      * @param to 종료 날짜
      * @param zoneId 타임존
-     * @return 복습 필요 날짜 수
+     * @return 복습 필요 날짜 수 (조회 실패는 예외로 전파)
      */
     @Transactional(readOnly = true)
     int countReviewNeededDays(Long memberId, LocalDate from, LocalDate to, ZoneId zoneId);
@@ -64,7 +64,7 @@ public interface QuizService {
      * @param fromUtc 시작 시간 (UTC)
      * @param toUtc 종료 시간 (UTC)
      * @param limit 조회 개수 제한
-     * @return 점수 시리즈
+     * @return 점수 시리즈 (조회 실패는 예외로 전파)
      */
     @Transactional(readOnly = true)
     List<ScorePoint> getScoreSeries(Long memberId, Instant fromUtc, Instant toUtc, Integer limit);
@@ -4,17 +4,20 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.quiz.dto.ClientQuizQuestion;
 import org.example.howareyou.domain.quiz.dto.ClientStartResponse;
+import org.example.howareyou.domain.quiz.dto.grade.GradedAnswer;
 import org.example.howareyou.domain.quiz.dto.response.QuizResultResponse;
 import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
 import org.example.howareyou.domain.quiz.dto.submit.SubmitResponse;
 import org.example.howareyou.domain.quiz.entity.QuizResult;
 import org.example.howareyou.domain.quiz.entity.QuizStatus;
 import org.example.howareyou.domain.quiz.entity.QuizWord;
+import org.example.howareyou.domain.quiz.event.QuizGradedEvent;
 import org.example.howareyou.domain.quiz.repository.QuizResultRepository;
 import org.example.howareyou.domain.quiz.repository.QuizWordRepository;
 import org.example.howareyou.domain.dashboard.dto.ScorePoint;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -37,6 +40,7 @@ public class QuizServiceImpl implements QuizService {
 
     private final QuizResultRepository quizResultRepository;
     private final QuizWordRepository quizWordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 퀴즈 채점 및 상태 업데이트
@@ -46,18 +50,13 @@ public class QuizServiceImpl implements QuizService {
      */
     @Override
     public SubmitResponse gradeQuiz(String quizUuid, List<Integer> selected) {
-        // 1) 제출 여부 확인 (uuid 기반)
-        boolean completed = quizResultRepository.findCompletedQuizByUuid(quizUuid)
+        // 1) 퀴즈 조회 + 행 잠금 → 같은 퀴즈의 동시 제출은 여기서 순서대로 대기
+        QuizResult quiz = quizResultRepository.findByUuidForGrading(quizUuid)
                 .orElseThrow(() -> new CustomException(ErrorCode.QUIZ_NOT_FOUND));
-        if (completed) throw new CustomException(ErrorCode.QUIZ_ALREADY_SUBMITTED);
+        if (Boolean.TRUE.equals(quiz.getCompleted())) throw new CustomException(ErrorCode.QUIZ_ALREADY_SUBMITTED);
 
-        // 2) 내부 PK(Long) 조회 (한 번만)
-        Long quizResultId = quizResultRepository.findByUuid(quizUuid)
-                .map(QuizResult::getId)
-                .orElseThrow(() -> new CustomException(ErrorCode.QUIZ_NOT_FOUND));
-
-        // 3) 채점용 문항 경량 조회 (id 기반)
-        var items = quizWordRepository.findForGrading(quizResultId);
+        // 2) 채점용 문항 경량 조회 (id 기반)
+        var items = quizWordRepository.findForGrading(quiz.getId());
 
         if (items.size() != selected.size()) {
             throw new CustomException(ErrorCode.INVALID_SELECTION_COUNT);
@@ -65,22 +64,27 @@ public class QuizServiceImpl implements QuizService {
 
         int correct = 0;
         final Instant now = Instant.now();
-        /* 채점 */
+        /* 채점 (메모리) */
+        List<GradedAnswer> answers = new ArrayList<>(items.size());
+        List<WrongAnswerResponse> wrongAnswers = new ArrayList<>();
         for (int i = 0; i < items.size(); i++) {
             var item = items.get(i);
             Integer sel = selected.get(i);
             boolean ok = (sel != null && sel > 0 && Objects.equals(sel, item.getCorrectAnswer()));
             if (ok) correct++;
-
-            quizWordRepository.applyGrading(item.getId(), sel, ok);
+            answers.add(new GradedAnswer(item.getId(), sel, ok));
+            if (!ok) wrongAnswers.add(new WrongAnswerResponse(item.getWord(), item.getMeaning(), item.getPos()));
         }
 
-        // 4) 점수 계산 및 상태 업데이트
+        // 3) 문항 채점 결과 일괄 반영 (JDBC batch 1회)
+        quizWordRepository.applyGradingBatch(answers);
+
+        // 4) 점수 계산 및 상태 업데이트 (완료되지 않은 경우에만 → 0 이면 롤백)
         int totalQuestions = items.size();
         int score = (int) Math.round((double) correct / totalQuestions * 100);
 
 
-        quizResultRepository.finalizeGradingByUuid(
+        int finalized = quizResultRepository.finalizeGradingByUuid(
                 quizUuid,
                 correct,
                 totalQuestions,
@@ -88,6 +92,10 @@ public class QuizServiceImpl implements QuizService {
                 now,
                 QuizStatus.SUBMIT
         );
+        if (finalized == 0) throw new CustomException(ErrorCode.QUIZ_ALREADY_SUBMITTED);
+
+        // 5) 대시보드 스냅샷 증분 반영 (커밋 이후 처리)
+        eventPublisher.publishEvent(new QuizGradedEvent(quiz.getMemberId(), quizUuid, now, score, wrongAnswers));
 
         return SubmitResponse.builder()
                 .quizUUID(quizUuid)
@@ -146,64 +154,46 @@ public class QuizServiceImpl implements QuizService {
     @Override
     @Transactional(readOnly = true)
     public int calculateLearningStreak(Long memberId, ZoneId zoneId, String period) {
-        try {
-            log.info("연속 학습일 계산 시작 - memberId: {}, zoneId: {}, period: {}", memberId, zoneId, period);
+        log.info("연속 학습일 계산 시작 - memberId: {}, zoneId: {}, period: {}", memberId, zoneId, period);
 
-            LocalDate to = LocalDate.now(zoneId);
-            LocalDate from = calculateFromDate(to, period);
-
-            int streak = quizResultRepository.calculateLearningStreakByPeriod(memberId, from, to, zoneId.getId());
+        LocalDate to = LocalDate.now(zoneId);
+        LocalDate from = calculateFromDate(to, period);
 
-            log.info("연속 학습일 계산 완료 - memberId: {}, streak: {}", memberId, streak);
-            return streak;
+        int streak = quizResultRepository.calculateLearningStreakByPeriod(memberId, from, to, zoneId.getId());
 
-        } catch (Exception e) {
-            log.error("연속 학습일 계산 실패 - memberId: {}, error: {}", memberId, e.getMessage(), e);
-            return 0;
-        }
+        log.info("연속 학습일 계산 완료 - memberId: {}, streak: {}", memberId, streak);
+        return streak;
     }
 
     @Override
     @Transactional(readOnly = true)
     public int countReviewNeededDays(Long memberId, LocalDate from, LocalDate to, ZoneId zoneId) {
-        try {
-            log.info("복습 필요 날짜 계산 시작 - memberId: {}, from: {}, to: {}", memberId, from, to);
-
-            // 간단한 구현: 기간 내 퀴즈를 푼 날짜 수를 복습 필요 날짜로 계산
-            int reviewDays = quizResultRepository.countQuizDaysByPeriod(memberId, from, to, zoneId.getId());
+        log.info("복습 필요 날짜 계산 시작 - memberId: {}, from: {}, to: {}", memberId, from, to);
 
-            log.info("복습 필요 날짜 계산 완료 - memberId: {}, reviewDays: {}", memberId, reviewDays);
-            return reviewDays;
+        // 간단한 구현: 기간 내 퀴즈를 푼 날짜 수를 복습 필요 날짜로 계산
+        int reviewDays = quizResultRepository.countQuizDaysByPeriod(memberId, from, to, zoneId.getId());
 
-        } catch (Exception e) {
-            log.error("복습 필요 날짜 계산 실패 - memberId: {}, error: {}", memberId, e.getMessage(), e);
-            return 0;
-        }
+        log.info("복습 필요 날짜 계산 완료 - memberId: {}, reviewDays: {}", memberId, reviewDays);
+        return reviewDays;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ScorePoint> getScoreSeries(Long memberId, Instant fromUtc, Instant toUtc, Integer limit) {
-        try {
-            log.info("점수 시리즈 조회 시작 - memberId: {}, fromUtc: {}, toUtc: {}, limit: {}", memberId, fromUtc, toUtc, limit);
+        log.info("점수 시리즈 조회 시작 - memberId: {}, fromUtc: {}, toUtc: {}, limit: {}", memberId, fromUtc, toUtc, limit);
 
-            List<ScorePoint> scoreSeries = quizResultRepository.findScoreSeriesByPeriod(memberId, fromUtc, toUtc)
-                    .stream()
-                    .limit(limit != null ? limit : 30) // 기본값 30개로 제한
-                    .map(result -> new ScorePoint(
-                            result.getUuid(),
-                            result.getCompletedAt(),
-                            result.getScore().intValue()
-                    ))
-                    .toList();
-
-            log.info("점수 시리즈 조회 완료 - memberId: {}, count: {}", memberId, scoreSeries.size());
-            return scoreSeries;
+        List<ScorePoint> scoreSeries = quizResultRepository.findScoreSeriesByPeriod(memberId, fromUtc, toUtc)
+                .stream()
+                .limit(limit != null ? limit : 30) // 기본값 30개로 제한
+                .map(result -> new ScorePoint(
+                        result.getUuid(),
+                        result.getCompletedAt(),
+                        result.getScore().intValue()
+                ))
+                .toList();
 
-        } catch (Exception e) {
-            log.error("점수 시리즈 조회 실패 - memberId: {}, error: {}", memberId, e.getMessage(), e);
-            return new ArrayList<>();
-        }
+        log.info("점수 시리즈 조회 완료 - memberId: {}, count: {}", memberId, scoreSeries.size());
+        return scoreSeries;
     }
 
     @Override
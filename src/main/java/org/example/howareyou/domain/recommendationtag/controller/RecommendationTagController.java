@@ -1,6 +1,7 @@
 package org.example.howareyou.domain.recommendationtag.controller;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -47,7 +48,7 @@ public class RecommendationTagController {
   @GetMapping("/recommend")
   public List<String> recommendMembers(
       @AuthenticationPrincipal CustomMemberDetails memberDetails,
-      @RequestParam(defaultValue = "5") int topN) {
+      @RequestParam(defaultValue = "5") @Min(1) @Max(100) int topN) {
 
     Long memberId = memberDetails.getId(); // JWT 에서 꺼낸 사용자 ID
     return memberService.recommendSimilarMembers(memberId, topN);
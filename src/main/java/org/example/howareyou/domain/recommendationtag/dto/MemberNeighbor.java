@@ -0,0 +1,4 @@
+package org.example.howareyou.domain.recommendationtag.dto;
+
+/** 미리 계산된 추천 이웃 (Redis member:neighbors:{memberId} 목록의 항목) */
+public record MemberNeighbor(Long memberId, String membername, double similarity) {}
@@ -0,0 +1,7 @@
+package org.example.howareyou.domain.recommendationtag.event;
+
+/**
+ * 회원 태그 점수(MemberTagScore)가 바뀌었을 때 발행
+ * 미리 계산해 둔 추천 이웃 목록을 해당 회원만 증분 갱신하는 용도
+ */
+public record MemberTagScoresChangedEvent(Long memberId) {}
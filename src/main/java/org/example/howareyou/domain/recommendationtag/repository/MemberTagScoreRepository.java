@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.recommendationtag.entity.MemberTagScore;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,7 +17,8 @@ public interface MemberTagScoreRepository extends JpaRepository<MemberTagScore,
   @Query("SELECT DISTINCT m.memberId FROM MemberTagScore m")
   List<Long> findDistinctMemberIds();
 
-  @Query("SELECT DISTINCT m.memberId FROM MemberTagScore m WHERE m.memberId <> :memberId")
-  List<Long> findDistinctMemberIdsExcept(@Param("memberId") Long memberId);
+  /* 벡터 갱신 배치용 memberId 키셋 페이지 */
+  @Query("SELECT DISTINCT m.memberId FROM MemberTagScore m WHERE m.memberId > :afterId ORDER BY m.memberId")
+  List<Long> findDistinctMemberIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 
 }
@@ -1,6 +1,8 @@
 package org.example.howareyou.domain.recommendationtag.scheduler;
 
 import lombok.RequiredArgsConstructor;
+import org.example.howareyou.domain.recommendationtag.service.MemberNeighborService;
+import org.example.howareyou.domain.recommendationtag.service.MemberVectorIndex;
 import org.example.howareyou.domain.recommendationtag.service.VectorCacheBatchService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -10,11 +12,20 @@ import org.springframework.stereotype.Component;
 public class VectorCacheScheduler {
 
   private final VectorCacheBatchService batchService;
+  private final MemberVectorIndex memberVectorIndex;
+  private final MemberNeighborService memberNeighborService;
 
-  // 매일 새벽 2시에 실행
+  // 매일 새벽 2시에 실행, 벡터 갱신 후 추천 이웃 목록 재계산
   @Scheduled(cron = "0 0 2 * * *")
   public void runDailyCache() {
     batchService.cacheAllMemberVectors();
+    memberNeighborService.rebuildAll();
+  }
+
+  // 배치 후 다른 인스턴스에서 갱신된 벡터까지 인덱스에 반영
+  @Scheduled(cron = "0 0 3 * * *")
+  public void reloadVectorIndex() {
+    memberVectorIndex.reload();
   }
 
 }
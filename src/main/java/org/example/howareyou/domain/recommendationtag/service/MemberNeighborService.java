@@ -0,0 +1,267 @@
+package org.example.howareyou.domain.recommendationtag.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.member.service.MemberService;
+import org.example.howareyou.domain.recommendationtag.dto.MemberNeighbor;
+import org.example.howareyou.domain.recommendationtag.dto.SimilarityResult;
+import org.example.howareyou.domain.recommendationtag.event.MemberTagScoresChangedEvent;
+import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * ✅ 회원별 추천 이웃 목록 (미리 계산)
+ *  - 벡터 갱신 배치 후 전체 회원의 top-K 유사 회원을 계산해 Redis(member:neighbors:{memberId}) 에 membername 까지 담아 저장
+ *    → 추천 API 는 키 1개 조회로 응답 (요청 시 인덱스 스캔/회원별 membername 조회 없음)
+ *  - 전체 계산: 인덱스 사본을 기준 회원 블록(QUERY_BLOCK) 단위 작업으로 나눠 코어 수만큼 병렬,
+ *    각 작업은 후보를 TILE 단위로 훑어 타일이 캐시에 머무는 동안 블록 내 모든 기준 회원의 힙을 갱신
+ *  - 증분: 한 회원의 태그가 바뀌면 그 회원 목록을 다시 계산하고, 새 이웃들의 목록에 자신을 병합
+ *    (더 이상 이웃이 아니게 된 목록에서 빠지는 것은 다음 전체 계산 때 반영)
+ */
+@Slf4j
+@Service
+public class MemberNeighborService {
+
+  private static final String PREFIX = "member:neighbors:";
+  private static final int DIM = MemberVectorIndex.DIM;
+  private static final int QUERY_BLOCK = 64;   // 작업 하나가 맡는 기준 회원 수
+  private static final int TILE = 1024;        // 후보 타일 (1024 * DIM * 4B = 96KB)
+  private static final int NAME_CHUNK = 1000;  // membername 일괄 조회 IN 절 크기
+
+  private final MemberVectorIndex vectorIndex;
+  private final MemberTagScoreRepository tagScoreRepository;
+  private final MemberService memberService;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final int maxNeighbors;
+  private final Duration ttl;
+  private final int parallelism;
+
+  public MemberNeighborService(MemberVectorIndex vectorIndex,
+                               MemberTagScoreRepository tagScoreRepository,
+                               MemberService memberService,
+                               RedisTemplate<String, String> redisTemplate,
+                               ObjectMapper objectMapper,
+                               @Value("${recommendation.neighbors.k:20}") int maxNeighbors,
+                               @Value("${recommendation.neighbors.ttl-hours:48}") long ttlHours,
+                               @Value("${recommendation.neighbors.parallelism:0}") int parallelism) {
+    this.vectorIndex = vectorIndex;
+    this.tagScoreRepository = tagScoreRepository;
+    this.memberService = memberService;
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.maxNeighbors = maxNeighbors;
+    this.ttl = Duration.ofHours(ttlHours);
+    this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+  }
+
+  /** 저장하는 이웃 수 (이보다 많은 추천 요청은 인덱스에서 직접 계산) */
+  public int maxNeighbors() {
+    return maxNeighbors;
+  }
+
+  /** 미리 계산된 이웃 목록 (유사도 내림차순), 없으면 null */
+  public List<MemberNeighbor> getNeighbors(long memberId) {
+    String json = redisTemplate.opsForValue().get(PREFIX + memberId);
+    return json == null ? null : parse(memberId, json);
+  }
+
+  /** 전체 회원 이웃 목록 재계산 (벡터 갱신 배치 직후) */
+  public void rebuildAll() {
+    long startedAt = System.currentTimeMillis();
+    MemberVectorIndex.Snapshot snapshot = vectorIndex.snapshot();
+    int n = snapshot.size();
+    if (n == 0) {
+      log.info("추천 이웃 목록 재계산 건너뜀 - 인덱스가 비어 있음");
+      return;
+    }
+
+    Map<Long, String> names = resolveNames(snapshot.ids());
+    int blocks = (n + QUERY_BLOCK - 1) / QUERY_BLOCK;
+    ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, blocks));
+    try {
+      List<CompletableFuture<Integer>> futures = new ArrayList<>(blocks);
+      for (int from = 0; from < n; from += QUERY_BLOCK) {
+        int start = from, end = Math.min(from + QUERY_BLOCK, n);
+        futures.add(CompletableFuture.supplyAsync(() -> buildBlock(snapshot, start, end, names), pool));
+      }
+      int written = futures.stream().mapToInt(CompletableFuture::join).sum();
+      long millis = Math.max(System.currentTimeMillis() - startedAt, 1);
+      log.info("✅ 추천 이웃 목록 재계산 완료 - {}명, k={}, 스레드 {}, {}ms, {} members/s",
+          written, maxNeighbors, Math.min(parallelism, blocks), millis, String.format("%.0f", written * 1000.0 / millis));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * 한 회원 이웃 목록 재계산 + 새 이웃들의 목록에 자신 병합
+   * @return 저장한 이웃 목록 (인덱스에 벡터가 없으면 빈 목록)
+   */
+  public List<MemberNeighbor> refreshMember(long memberId) {
+    float[] vector = vectorIndex.vectorOf(memberId);
+    if (vector == null) {
+      redisTemplate.delete(PREFIX + memberId);
+      return List.of();
+    }
+
+    List<SimilarityResult> top = vectorIndex.topN(memberId, vector, maxNeighbors);
+    List<Long> ids = new ArrayList<>(top.size() + 1);
+    ids.add(memberId);
+    top.forEach(r -> ids.add(r.memberId()));
+    Map<Long, String> names = memberService.findMembernamesByIds(ids);
+
+    List<MemberNeighbor> own = new ArrayList<>(top.size());
+    for (SimilarityResult r : top) {
+      String name = names.get(r.memberId());
+      if (name != null) own.add(new MemberNeighbor(r.memberId(), name, r.similarity()));
+    }
+
+    Map<String, String> payload = new HashMap<>();
+    payload.put(PREFIX + memberId, toJson(own));
+
+    // 유사도는 대칭 → 새 이웃의 목록에도 자신이 들어갈 수 있음 (목록이 아직 없는 회원은 전체 계산 때 생성)
+    String selfName = names.get(memberId);
+    if (selfName != null && !own.isEmpty()) {
+      List<String> keys = own.stream().map(nb -> PREFIX + nb.memberId()).toList();
+      List<String> lists = redisTemplate.opsForValue().multiGet(keys);
+      for (int i = 0; lists != null && i < keys.size(); i++) {
+        if (lists.get(i) == null) continue;
+        List<MemberNeighbor> current = parse(own.get(i).memberId(), lists.get(i));
+        if (current == null) continue;
+        List<MemberNeighbor> merged = merge(current, new MemberNeighbor(memberId, selfName, own.get(i).similarity()));
+        if (merged != null) payload.put(keys.get(i), toJson(merged));
+      }
+    }
+
+    write(payload);
+    log.debug("추천 이웃 목록 증분 갱신 - memberId={}, 이웃 {}명, 병합된 목록 {}개", memberId, own.size(), payload.size() - 1);
+    return own;
+  }
+
+  /**
+   * 프로필 관심사 변경 → MemberTagScore 기반 벡터를 인덱스에 반영 후 이웃 목록 증분 갱신
+   *  - 이벤트가 알리는 것은 태그 점수 변경이므로 벡터도 태그 점수에서 만듦
+   *    (Redis 의 태깅 기반 벡터는 이번 변경을 반영하지 않아 같은 목록만 다시 계산하게 됨, 다음 벡터 갱신 배치 때 다시 합쳐짐)
+   *  - 정규화된 벡터가 이전과 같으면 목록도 그대로이므로 재계산하지 않음
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTagScoresChanged(MemberTagScoresChangedEvent event) {
+    Long memberId = event.memberId();
+    try {
+      TagVector vector = TagVector.fromTagScores(tagScoreRepository.findByMemberId(memberId));
+      float[] before = vectorIndex.vectorOf(memberId);
+      float[] after = vectorIndex.upsert(memberId, vector);
+      if (Arrays.equals(before, after)) {
+        log.debug("추천 이웃 목록 증분 갱신 건너뜀 - memberId={}, 벡터 변화 없음", memberId);
+        return;
+      }
+      refreshMember(memberId);
+    } catch (Exception e) {
+      log.warn("⚠️ 추천 이웃 목록 증분 갱신 실패 - memberId={}: {}", memberId, e.getMessage());
+    }
+  }
+
+  /** 기준 회원 [from, to) 의 이웃 목록 계산 후 저장 */
+  private int buildBlock(MemberVectorIndex.Snapshot snapshot, int from, int to, Map<Long, String> names) {
+    long[] ids = snapshot.ids();
+    float[] data = snapshot.vectors();
+    int n = snapshot.size();
+    int rows = to - from;
+    int[][] heapSlots = new int[rows][maxNeighbors];
+    float[][] heapScores = new float[rows][maxNeighbors];
+    int[] heapSizes = new int[rows];
+
+    for (int tile = 0; tile < n; tile += TILE) {
+      int tileEnd = Math.min(tile + TILE, n);
+      for (int q = 0; q < rows; q++) {
+        int row = from + q;
+        heapSizes[q] = MemberVectorIndex.offerRange(data, ids, tile, tileEnd, ids[row],
+            data, row * DIM, heapSlots[q], heapScores[q], heapSizes[q]);
+      }
+    }
+
+    Map<String, String> payload = new HashMap<>(rows * 2);
+    for (int q = 0; q < rows; q++) {
+      List<MemberNeighbor> neighbors = new ArrayList<>(heapSizes[q]);
+      for (int h = 0; h < heapSizes[q]; h++) {
+        long id = ids[heapSlots[q][h]];
+        String name = names.get(id);
+        if (name != null) neighbors.add(new MemberNeighbor(id, name, heapScores[q][h]));
+      }
+      neighbors.sort(Comparator.comparingDouble(MemberNeighbor::similarity).reversed());
+      payload.put(PREFIX + ids[from + q], toJson(neighbors));
+    }
+    write(payload);
+    return rows;
+  }
+
+  /** 목록에 후보 반영 (이미 있으면 점수 갱신), 유사도 내림차순 k개 유지 — 바뀐 게 없으면 null */
+  List<MemberNeighbor> merge(List<MemberNeighbor> current, MemberNeighbor candidate) {
+    List<MemberNeighbor> merged = new ArrayList<>(current.size() + 1);
+    for (MemberNeighbor nb : current) {
+      if (!nb.memberId().equals(candidate.memberId())) merged.add(nb);
+    }
+    merged.add(candidate);
+    merged.sort(Comparator.comparingDouble(MemberNeighbor::similarity).reversed());
+    if (merged.size() > maxNeighbors) merged = merged.subList(0, maxNeighbors);
+    return merged.equals(current) ? null : merged;
+  }
+
+  private Map<Long, String> resolveNames(long[] ids) {
+    Map<Long, String> names = new HashMap<>(ids.length * 2);
+    for (int from = 0; from < ids.length; from += NAME_CHUNK) {
+      List<Long> chunk = Arrays.stream(ids, from, Math.min(from + NAME_CHUNK, ids.length)).boxed().toList();
+      names.putAll(memberService.findMembernamesByIds(chunk));
+    }
+    return names;
+  }
+
+  /** 파이프라인 SET EX */
+  private void write(Map<String, String> payload) {
+    if (payload.isEmpty()) return;
+    Expiration expiration = Expiration.from(ttl);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      payload.forEach((k, v) -> connection.stringCommands().set(
+          k.getBytes(StandardCharsets.UTF_8), v.getBytes(StandardCharsets.UTF_8),
+          expiration, RedisStringCommands.SetOption.upsert()));
+      return null;
+    });
+  }
+
+  private String toJson(List<MemberNeighbor> neighbors) {
+    try {
+      return objectMapper.writeValueAsString(neighbors);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("추천 이웃 목록 직렬화 실패", e);
+    }
+  }
+
+  private List<MemberNeighbor> parse(long memberId, String json) {
+    try {
+      return objectMapper.readValue(json, new TypeReference<List<MemberNeighbor>>() {});
+    } catch (JsonProcessingException e) {
+      log.warn("Redis memberId {} 추천 이웃 목록 파싱 실패", memberId);
+      return null;
+    }
+  }
+}
@@ -0,0 +1,375 @@
+package org.example.howareyou.domain.recommendationtag.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.recommendationtag.dto.SimilarityResult;
+import org.example.howareyou.domain.recommendationtag.entity.MemberTagScore;
+import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * ✅ 유사 사용자 추천용 인메모리 벡터 인덱스
+ *  - 회원별 태그 벡터를 L2 정규화한 float[DIM] 로 하나의 연속 배열에 보관 → 코사인 = 내적
+ *  - Top-N 은 전체를 한 번 훑으면서 크기 N 최소 힙으로 선택 (정렬/박싱/네트워크 호출 없음)
+ *  - 벡터 저장 시 증분 반영 + Redis Hash(member:vector:index) 에 스냅샷
+ *  - 시작 시 스냅샷에서 적재, 스냅샷이 비어 있으면 MemberTagScore 로 초기 구성
+ *  - 재적재(HSCAN/MemberTagScore 조회) 중 들어온 증분은 따로 모아 두었다가 교체 직후 다시 적용
+ */
+@Slf4j
+@Component
+public class MemberVectorIndex {
+
+  public static final int DIM = TagVector.DIM;
+  private static final String SNAPSHOT_KEY = "member:vector:index";
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final RedisTemplate<String, String> redisTemplate;
+  private final MemberTagScoreRepository tagScoreRepository;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private long[] ids = new long[INITIAL_CAPACITY];
+  private float[] vectors = new float[INITIAL_CAPACITY * DIM];
+  private int size;
+  private Map<Long, Integer> slots = new HashMap<>();
+  private Map<Long, float[]> pendingDuringReload;   // 재적재 중 증분 (값 null = 제거), 평소에는 null
+
+  public MemberVectorIndex(RedisTemplate<String, String> redisTemplate,
+                           MemberTagScoreRepository tagScoreRepository) {
+    this.redisTemplate = redisTemplate;
+    this.tagScoreRepository = tagScoreRepository;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void init() {
+    try {
+      reload();
+      if (size() == 0) rebuildFromTagScores();
+    } catch (Exception e) {
+      log.error("❌ 추천 벡터 인덱스 초기화 실패", e);
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return size;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 회원 벡터 반영 (메모리 + Redis 스냅샷), 유효한 값이 없으면 제거 */
+  public float[] upsert(long memberId, TagVector vector) {
+    float[] v = vector.normalizedFloats();
+    if (v == null) {
+      remove(memberId);
+      return null;
+    }
+    put(memberId, v);
+    try {
+      redisTemplate.opsForHash().put(SNAPSHOT_KEY, Long.toString(memberId), TagVector.encodeFloats(v));
+    } catch (Exception e) {
+      log.warn("⚠️ 추천 벡터 스냅샷 저장 실패 - memberId={}: {}", memberId, e.getMessage());
+    }
+    return v;
+  }
+
+  /** 여러 회원 벡터 일괄 반영 (스냅샷은 HSET 1회) */
+  public void upsertAll(Map<Long, TagVector> vectors) {
+    Map<String, String> snapshot = new HashMap<>();
+    for (Map.Entry<Long, TagVector> e : vectors.entrySet()) {
+      float[] v = e.getValue().normalizedFloats();
+      if (v == null) {
+        remove(e.getKey());
+        continue;
+      }
+      put(e.getKey(), v);
+      snapshot.put(Long.toString(e.getKey()), TagVector.encodeFloats(v));
+    }
+    if (snapshot.isEmpty()) return;
+    try {
+      redisTemplate.opsForHash().putAll(SNAPSHOT_KEY, snapshot);
+    } catch (Exception e) {
+      log.warn("⚠️ 추천 벡터 스냅샷 일괄 저장 실패 - {}명: {}", snapshot.size(), e.getMessage());
+    }
+  }
+
+  public void remove(long memberId) {
+    lock.writeLock().lock();
+    try {
+      boolean removed = removeLocked(memberId);
+      if (pendingDuringReload != null) pendingDuringReload.put(memberId, null);
+      if (!removed) return;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    try {
+      redisTemplate.opsForHash().delete(SNAPSHOT_KEY, Long.toString(memberId));
+    } catch (Exception e) {
+      log.warn("⚠️ 추천 벡터 스냅샷 삭제 실패 - memberId={}: {}", memberId, e.getMessage());
+    }
+  }
+
+  /** 정규화된 벡터 사본 (없으면 null) */
+  public float[] vectorOf(long memberId) {
+    lock.readLock().lock();
+    try {
+      Integer slot = slots.get(memberId);
+      return slot == null ? null : Arrays.copyOfRange(vectors, slot * DIM, slot * DIM + DIM);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 정규화된 query 와 코사인 유사도 상위 n명 (자기 자신 제외, 유사도 내림차순)
+   */
+  public List<SimilarityResult> topN(long memberId, float[] query, int n) {
+    if (n <= 0) return List.of();
+    int[] heapSlots;
+    float[] heapScores;
+    int heapSize;
+    long[] resultIds;
+
+    lock.readLock().lock();
+    try {
+      // 힙 크기는 인덱스 크기를 넘지 않음 (요청 값만큼 배열을 잡지 않도록)
+      int capacity = Math.min(n, size);
+      if (capacity == 0) return List.of();
+      heapSlots = new int[capacity];
+      heapScores = new float[capacity];
+      heapSize = offerRange(vectors, ids, 0, size, memberId, query, 0, heapSlots, heapScores, 0);
+      resultIds = new long[heapSize];
+      for (int k = 0; k < heapSize; k++) resultIds[k] = ids[heapSlots[k]];
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    List<SimilarityResult> results = new ArrayList<>(heapSize);
+    for (int k = 0; k < heapSize; k++) results.add(new SimilarityResult(resultIds[k], heapScores[k]));
+    results.sort((a, b) -> Double.compare(b.similarity(), a.similarity()));
+    return results;
+  }
+
+  /** 전체 이웃 목록 배치용 사본 (읽기 락 안에서 한 번 복사 → 계산 중에는 락 없음) */
+  public Snapshot snapshot() {
+    lock.readLock().lock();
+    try {
+      return new Snapshot(Arrays.copyOf(ids, size), Arrays.copyOf(vectors, size * DIM), size);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** 인덱스 사본: i 번째 회원 = ids[i], 벡터 = vectors[i*DIM, (i+1)*DIM) */
+  public record Snapshot(long[] ids, float[] vectors, int size) {}
+
+  /**
+   * data 의 [from, to) 행을 query(queryData[queryBase..]) 와 내적해 크기 capacity(=heapSlots.length) 최소 힙에 반영
+   * @param heapSize 현재 힙 크기
+   * @return 반영 후 힙 크기
+   */
+  static int offerRange(float[] data, long[] ids, int from, int to, long excludeId,
+                        float[] queryData, int queryBase, int[] heapSlots, float[] heapScores, int heapSize) {
+    int capacity = heapSlots.length;
+    for (int i = from, base = from * DIM; i < to; i++, base += DIM) {
+      if (ids[i] == excludeId) continue;
+      float dot = 0f;
+      for (int d = 0; d < DIM; d++) {
+        dot += data[base + d] * queryData[queryBase + d];
+      }
+      if (heapSize < capacity) {
+        heapSlots[heapSize] = i;
+        heapScores[heapSize] = dot;
+        siftUp(heapSlots, heapScores, heapSize++);
+      } else if (dot > heapScores[0]) {
+        heapSlots[0] = i;
+        heapScores[0] = dot;
+        siftDown(heapSlots, heapScores, heapSize);
+      }
+    }
+    return heapSize;
+  }
+
+  /** Redis 스냅샷에서 다시 적재 (다른 인스턴스의 변경 반영용, 동시에 하나만) */
+  public synchronized void reload() {
+    long startedAt = System.currentTimeMillis();
+    beginReload();
+    Map<Long, float[]> loaded = new HashMap<>();
+    ScanOptions options = ScanOptions.scanOptions().count(1000).build();
+    try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(SNAPSHOT_KEY, options)) {
+      while (cursor.hasNext()) {
+        Map.Entry<Object, Object> e = cursor.next();
+        try {
+          loaded.put(Long.parseLong(e.getKey().toString()), TagVector.decodeFloats(e.getValue().toString()));
+        } catch (Exception ex) {
+          log.warn("⚠️ 추천 벡터 스냅샷 항목 무시 - field={}: {}", e.getKey(), ex.getMessage());
+        }
+      }
+    } catch (RuntimeException e) {
+      abortReload();
+      throw e;
+    }
+    Map<Long, float[]> replayed = replaceAll(loaded);
+    log.info("✅ 추천 벡터 인덱스 적재 - {}명 (재적재 중 증분 {}건), {}ms",
+        loaded.size(), replayed.size(), System.currentTimeMillis() - startedAt);
+  }
+
+  /** MemberTagScore 전체로 초기 구성 (스냅샷이 없을 때) */
+  public synchronized void rebuildFromTagScores() {
+    beginReload();
+    Map<Long, float[]> built = new HashMap<>();
+    Map<String, String> snapshot = new HashMap<>();
+    try {
+      Map<Long, List<MemberTagScore>> byMember = new HashMap<>();
+      for (MemberTagScore s : tagScoreRepository.findAll()) {
+        byMember.computeIfAbsent(s.getMemberId(), k -> new ArrayList<>()).add(s);
+      }
+      byMember.forEach((memberId, scores) -> {
+        float[] v = TagVector.fromTagScores(scores).normalizedFloats();
+        if (v == null) return;
+        built.put(memberId, v);
+        snapshot.put(Long.toString(memberId), TagVector.encodeFloats(v));
+      });
+    } catch (RuntimeException e) {
+      abortReload();
+      throw e;
+    }
+    Map<Long, float[]> replayed = replaceAll(built);
+    // 구성 중 증분은 이미 스냅샷에 저장됨 → 이전 값으로 덮어쓰지 않음
+    replayed.keySet().forEach(memberId -> snapshot.remove(Long.toString(memberId)));
+    if (!snapshot.isEmpty()) redisTemplate.opsForHash().putAll(SNAPSHOT_KEY, snapshot);
+    log.info("✅ 추천 벡터 인덱스 MemberTagScore 기반 구성 - {}명 (구성 중 증분 {}건)", built.size(), replayed.size());
+  }
+
+  private void put(long memberId, float[] v) {
+    lock.writeLock().lock();
+    try {
+      putLocked(memberId, v);
+      if (pendingDuringReload != null) pendingDuringReload.put(memberId, v);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void putLocked(long memberId, float[] v) {
+    Integer slot = slots.get(memberId);
+    if (slot == null) {
+      ensureCapacity(size + 1);
+      slot = size++;
+      ids[slot] = memberId;
+      slots.put(memberId, slot);
+    }
+    System.arraycopy(v, 0, vectors, slot * DIM, DIM);
+  }
+
+  private boolean removeLocked(long memberId) {
+    Integer slot = slots.remove(memberId);
+    if (slot == null) return false;
+    int last = --size;
+    if (slot != last) { // 마지막 항목을 빈 자리로 이동
+      ids[slot] = ids[last];
+      System.arraycopy(vectors, last * DIM, vectors, slot * DIM, DIM);
+      slots.put(ids[slot], slot);
+    }
+    return true;
+  }
+
+  private void beginReload() {
+    lock.writeLock().lock();
+    try {
+      pendingDuringReload = new LinkedHashMap<>();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void abortReload() {
+    lock.writeLock().lock();
+    try {
+      pendingDuringReload = null;   // 기존 인덱스에는 이미 반영됨
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 새 배열로 한 번에 교체 후 재적재 중 증분을 다시 적용
+   * @return 다시 적용한 증분 (memberId → 벡터, null = 제거)
+   */
+  private Map<Long, float[]> replaceAll(Map<Long, float[]> all) {
+    int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(all.size(), 1)) << 1);
+    long[] newIds = new long[capacity];
+    float[] newVectors = new float[capacity * DIM];
+    Map<Long, Integer> newSlots = new HashMap<>(all.size() * 2);
+    int i = 0;
+    for (Map.Entry<Long, float[]> e : all.entrySet()) {
+      newIds[i] = e.getKey();
+      System.arraycopy(e.getValue(), 0, newVectors, i * DIM, DIM);
+      newSlots.put(e.getKey(), i);
+      i++;
+    }
+
+    lock.writeLock().lock();
+    try {
+      Map<Long, float[]> pending = pendingDuringReload == null ? Map.of() : pendingDuringReload;
+      pendingDuringReload = null;
+      ids = newIds;
+      vectors = newVectors;
+      slots = newSlots;
+      size = i;
+      // 적재 스냅샷보다 나중일 수 있는 증분을 새 배열에 다시 적용
+      pending.forEach((memberId, v) -> {
+        if (v == null) removeLocked(memberId);
+        else putLocked(memberId, v);
+      });
+      return pending;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureCapacity(int needed) {
+    if (needed <= ids.length) return;
+    int capacity = ids.length << 1;
+    ids = Arrays.copyOf(ids, capacity);
+    vectors = Arrays.copyOf(vectors, capacity * DIM);
+  }
+
+  private static void siftUp(int[] slots, float[] scores, int i) {
+    while (i > 0) {
+      int parent = (i - 1) >>> 1;
+      if (scores[parent] <= scores[i]) break;
+      swap(slots, scores, i, parent);
+      i = parent;
+    }
+  }
+
+  private static void siftDown(int[] slots, float[] scores, int n) {
+    int i = 0;
+    while (true) {
+      int l = 2 * i + 1, r = l + 1, min = i;
+      if (l < n && scores[l] < scores[min]) min = l;
+      if (r < n && scores[r] < scores[min]) min = r;
+      if (min == i) return;
+      swap(slots, scores, i, min);
+      i = min;
+    }
+  }
+
+  private static void swap(int[] slots, float[] scores, int a, int b) {
+    int ts = slots[a]; slots[a] = slots[b]; slots[b] = ts;
+    float tf = scores[a]; scores[a] = scores[b]; scores[b] = tf;
+  }
+}
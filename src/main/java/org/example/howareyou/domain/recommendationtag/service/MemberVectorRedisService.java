@@ -3,13 +3,19 @@ package org.example.howareyou.domain.recommendationtag.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -19,38 +25,79 @@ public class MemberVectorRedisService {
 
   private final RedisTemplate<String, String> redisTemplate;
   private final ObjectMapper objectMapper;
+  private final MemberVectorIndex memberVectorIndex;
 
   private static final String PREFIX = "member:vector:";
+  private static final Duration TTL = Duration.ofHours(24);
 
-  public void saveMemberVector(Long memberId, Map<String, Double> vector) {
-    String key = PREFIX + memberId;
-    try {
-      String json = objectMapper.writeValueAsString(vector);
-      // TTL 24시간 설정
-      redisTemplate.opsForValue().set(key, json, Duration.ofHours(24));
-    } catch (JsonProcessingException e) {
-      throw new CustomException(ErrorCode.VECTOR_SERIALIZATION_FAIL);
-    }
+  public void saveMemberVector(Long memberId, TagVector vector) {
+    // TTL 24시간 설정 (고정 길이 인코딩)
+    redisTemplate.opsForValue().set(PREFIX + memberId, vector.encode(), TTL);
+    // 추천 인덱스 증분 반영
+    memberVectorIndex.upsert(memberId, vector);
   }
 
 
-  public Map<String, Double> getMemberVector(Long memberId) {
-    String key = PREFIX + memberId;
-    String json = redisTemplate.opsForValue().get(key);
-    if (json == null) return Map.of();
-    log.debug("Redis에 memberId {} 벡터 저장 완료. TTL: 24시간", memberId);
-    try {
-      return objectMapper.readValue(json, new TypeReference<>() {});
-    } catch (JsonProcessingException e) {
-      log.warn("Redis에 memberId {}에 대한 벡터가 존재하지 않습니다.", memberId);
-      throw new CustomException(ErrorCode.VECTOR_DESERIALIZATION_FAIL);
+  public TagVector getMemberVector(Long memberId) {
+    String value = redisTemplate.opsForValue().get(PREFIX + memberId);
+    if (value == null) return TagVector.empty();
+    return decode(memberId, value);
+  }
 
+  /** 여러 회원 벡터 한 번에 조회 (MGET), 없는 회원은 결과에서 제외 */
+  public Map<Long, TagVector> getMemberVectors(List<Long> memberIds) {
+    Map<Long, TagVector> found = new HashMap<>();
+    if (memberIds.isEmpty()) return found;
+    List<String> values = redisTemplate.opsForValue()
+        .multiGet(memberIds.stream().map(id -> PREFIX + id).toList());
+    for (int i = 0; values != null && i < memberIds.size(); i++) {
+      String value = values.get(i);
+      if (value == null) continue;
+      try {
+        found.put(memberIds.get(i), decode(memberIds.get(i), value));
+      } catch (CustomException e) {
+        // 깨진 값은 없는 것으로 보고 새 벡터로 덮어씀
+      }
     }
+    return found;
+  }
 
+  /** 여러 회원 벡터 저장 (파이프라인 SET EX) + 추천 인덱스 일괄 반영 */
+  public void saveMemberVectors(Map<Long, TagVector> vectors) {
+    if (vectors.isEmpty()) return;
+    Map<byte[], byte[]> payload = new HashMap<>();
+    vectors.forEach((memberId, v) -> payload.put(
+        (PREFIX + memberId).getBytes(StandardCharsets.UTF_8),
+        v.encode().getBytes(StandardCharsets.UTF_8)));
+    Expiration expiration = Expiration.from(TTL);
+    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      payload.forEach((k, v) -> connection.stringCommands()
+          .set(k, v, expiration, RedisStringCommands.SetOption.upsert()));
+      return null;
+    });
+    memberVectorIndex.upsertAll(vectors);
   }
 
   public boolean hasVector(Long memberId) {
     return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + memberId));
   }
 
+  /** 고정 길이 인코딩, 이전 JSON({"태그": 점수}) 형식도 읽음 (TTL 24시간이라 곧 사라짐) */
+  TagVector decode(Long memberId, String value) {
+    if (value.startsWith("{")) {
+      try {
+        return TagVector.fromScores(objectMapper.readValue(value, new TypeReference<Map<String, Double>>() {}));
+      } catch (JsonProcessingException e) {
+        log.warn("Redis memberId {} 벡터(JSON) 파싱 실패", memberId);
+        throw new CustomException(ErrorCode.VECTOR_DESERIALIZATION_FAIL);
+      }
+    }
+    try {
+      return TagVector.decode(value);
+    } catch (IllegalArgumentException e) {
+      log.warn("Redis memberId {} 벡터 디코딩 실패: {}", memberId, e.getMessage());
+      throw new CustomException(ErrorCode.VECTOR_DESERIALIZATION_FAIL);
+    }
+  }
+
 }
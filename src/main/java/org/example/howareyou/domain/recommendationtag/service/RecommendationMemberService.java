@@ -1,18 +1,14 @@
 package org.example.howareyou.domain.recommendationtag.service;
 
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.member.redis.PresenceService;
 import org.example.howareyou.domain.member.service.MemberService;
+import org.example.howareyou.domain.recommendationtag.dto.MemberNeighbor;
 import org.example.howareyou.domain.recommendationtag.dto.SimilarityResult;
-import org.example.howareyou.domain.recommendationtag.entity.MemberTagScore;
-import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -21,106 +17,88 @@ import org.springframework.stereotype.Service;
 public class RecommendationMemberService {
 
   private final RecommendationTagService tagService;
-  private final MemberTagScoreRepository tagScoreRepository;
   private final MemberVectorRedisService redisService;
+  private final MemberVectorIndex vectorIndex;
   private final MemberService memberService;
+  private final MemberNeighborService neighborService;
+  private final PresenceService presenceService;
 
 
-  /**
-   * 코사인 유사도 계산
-   */
-  private double cosineSimilarity(Map<String, Double> a, Map<String, Double> b) {
-    Set<String> keys = new HashSet<>();
-    keys.addAll(a.keySet());
-    keys.addAll(b.keySet());
-
-    double dot = 0.0, normA = 0.0, normB = 0.0;
-
-    for (String key : keys) {
-      double va = a.getOrDefault(key, 0.0);
-      double vb = b.getOrDefault(key, 0.0);
-      dot += va * vb;
-      normA += va * va;
-      normB += vb * vb;
-    }
-
-    return (normA == 0 || normB == 0) ? 0.0 : dot / (Math.sqrt(normA) * Math.sqrt(normB));
-  }
-
   /**
    * 현재 사용자와 유사한 사용자 추천
    * @param memberId 현재 사용자 ID
    * @param topN 추천 인원 수
    */
   public List<String> recommendSimilarMembers(Long memberId, int topN) {
-    // 1. 기준 사용자 벡터 가져오기 (Redis 우선, 없으면 MemberTagScore 기반)
-    Map<String, Double> baseVector = getOrRefreshMemberVector(memberId);
-    if (baseVector.isEmpty()) {
-      log.warn("태그 점수가 없음: memberId={}", memberId);
-      return List.of();
+    // 0. 미리 계산된 이웃 목록 (Redis 키 1개 조회)
+    boolean fitsPrecomputed = topN <= neighborService.maxNeighbors();
+    if (fitsPrecomputed) {
+      List<MemberNeighbor> neighbors = neighborService.getNeighbors(memberId);
+      if (neighbors != null) return membernames(neighbors, topN);
     }
 
-    // 2. 전체 사용자 ID (자기 자신 제외) - MemberTagScore 테이블에서 조회
-    List<Long> allMemberIds = tagScoreRepository.findDistinctMemberIdsExcept(memberId);
-    
-    if (allMemberIds.isEmpty()) {
-      log.warn("추천할 수 있는 다른 사용자가 없음: memberId={}", memberId);
+    // 1. 기준 사용자 벡터 (인덱스 우선, 없으면 Redis/태깅/MemberTagScore 로 만든 뒤 인덱스에 반영)
+    float[] baseVector = vectorIndex.vectorOf(memberId);
+    if (baseVector == null) {
+      TagVector raw = getOrRefreshMemberVector(memberId); // 새로 만든 경우 저장 시 인덱스에도 반영됨
+      baseVector = vectorIndex.vectorOf(memberId);
+      if (baseVector == null) baseVector = vectorIndex.upsert(memberId, raw);
+    }
+    if (baseVector == null) {
+      log.warn("태그 점수가 없음: memberId={}", memberId);
       return List.of();
     }
 
-    List<SimilarityResult> similarityResults = new ArrayList<>();
+    // 2. 목록 크기 안이면 이웃 목록을 만들어 저장 → 다음 요청부터 키 1개 조회
+    if (fitsPrecomputed) {
+      List<MemberNeighbor> neighbors = neighborService.refreshMember(memberId);
+      if (neighbors.isEmpty()) log.warn("추천할 수 있는 다른 사용자가 없음: memberId={}", memberId);
+      return membernames(neighbors, topN);
+    }
 
-    // 3. 각 사용자와 코사인 유사도 계산
-    for (Long otherId : allMemberIds) {
-      Map<String, Double> otherVector = getOrRefreshMemberVector(otherId);
-      if (!otherVector.isEmpty()) {
-        double similarity = cosineSimilarity(baseVector, otherVector);
-        similarityResults.add(new SimilarityResult(otherId, similarity));
-      }
+    // 3. 큰 topN 은 인덱스 전체를 한 번 훑어 코사인 유사도 상위 topN (자기 자신 제외)
+    List<SimilarityResult> similarityResults = vectorIndex.topN(memberId, baseVector, topN);
+    if (similarityResults.isEmpty()) {
+      log.warn("추천할 수 있는 다른 사용자가 없음: memberId={}", memberId);
+      return List.of();
     }
 
-    // 4. 유사도 내림차순 정렬 후 상위 topN 추출, memberId를 membername으로 변환
+    // 4. memberId → membername 일괄 조회 (이름이 없는 회원은 제외)
+    Map<Long, String> names = memberService.findMembernamesByIds(
+        similarityResults.stream().map(SimilarityResult::memberId).toList());
     return similarityResults.stream()
-        .sorted(Comparator.comparingDouble(SimilarityResult::similarity).reversed())
-        .limit(topN)
-        .map(result -> {
-          try {
-            return memberService.findMembernameById(result.memberId());
-          } catch (Exception e) {
-            log.warn("사용자 {}의 membername 조회 실패: {}", result.memberId(), e.getMessage());
-            return "unknown_" + result.memberId(); // 폴백값
-          }
-        })
+        .map(result -> names.get(result.memberId()))
+        .filter(Objects::nonNull)
         .toList();
   }
 
+  /** 온라인 이웃을 앞으로 (같은 그룹 안은 유사도순) 세운 뒤 topN */
+  private List<String> membernames(List<MemberNeighbor> neighbors, int topN) {
+    return presenceService.onlineFirst(neighbors, MemberNeighbor::memberId).stream()
+        .limit(topN).map(MemberNeighbor::membername).toList();
+  }
+
   /**
    * Redis 캐시에서 벡터 조회 → 없으면 새로 계산 후 캐시에 저장
    * MemberTagScore가 있으면 기본 벡터 생성
    */
-  private Map<String, Double> getOrRefreshMemberVector(Long memberId) {
+  private TagVector getOrRefreshMemberVector(Long memberId) {
     // 1. Redis 캐시에서 벡터 조회
-    Map<String, Double> cached = redisService.getMemberVector(memberId);
+    TagVector cached = redisService.getMemberVector(memberId);
     if (!cached.isEmpty()) {
       return cached;
     }
     
     // 2. FastAPI AI 태깅 시도
-    Map<String, Double> fresh = tagService.refreshMemberScores(memberId);
+    TagVector fresh = TagVector.fromScores(tagService.refreshMemberScores(memberId));
     if (!fresh.isEmpty()) {
       redisService.saveMemberVector(memberId, fresh);
       return fresh;
     }
     
     // 3. MemberTagScore 기반 기본 벡터 생성 (폴백)
-    List<MemberTagScore> tagScores = tagService.getMemberTagScores(memberId);
-    if (!tagScores.isEmpty()) {
-      Map<String, Double> basicVector = tagScores.stream()
-          .collect(Collectors.toMap(
-              score -> score.getMemberTag().name(),
-              MemberTagScore::getScore
-          ));
-      
+    TagVector basicVector = TagVector.fromTagScores(tagService.getMemberTagScores(memberId));
+    if (!basicVector.isEmpty()) {
       // Redis에 기본 벡터 저장
       redisService.saveMemberVector(memberId, basicVector);
       log.info("MemberTagScore 기반 기본 벡터 생성: memberId={}, vector={}", memberId, basicVector);
@@ -128,7 +106,7 @@ public class RecommendationMemberService {
     }
     
     log.warn("사용자 {}에 대한 태그 점수를 찾을 수 없습니다", memberId);
-    return Map.of();
+    return TagVector.empty();
   }
 
-}
\ No newline at end of file
+}
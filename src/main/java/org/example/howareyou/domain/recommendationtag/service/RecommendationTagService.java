@@ -4,7 +4,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.recommendationtag.entity.MemberTagScore;
+import org.example.howareyou.domain.recommendationtag.event.MemberTagScoresChangedEvent;
 import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class RecommendationTagService {
 
   private final TaggingNlpClient taggingNlpClient;
   private final MemberTagScoreRepository memberTagScoreRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   private static final Map<String, MemberTag> TAG_TO_MEMBERTAG = Map.ofEntries(
       Map.entry("언어 학습", MemberTag.LANGUAGE_LEARNING),
@@ -48,6 +51,21 @@ public class RecommendationTagService {
       Map.entry("금융", MemberTag.FINANCE)
   );
 
+  /**
+   * 벡터 키 → MemberTag (태깅 서비스의 한글 라벨, MemberTagScore 기반의 enum 이름 모두 허용)
+   * @return 알 수 없는 키면 null
+   */
+  public static MemberTag resolveTag(String key) {
+    if (key == null) return null;
+    MemberTag tag = TAG_TO_MEMBERTAG.get(key);
+    if (tag != null) return tag;
+    try {
+      return MemberTag.valueOf(key);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
 
   /** 단어 리스트 → 태그 스코어 */
   public Map<String, Double> getTagScores(List<String> words) {
@@ -116,6 +134,7 @@ public class RecommendationTagService {
       }
     }
 
+    eventPublisher.publishEvent(new MemberTagScoresChangedEvent(memberId));
     log.info("프로필 관심사 기반 태그 점수 업데이트 완료: memberId={}, interests={}", memberId, interests);
   }
 
@@ -0,0 +1,128 @@
+package org.example.howareyou.domain.recommendationtag.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.example.howareyou.domain.member.entity.MemberTag;
+import org.example.howareyou.domain.recommendationtag.entity.MemberTagScore;
+
+/**
+ * 회원 태그 벡터 (불변)
+ *  - MemberTag.ordinal() 을 인덱스로 하는 double[DIM] → 내적/노름/블렌딩 시 키 합집합·박싱 없음
+ *  - Redis 저장 형식: DIM 개 float32(little-endian) 를 Base64 로 (항상 128자 고정 길이)
+ */
+public final class TagVector {
+
+  public static final int DIM = MemberTag.values().length;
+  private static final int ENCODED_BYTES = DIM * Float.BYTES;
+  private static final TagVector EMPTY = new TagVector(new double[DIM]);
+
+  private final double[] values;
+
+  private TagVector(double[] values) {
+    this.values = values;
+  }
+
+  public static TagVector empty() {
+    return EMPTY;
+  }
+
+  /** 태그 점수 Map (태깅 서비스의 한글 라벨/enum 이름) → 벡터, 알 수 없는 키는 무시 */
+  public static TagVector fromScores(Map<String, Double> scores) {
+    if (scores == null || scores.isEmpty()) return EMPTY;
+    double[] v = new double[DIM];
+    for (Map.Entry<String, Double> e : scores.entrySet()) {
+      MemberTag tag = RecommendationTagService.resolveTag(e.getKey());
+      if (tag != null && e.getValue() != null) v[tag.ordinal()] += e.getValue();
+    }
+    return new TagVector(v);
+  }
+
+  public static TagVector fromTagScores(List<MemberTagScore> scores) {
+    if (scores == null || scores.isEmpty()) return EMPTY;
+    double[] v = new double[DIM];
+    for (MemberTagScore s : scores) v[s.getMemberTag().ordinal()] += s.getScore();
+    return new TagVector(v);
+  }
+
+  public boolean isEmpty() {
+    for (double x : values) if (x != 0) return false;
+    return true;
+  }
+
+  public double dot(TagVector other) {
+    double[] a = values, b = other.values;
+    double dot = 0;
+    for (int d = 0; d < DIM; d++) dot += a[d] * b[d];
+    return dot;
+  }
+
+  public double norm() {
+    return Math.sqrt(dot(this));
+  }
+
+  /** this * (1 - weightOther) + other * weightOther */
+  public TagVector blend(TagVector other, double weightOther) {
+    double weightThis = 1 - weightOther;
+    double[] out = new double[DIM];
+    for (int d = 0; d < DIM; d++) out[d] = values[d] * weightThis + other.values[d] * weightOther;
+    return new TagVector(out);
+  }
+
+  /** L2 정규화한 float[DIM] (추천 인덱스용), 0 벡터면 null */
+  public float[] normalizedFloats() {
+    double n = norm();
+    if (n == 0) return null;
+    double inv = 1.0 / n;
+    float[] out = new float[DIM];
+    for (int d = 0; d < DIM; d++) out[d] = (float) (values[d] * inv);
+    return out;
+  }
+
+  /** API 응답 등 Map 이 필요한 곳용 (0 인 태그 제외, enum 이름 키) */
+  public Map<String, Double> toMap() {
+    Map<String, Double> map = new LinkedHashMap<>();
+    MemberTag[] tags = MemberTag.values();
+    for (int d = 0; d < DIM; d++) if (values[d] != 0) map.put(tags[d].name(), values[d]);
+    return map;
+  }
+
+  public String encode() {
+    float[] v = new float[DIM];
+    for (int d = 0; d < DIM; d++) v[d] = (float) values[d];
+    return encodeFloats(v);
+  }
+
+  public static TagVector decode(String encoded) {
+    float[] f = decodeFloats(encoded);
+    double[] v = new double[DIM];
+    for (int d = 0; d < DIM; d++) v[d] = f[d];
+    return new TagVector(v);
+  }
+
+  /** float[DIM] → float32(little-endian) Base64 (회원 벡터와 추천 인덱스 스냅샷 공통 형식) */
+  static String encodeFloats(float[] v) {
+    ByteBuffer buf = ByteBuffer.allocate(ENCODED_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (float x : v) buf.putFloat(x);
+    return Base64.getEncoder().encodeToString(buf.array());
+  }
+
+  static float[] decodeFloats(String encoded) {
+    byte[] bytes = Base64.getDecoder().decode(encoded);
+    if (bytes.length != ENCODED_BYTES) {
+      throw new IllegalArgumentException("태그 벡터 길이 불일치: " + bytes.length);
+    }
+    ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    float[] v = new float[DIM];
+    for (int d = 0; d < DIM; d++) v[d] = buf.getFloat();
+    return v;
+  }
+
+  @Override
+  public String toString() {
+    return toMap().toString();
+  }
+}
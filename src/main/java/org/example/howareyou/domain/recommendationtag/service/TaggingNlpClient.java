@@ -1,10 +1,9 @@
 package org.example.howareyou.domain.recommendationtag.service;
 
-import lombok.Data;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.recommendationtag.dto.ClassifyRequest;
 import org.example.howareyou.domain.recommendationtag.dto.ClassifyResponse;
+import org.example.howareyou.global.resilience.OutboundResilience;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -14,44 +13,62 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 태깅 FastAPI 클라이언트
+ *  - 모든 호출은 OutboundResilience(tagging) 로 보호
+ *  - 서킷 OPEN / 동시성 초과 시 즉시 빈 Map 반환 → 호출 측은 MemberTagScore 폴백 사용
+ */
 @Slf4j
 @Component
 public class TaggingNlpClient {
 
   private final WebClient webClient;
+  private final OutboundResilience resilience;
 
-  public TaggingNlpClient(@Qualifier("taggingNlpWebClient") WebClient webClient) {
+  public TaggingNlpClient(@Qualifier("taggingNlpWebClient") WebClient webClient,
+                          OutboundResilience resilience) {
     this.webClient = webClient;
+    this.resilience = resilience;
   }
 
   public Map<String, Double> classifyWords(List<String> words) {
-    try {
-      return webClient.post()
-          .uri("/classify")
-          .bodyValue(new ClassifyRequest(words))
-          .retrieve()
-          .bodyToMono(ClassifyResponse.class)
-          .timeout(Duration.ofSeconds(3))
-          .map(ClassifyResponse::getScores)
-          .block();
-    } catch (Exception e) {
-      log.error("Tagging classifyWords 실패: {}", e.getMessage());
-      return Map.of();
-    }
+    Mono<Map<String, Double>> call = webClient.post()
+        .uri("/classify")
+        .bodyValue(new ClassifyRequest(words))
+        .retrieve()
+        .bodyToMono(ClassifyResponse.class)
+        .timeout(Duration.ofSeconds(3))
+        .map(ClassifyResponse::getScores);
+
+    return blockWithFallback(resilience.mono(OutboundResilience.TAGGING, call), "classifyWords");
   }
 
   public Map<String, Double> classifyMember(long memberId) {
+    return blockWithFallback(classifyMemberReactive(memberId), "classifyMember");
+  }
+
+  /** 멤버 단어장 기반 태깅 (논블로킹, 타임아웃은 TimeLimiter(tagging)) */
+  public Mono<Map<String, Double>> classifyMemberReactive(long memberId) {
+    Mono<Map<String, Double>> call = webClient.get()
+        .uri("/members/{id}/classify", memberId)
+        .retrieve()
+        .bodyToMono(ClassifyResponse.class)
+        .map(ClassifyResponse::getScores);
+
+    return resilience.mono(OutboundResilience.TAGGING, call);
+  }
+
+  private Map<String, Double> blockWithFallback(Mono<Map<String, Double>> call, String operation) {
     try {
-      return webClient.get()
-          .uri("/members/{id}/classify", memberId)
-          .retrieve()
-          .bodyToMono(ClassifyResponse.class)
-          .timeout(Duration.ofSeconds(5))
-          .map(ClassifyResponse::getScores)
-          .block();
+      Map<String, Double> scores = call.block();
+      return scores == null ? Map.of() : scores;
     } catch (Exception e) {
-      log.error("Tagging classifyMember 실패: {}", e.getMessage());
+      if (OutboundResilience.isRejected(e)) {
+        log.debug("Tagging {} 거절(서킷/벌크헤드): {}", operation, e.getMessage());
+      } else {
+        log.error("Tagging {} 실패: {}", operation, e.getMessage());
+      }
       return Map.of();
     }
   }
-}
\ No newline at end of file
+}
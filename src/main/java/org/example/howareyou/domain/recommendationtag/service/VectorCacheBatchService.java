@@ -1,52 +1,194 @@
 package org.example.howareyou.domain.recommendationtag.service;
 
-import java.util.HashMap;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+/**
+ * ✅ 전체 회원 태그 벡터 갱신 배치 (하루 1회)
+ *  1) MemberTagScore 의 memberId 를 키셋 페이지로 조회
+ *  2) 페이지마다 기존 벡터 MGET 1회
+ *  3) 태깅 서비스 호출은 초당 호출 수(calls-per-second)로 간격을 두고, 동시성 제한(concurrency) 안에서 논블로킹으로 병렬 실행
+ *     (tagging RateLimiter 는 대기 없이 거절하므로 배치가 한도를 다 쓰지 않도록 그보다 낮게)
+ *  4) 오늘 벡터와 가중 평균 → 파이프라인 SET + 추천 인덱스 일괄 반영
+ *  5) 페이지마다 실패한 memberId 를 Redis Set 에 모은 뒤 체크포인트 저장
+ *     → 같은 날 다시 실행하면 실패 회원부터 재시도하고 체크포인트 이후로 이어서 처리
+ *
+ * 태깅 실패/거절된 회원은 기존 벡터를 그대로 둠
+ * 페이지 시간 제한(page-timeout)을 넘기면 남은 호출을 취소하고 끝난 회원만 반영, 나머지는 실패로 기록
+ * 메트릭: vector.refresh.members{result=updated|failed}
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class VectorCacheBatchService {
 
+  private static final String CHECKPOINT_KEY = "member:vector:refresh:checkpoint";
+  private static final String FAILED_KEY_PREFIX = "member:vector:refresh:failed:";   // + 날짜
+  private static final double weightB = 0.5;
+
   private final MemberTagScoreRepository tagScoreRepository;
-  private final RecommendationTagService tagService;
+  private final TaggingNlpClient taggingNlpClient;
   private final MemberVectorRedisService redisService;
+  private final RedisTemplate<String, String> redisTemplate;
+  private final int pageSize;
+  private final int concurrency;
+  private final Duration callInterval;
+  private final Duration pageTimeout;
+  private final Counter updatedCounter;
+  private final Counter failedCounter;
 
-  private final static double weightB = 0.5;
+  public VectorCacheBatchService(MemberTagScoreRepository tagScoreRepository,
+                                 TaggingNlpClient taggingNlpClient,
+                                 MemberVectorRedisService redisService,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${recommendation.vector-refresh.page-size:500}") int pageSize,
+                                 @Value("${recommendation.vector-refresh.concurrency:8}") int concurrency,
+                                 @Value("${recommendation.vector-refresh.calls-per-second:40}") int callsPerSecond,
+                                 @Value("${recommendation.vector-refresh.page-timeout-minutes:10}") long pageTimeoutMinutes) {
+    this.tagScoreRepository = tagScoreRepository;
+    this.taggingNlpClient = taggingNlpClient;
+    this.redisService = redisService;
+    this.redisTemplate = redisTemplate;
+    this.pageSize = pageSize;
+    this.concurrency = concurrency;
+    this.callInterval = Duration.ofNanos(1_000_000_000L / Math.max(callsPerSecond, 1));
+    this.pageTimeout = Duration.ofMinutes(pageTimeoutMinutes);
+    this.updatedCounter = Counter.builder("vector.refresh.members").tag("result", "updated").register(meterRegistry);
+    this.failedCounter = Counter.builder("vector.refresh.members").tag("result", "failed").register(meterRegistry);
+  }
 
   /** 모든 사용자 벡터 캐싱 (하루 1회) */
   public void cacheAllMemberVectors() {
-    List<Long> allMemberIds = tagScoreRepository.findDistinctMemberIds();
-    for (Long memberId : allMemberIds) {
-      Map<String, Double> todayVector = tagService.refreshMemberScores(memberId);
-      Map<String, Double> existing = redisService.getMemberVector(memberId);
+    String today = LocalDate.now().toString();
+    String failedKey = FAILED_KEY_PREFIX + today;
+    long afterId = resumePoint(today);
+    if (afterId > 0) {
+      log.info("🔁 벡터 갱신 이어서 실행 - memberId > {}", afterId);
+      retryFailed(failedKey);
+    } else {
+      redisTemplate.delete(failedKey);   // 처음부터 도는 실행은 모든 회원을 다시 처리
+    }
+
+    long startedAt = System.nanoTime();
+    int processed = 0, updated = 0, failed = 0;
+
+    while (true) {
+      List<Long> ids = tagScoreRepository.findDistinctMemberIdsAfter(afterId, PageRequest.of(0, pageSize));
+      if (ids.isEmpty()) break;
+
+      List<Long> pageFailed = refreshPage(ids);
+      processed += ids.size();
+      updated += ids.size() - pageFailed.size();
+      failed += pageFailed.size();
+
+      // 실패 회원을 먼저 기록한 뒤 체크포인트 (체크포인트만 저장되고 실패가 빠지는 경우 없음)
+      afterId = ids.get(ids.size() - 1);
+      recordFailed(failedKey, pageFailed);
+      saveCheckpoint(today, afterId);
+
+      double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+      log.info("🔄 벡터 갱신 진행 - {}명 처리 (갱신 {}, 실패 {}), {} members/s, 마지막 memberId={}",
+          processed, updated, failed, String.format("%.1f", processed / seconds), afterId);
+      if (ids.size() < pageSize) break;
+    }
 
-      // 오늘 벡터 + 기존 벡터 가중 평균
-      Map<String, Double> finalVector = blendVectors(existing, todayVector);
+    redisTemplate.delete(List.of(CHECKPOINT_KEY, failedKey));
+    double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+    log.info("✅ 벡터 갱신 완료 - {}명 (갱신 {}, 실패 {}), {}s", processed, updated, failed, String.format("%.1f", seconds));
+  }
 
-      redisService.saveMemberVector(memberId, finalVector);
+  /** 같은 날 앞선 실행에서 실패한 회원 재시도 (성공한 회원은 목록에서 제거) */
+  private void retryFailed(String failedKey) {
+    Set<String> members = redisTemplate.opsForSet().members(failedKey);
+    if (members == null || members.isEmpty()) return;
+    List<Long> ids = members.stream().map(Long::valueOf).sorted().toList();
+    int recovered = 0;
+    for (int from = 0; from < ids.size(); from += pageSize) {
+      List<Long> page = ids.subList(from, Math.min(from + pageSize, ids.size()));
+      Set<Long> stillFailed = new HashSet<>(refreshPage(page));
+      Object[] succeeded = page.stream().filter(id -> !stillFailed.contains(id)).map(String::valueOf).toArray();
+      if (succeeded.length > 0) redisTemplate.opsForSet().remove(failedKey, succeeded);
+      recovered += succeeded.length;
     }
+    log.info("🔁 벡터 갱신 실패 회원 재시도 - {}명 중 {}명 갱신", ids.size(), recovered);
   }
 
-  /** 단순 가중 평균 */
-  private Map<String, Double> blendVectors(Map<String, Double> a, Map<String, Double> b) {
-    Set<String> allKeys = new HashSet<>();
-    allKeys.addAll(a.keySet());
-    allKeys.addAll(b.keySet());
+  /**
+   * 한 페이지 갱신
+   * @return 갱신하지 못한 memberId (태깅 실패/거절, 시간 제한 초과)
+   */
+  private List<Long> refreshPage(List<Long> ids) {
+    Map<Long, TagVector> existing = redisService.getMemberVectors(ids);
+    Map<Long, TagVector> updated = new ConcurrentHashMap<>();
+
+    try {
+      Flux.fromIterable(ids)
+          .delayElements(callInterval)   // 호출 시작 간격 → 초당 calls-per-second 이하
+          .flatMap(id -> taggingNlpClient.classifyMemberReactive(id)
+              .doOnNext(scores -> {
+                // 오늘 벡터 + 기존 벡터 가중 평균
+                TagVector today = TagVector.fromScores(scores);
+                updated.put(id, existing.getOrDefault(id, TagVector.empty()).blend(today, weightB));
+              })
+              .onErrorResume(e -> {
+                log.debug("벡터 갱신 태깅 실패 - memberId={}: {}", id, e.getMessage());
+                return Mono.empty();
+              }), concurrency)
+          .then()
+          .block(pageTimeout);
+    } catch (IllegalStateException e) {
+      // block 시간 초과 → 구독 취소로 남은 호출은 중단, 끝난 회원만 반영
+      log.warn("⚠️ 벡터 갱신 페이지 시간 초과 - {}명 중 {}명만 갱신 ({}~{})",
+          ids.size(), updated.size(), ids.get(0), ids.get(ids.size() - 1));
+    }
+
+    Map<Long, TagVector> done = Map.copyOf(updated);
+    redisService.saveMemberVectors(done);
+    List<Long> failed = ids.stream().filter(id -> !done.containsKey(id)).toList();
+    updatedCounter.increment(done.size());
+    failedCounter.increment(failed.size());
+    return failed;
+  }
 
-    double weightA = 1 - weightB;
+  private void recordFailed(String failedKey, List<Long> failed) {
+    if (failed.isEmpty()) return;
+    redisTemplate.opsForSet().add(failedKey, failed.stream().map(String::valueOf).toArray(String[]::new));
+    redisTemplate.expire(failedKey, Duration.ofDays(1));
+  }
+
+  /** 같은 날 중단된 실행이 있으면 마지막으로 끝낸 memberId, 없으면 0 */
+  private long resumePoint(String today) {
+    try {
+      String checkpoint = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+      if (checkpoint == null) return 0L;
+      String[] parts = checkpoint.split("\\|");
+      return parts.length == 2 && parts[0].equals(today) ? Long.parseLong(parts[1]) : 0L;
+    } catch (Exception e) {
+      log.warn("⚠️ 벡터 갱신 체크포인트 조회 실패 → 처음부터: {}", e.getMessage());
+      return 0L;
+    }
+  }
 
-    Map<String, Double> result = new HashMap<>();
-    for (String key : allKeys) {
-      double va = a.getOrDefault(key, 0.0);
-      double vb = b.getOrDefault(key, 0.0);
-      result.put(key, va * weightA + vb * weightB);
+  private void saveCheckpoint(String today, long afterId) {
+    try {
+      redisTemplate.opsForValue().set(CHECKPOINT_KEY, today + "|" + afterId, Duration.ofDays(1));
+    } catch (Exception e) {
+      log.warn("⚠️ 벡터 갱신 체크포인트 저장 실패: {}", e.getMessage());
     }
-    return result;
   }
 }
@@ -18,7 +18,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
+/**
+ * 번역 API — 번역 엔진 호출은 논블로킹(Mono), 응답이 올 때까지 서블릿 스레드를 잡지 않음 (MVC 비동기 처리)
+ */
 @RestController
 @RequestMapping("/api/translate")
 @RequiredArgsConstructor
@@ -52,7 +56,7 @@ public class TranslateController {
             )
     })
     @PostMapping("/basic")
-    public ResponseEntity<TranslateResponseDto> translateBasic(
+    public Mono<ResponseEntity<TranslateResponseDto>> translateBasic(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "번역 요청 DTO",
@@ -61,8 +65,7 @@ public class TranslateController {
             )
             TranslateRequestDto requestDto
     ){
-        TranslateResponseDto responseDto = liberTranslateService.translate(requestDto);
-        return ResponseEntity.ok(responseDto);
+        return liberTranslateService.translate(requestDto).map(ResponseEntity::ok);
     }
 
     @Operation(
@@ -90,7 +93,7 @@ public class TranslateController {
             )
     })
     @PostMapping("/specific")
-    public ResponseEntity<TranslateResponseDto> translateSpecific(
+    public Mono<ResponseEntity<TranslateResponseDto>> translateSpecific(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "번역 요청 DTO",
@@ -99,8 +102,7 @@ public class TranslateController {
             )
             TranslateRequestDto requestDto
     ){
-        TranslateResponseDto responseDto = geminiTranslateService.translate(requestDto);
-        return ResponseEntity.ok(responseDto);
+        return geminiTranslateService.translate(requestDto).map(ResponseEntity::ok);
     }
 
     @Operation(
@@ -128,7 +130,7 @@ public class TranslateController {
             )
     })
     @PostMapping("/detect")
-    public ResponseEntity<LanguageDetectionResponseDto> detectLanguage(
+    public Mono<ResponseEntity<LanguageDetectionResponseDto>> detectLanguage(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "언어 감지 요청 DTO",
@@ -137,8 +139,7 @@ public class TranslateController {
             )
             TranslateRequestDto requestDto
     ){
-        LanguageDetectionResponseDto responseDto = liberTranslateService.detectLanguage(requestDto.getQ());
-        return ResponseEntity.ok(responseDto);
+        return liberTranslateService.detectLanguage(requestDto.getQ()).map(ResponseEntity::ok);
     }
 
     @Operation(
@@ -166,7 +167,7 @@ public class TranslateController {
             )
     })
     @PostMapping("/auto")
-    public ResponseEntity<TranslateResponseDto> translateAuto(
+    public Mono<ResponseEntity<TranslateResponseDto>> translateAuto(
             @RequestBody
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "자동 번역 요청 DTO (source, target 생략 가능)",
@@ -175,7 +176,6 @@ public class TranslateController {
             )
             TranslateRequestDto requestDto
     ){
-        TranslateResponseDto responseDto = liberTranslateService.translateAuto(requestDto);
-        return ResponseEntity.ok(responseDto);
+        return liberTranslateService.translateAuto(requestDto).map(ResponseEntity::ok);
     }
 }
@@ -1,89 +1,148 @@
 package org.example.howareyou.domain.translate.service;
 
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.translate.dto.TranslateRequestDto;
 import org.example.howareyou.domain.translate.dto.TranslateResponseDto;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
+import org.example.howareyou.global.resilience.OutboundResilience;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * 간소화된 Gemini 번역 서비스.
  * - 강력한 context(prompt)만 넣고, 응답 튜닝 로직은 제거.
  * - 가능한 가장 직접적인 번역 문자열을 그대로 반환하되, 앞뒤 공백/따옴표만 정리.
+ * - geminiWebClient (전용 커넥션 풀, 타임아웃, API 키 헤더) 로 논블로킹 호출, 결과는 TranslationCache 를 거침
  */
-@Service
-@RequiredArgsConstructor
 @Slf4j
+@Service
 public class GeminiTranslateService {
 
-    @Value("${gemini.base-url}")
-    private String baseUrl;
-
-    @Value("${gemini.model}")
-    private String model; // ex: "gemini-1.5" or "gemini-2.5-flash"
-
-    @Value("${gemini.api-key}")
-    private String apiKey;
-
-    private final RestTemplate restTemplate;
+    private final String model; // ex: "gemini-1.5" or "gemini-2.5-flash"
+    private final URI endpoint;
+
+    private final WebClient geminiWebClient;
+    private final OutboundResilience resilience;
+    private final TranslationCache translationCache;
+    private final TranslateMetrics metrics;
+
+    public GeminiTranslateService(@Value("${gemini.base-url}") String baseUrl,
+                                  @Value("${gemini.model}") String model,
+                                  @Qualifier("geminiWebClient") WebClient geminiWebClient,
+                                  OutboundResilience resilience,
+                                  TranslationCache translationCache,
+                                  TranslateMetrics metrics) {
+        this.model = model;
+        // 엔드포인트 결정 (flash 모델은 generateContent, 아니면 generateText)
+        // models/{model}:action 형태라 WebClient baseUrl 에 붙이지 않고 절대 URI 로 호출
+        String action = model.toLowerCase().contains("flash") ? ":generateContent" : ":generateText";
+        this.endpoint = UriComponentsBuilder.fromHttpUrl(String.format("%s/models/%s%s", baseUrl, model, action))
+                .build().toUri();
+        this.geminiWebClient = geminiWebClient;
+        this.resilience = resilience;
+        this.translationCache = translationCache;
+        this.metrics = metrics;
+    }
 
     /**
      * Gemini Api를 사용한 번역 기능을 담당하는 메인 메소드 입니다.
      * @param   requestDto  text,source_language,target_language가 포함되어있습니다.
      * @return  responseDto  번연된 text가 리턴됩니다.
      */
-    public TranslateResponseDto translate(TranslateRequestDto requestDto) {
+    public Mono<TranslateResponseDto> translate(TranslateRequestDto requestDto) {
         String q = requestDto.getQ();
         String source = requestDto.getSource();
         String target = requestDto.getTarget();
 
-        // 엔드포인트 결정 (flash 모델은 generateContent, 아니면 generateText)
-        String action = model.toLowerCase().contains("flash") ? ":generateContent" : ":generateText";
-        String endpoint = String.format("%s/models/%s%s", baseUrl, model, action);
-        String url = UriComponentsBuilder.fromHttpUrl(endpoint).toUriString();
+        // 캐시 조회 (같은 원문/언어쌍의 동시 요청은 Gemini 호출 1회로 합침)
+        return translationCache.translate(OutboundResilience.GEMINI, source, target, q,
+                        () -> requestTranslation(source, target, q))
+                .map(translated -> {
+                    TranslateResponseDto dto = new TranslateResponseDto();
+                    dto.setTranslatedText(translated);
+                    return dto;
+                });
+    }
 
+    /**
+     * Gemini Api 호출
+     * @return 정리된 번역 text
+     */
+    private Mono<String> requestTranslation(String source, String target, String q) {
         // 강력한 프롬프트 생성
         String prompt = buildPrompt(source, target, q);
 
-        log.info("Gemini API 호출. model={}, url={}", model, url);
+        log.info("Gemini API 호출. model={}, url={}", model, endpoint);
 
         // 요청 구성
         Map<String, Object> part = Map.of("text", prompt);
         Map<String, Object> content = Map.of("parts", List.of(part));
         Map<String, Object> payload = Map.of("contents", List.of(content));
 
-        //header 구성
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("X-Goog-Api-Key", apiKey);
-
-        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(payload, headers);
-
-        String translated;
-        try {
-            //restTemplate을 사용한 요청
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, requestEntity, Map.class);
-            translated = extractSimpleTranslation(response);
-        } catch (Exception e) {
-            log.error("Gemini 호출 실패", e);
-            throw new CustomException(ErrorCode.GM_SERVICE_UNAVAILABLE);
-        }
-
-        // 기본 정리: 따옴표 제거, 트림
-        translated = cleanBasic(translated);
+        // API 키 헤더는 geminiWebClient 기본 헤더
+        Mono<Map<String, Object>> call = geminiWebClient.post()
+                .uri(endpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
+                .switchIfEmpty(Mono.error(() -> new CustomException(ErrorCode.GM_PARSE_FAILURE)));
+
+        // 서킷브레이커/벌크헤드/호출률 제한/시간 제한 적용
+        Mono<Map<String, Object>> guarded = resilience.mono(OutboundResilience.GEMINI, call)
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    if (OutboundResilience.isRejected(e)) {
+                        log.warn("Gemini 호출 거절(서킷/벌크헤드/호출률): {}", e.getMessage());
+                    } else {
+                        log.error("Gemini 호출 실패", e);
+                    }
+                    return new CustomException(toErrorCode(e));
+                });
+        return metrics.record(OutboundResilience.GEMINI, TranslateMetrics.TRANSLATE, guarded)
+                .flatMap(body -> {
+                    // 기본 정리: 따옴표 제거, 트림
+                    String extracted = extractSimpleTranslation(body);
+                    if (extracted != null) return Mono.just(cleanBasic(extracted));
+                    // 마지막 fallback: 전체 body 문자열 (캐시하지 않음)
+                    log.warn("Gemini 응답에서 번역문을 찾지 못함 → 응답 본문 그대로 반환 (캐시 안 함)");
+                    return TranslationCache.uncached(cleanBasic(body.toString()));
+                });
+    }
 
-        TranslateResponseDto dto = new TranslateResponseDto();
-        dto.setTranslatedText(translated);
-        return dto;
+    private static ErrorCode toErrorCode(Throwable e) {
+        if (e instanceof RequestNotPermitted) return ErrorCode.GM_RATE_LIMIT;
+        if (OutboundResilience.isRejected(e)) return ErrorCode.GM_SERVICE_UNAVAILABLE;
+        if (e instanceof TimeoutException) return ErrorCode.GM_TIMEOUT;
+        if (e instanceof WebClientRequestException) return ErrorCode.GM_CONNECTION_FAILURE;
+        if (e instanceof DecodingException) return ErrorCode.GM_PARSE_FAILURE;
+        if (e instanceof WebClientResponseException r) {
+            return switch (r.getStatusCode().value()) {
+                case 400 -> ErrorCode.GM_BAD_REQUEST;
+                case 401 -> ErrorCode.GM_UNAUTHORIZED;
+                case 403 -> ErrorCode.GM_FORBIDDEN;
+                case 404 -> ErrorCode.GM_NOT_FOUND;
+                case 429 -> ErrorCode.GM_RATE_LIMIT;
+                default -> r.getStatusCode().is5xxServerError()
+                        ? ErrorCode.GM_SERVICE_UNAVAILABLE : ErrorCode.GM_UNKNOWN;
+            };
+        }
+        return ErrorCode.GM_SERVICE_UNAVAILABLE;
     }
 
     /**
@@ -123,15 +182,10 @@ public class GeminiTranslateService {
     }
     /**
      * Gemini Api 응답에서 필요한 text를 추출합니다.
-     * @param response Gemini Api Response
-     * @return target language로 변환된 text
+     * @param body Gemini Api Response body
+     * @return target language로 변환된 text (찾지 못하면 null)
      */
-    @SuppressWarnings("unchecked")
-    private String extractSimpleTranslation(ResponseEntity<Map> response) {
-        if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
-            throw new CustomException(ErrorCode.GM_PARSE_FAILURE);
-        }
-        Map<String, Object> body = response.getBody();
+    private String extractSimpleTranslation(Map<String, Object> body) {
 
         // 1. candidates[0].content.parts[0].text
         if (body.get("candidates") instanceof List<?> candidatesList && !candidatesList.isEmpty()) {
@@ -174,8 +228,8 @@ public class GeminiTranslateService {
             }
         }
 
-        // 마지막 fallback: 전체 body 문자열
-        return body.toString();
+        // 찾지 못함 → 호출 측에서 fallback
+        return null;
     }
     /*
     * 받은 문자열의 앞뒤 공백을 제거하고, 양끝에 감싸진 따옴표 (" 또는 “ ”)를 제거합니다.
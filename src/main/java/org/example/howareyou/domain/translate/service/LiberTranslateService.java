@@ -1,37 +1,74 @@
 package org.example.howareyou.domain.translate.service;
 
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.translate.dto.TranslateRequestDto;
 import org.example.howareyou.domain.translate.dto.TranslateResponseDto;
 import org.example.howareyou.domain.translate.dto.LanguageDetectionResponseDto;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
+import org.example.howareyou.global.exception.CustomException;
+import org.example.howareyou.global.exception.ErrorCode;
+import org.example.howareyou.global.resilience.OutboundResilience;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.codec.DecodingException;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
+/**
+ * NLP Server(LiberTranslate) 번역/언어 감지
+ * - translateWebClient (전용 커넥션 풀, 연결/응답 타임아웃) 로 논블로킹 호출
+ * - 결과는 TranslationCache 를 거침 (같은 원문/언어쌍 동시 요청은 호출 1회)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class LiberTranslateService {
-    @Value("${libretranslate.host}")
-    private String host;
 
-    @Value("${libretranslate.port}")
-    private String port;
+    private final WebClient translateWebClient;
+    private final OutboundResilience resilience;
+    private final TranslationCache translationCache;
+    private final TranslateMetrics metrics;
+
+    public LiberTranslateService(@Qualifier("translateWebClient") WebClient translateWebClient,
+                                 OutboundResilience resilience,
+                                 TranslationCache translationCache,
+                                 TranslateMetrics metrics) {
+        this.translateWebClient = translateWebClient;
+        this.resilience = resilience;
+        this.translationCache = translationCache;
+        this.metrics = metrics;
+    }
 
-    private final RestTemplate restTemplate;
     /**
     * NLP Server(LiberTranslate)를 사용한 번역 메인 메소드입니다.
      * @param   requestDto  text,source_language,target_language가 포함되어있습니다.
      * @return  responseDto  번역된 text가 리턴됩니다.
      */
-    public TranslateResponseDto translate(TranslateRequestDto requestDto){
-        //request url 설정 (LiberTranslate endpoint)
-        String url = "http://" + host + ":" + port+"/translate";
+    public Mono<TranslateResponseDto> translate(TranslateRequestDto requestDto){
+        //캐시 조회 (같은 원문/언어쌍의 동시 요청은 번역 서버 호출 1회로 합침)
+        return translationCache.translate(OutboundResilience.LIBRETRANSLATE,
+                        requestDto.getSource(), requestDto.getTarget(), requestDto.getQ(),
+                        () -> requestTranslation(requestDto))
+                .map(translatedText -> {
+                    //응답 DTO 생성 후 반환
+                    TranslateResponseDto responseDto = new TranslateResponseDto();
+                    responseDto.setTranslatedText(translatedText);
+                    return responseDto;
+                });
+    }
+
+    /**
+     * LiberTranslate /translate 호출
+     * @return 번역된 text
+     */
+    private Mono<String> requestTranslation(TranslateRequestDto requestDto){
         //body 설정
         Map<String,Object> payload = Map.of(
                     "q",requestDto.getQ(),
@@ -40,22 +77,19 @@ public class LiberTranslateService {
                     "format","text",
                     "api_key","" //로컬에서 서버를 띄었기에 api키는 필요하지 않음
             );
-        //header 설정
-        HttpHeaders transHeaders = new HttpHeaders();
-        transHeaders.setContentType(MediaType.APPLICATION_JSON);
-
-        //restTemplate으로 인한 request 날리기
-        HttpEntity<Map<String, Object>> transReq = new HttpEntity<>(payload, transHeaders);
-        ResponseEntity<Map> transResp = restTemplate.postForEntity(url, transReq, Map.class);
 
-        //번역 text 추출
-        Map body = transResp.getBody();
-        String translatedText = (String) body.getOrDefault("translatedText","").toString().replace("\"", "");
+        Mono<Map<String, Object>> call = translateWebClient.post()
+                .uri("/translate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(payload)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {});
 
-        //응답 DTO 생성 후 반환
-        TranslateResponseDto responseDto = new TranslateResponseDto();
-        responseDto.setTranslatedText(translatedText);
-        return responseDto;
+        return metrics.record(OutboundResilience.LIBRETRANSLATE, TranslateMetrics.TRANSLATE, guarded(call))
+                //번역 text 추출 (translatedText 가 없으면 빈 문자열, 캐시하지 않음)
+                .flatMap(body -> body.get("translatedText") == null
+                        ? TranslationCache.uncached("")
+                        : Mono.just(String.valueOf(body.get("translatedText")).replace("\"", "")));
     }
 
     /**
@@ -63,49 +97,24 @@ public class LiberTranslateService {
      * @param text 감지할 텍스트
      * @return LanguageDetectionResponseDto 감지된 언어 정보
      */
-    public LanguageDetectionResponseDto detectLanguage(String text) {
-        // LibreTranslate detect endpoint URL
-        String url = "http://" + host + ":" + port + "/detect";
-        
-        // body 설정
-        Map<String, Object> payload = Map.of(
-            "q", text
-        );
-        
-        // header 설정
-        HttpHeaders detectHeaders = new HttpHeaders();
-        detectHeaders.setContentType(MediaType.APPLICATION_JSON);
-        
-        // RestTemplate으로 언어 감지 요청 (배열 응답 처리)
-        HttpEntity<Map<String, Object>> detectReq = new HttpEntity<>(payload, detectHeaders);
-        ResponseEntity<Object[]> detectResp = restTemplate.postForEntity(url, detectReq, Object[].class);
-        
-        // 응답에서 언어 정보 추출 (배열의 첫 번째 요소)
-        Object[] body = detectResp.getBody();
-        if (body != null && body.length > 0) {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> firstResult = (Map<String, Object>) body[0];
-            
-            String language = (String) firstResult.getOrDefault("language", "en");
-            Object confidenceObj = firstResult.getOrDefault("confidence", 0.0);
-            Double confidence = 0.0;
-            
-            if (confidenceObj instanceof Number) {
-                confidence = ((Number) confidenceObj).doubleValue();
-            }
-            
-            // 응답 DTO 생성 후 반환
-            LanguageDetectionResponseDto responseDto = new LanguageDetectionResponseDto();
-            responseDto.setLanguage(language);
-            responseDto.setConfidence(confidence);
-            return responseDto;
-        }
-        
-        // 기본값 반환
-        LanguageDetectionResponseDto responseDto = new LanguageDetectionResponseDto();
-        responseDto.setLanguage("en");
-        responseDto.setConfidence(0.0);
-        return responseDto;
+    public Mono<LanguageDetectionResponseDto> detectLanguage(String text) {
+        return translationCache.detect(OutboundResilience.LIBRETRANSLATE, text, () -> requestDetection(text));
+    }
+
+    /**
+     * LibreTranslate /detect 호출 (배열 응답의 첫 번째 요소 사용)
+     */
+    private Mono<LanguageDetectionResponseDto> requestDetection(String text) {
+        Mono<List<Map<String, Object>>> call = translateWebClient.post()
+                .uri("/detect")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("q", text))
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
+                .defaultIfEmpty(List.of());
+
+        return metrics.record(OutboundResilience.LIBRETRANSLATE, TranslateMetrics.DETECT, guarded(call))
+                .flatMap(LiberTranslateService::toDetection);
     }
 
     /**
@@ -114,27 +123,80 @@ public class LiberTranslateService {
      * @param requestDto 번역 요청 DTO (source, target 생략 가능)
      * @return TranslateResponseDto 번역된 텍스트
      */
-    public TranslateResponseDto translateAuto(TranslateRequestDto requestDto) {
+    public Mono<TranslateResponseDto> translateAuto(TranslateRequestDto requestDto) {
         String text = requestDto.getQ();
-        
-        // 1단계: 언어 자동 감지
-        LanguageDetectionResponseDto detectedLang = detectLanguage(text);
-        String sourceLang = detectedLang.getLanguage();
-        
-        // 2단계: 타겟 언어 자동 결정 (한국어 ↔ 영어)
-        String targetLang;
-        if ("ko".equals(sourceLang)) {
-            targetLang = "en";
-        } else {
-            targetLang = "ko";
+
+        // 1단계: 언어 자동 감지 (같은 원문이면 캐시된 감지 결과 사용)
+        return detectLanguage(text).flatMap(detectedLang -> {
+            String sourceLang = detectedLang.getLanguage();
+
+            // 2단계: 타겟 언어 자동 결정 (한국어 ↔ 영어)
+            String targetLang;
+            if ("ko".equals(sourceLang)) {
+                targetLang = "en";
+            } else {
+                targetLang = "ko";
+            }
+
+            // 3단계: 번역 실행 (감지 응답을 받은 스레드에서 바로 이어서, 서블릿 스레드는 대기하지 않음)
+            TranslateRequestDto autoRequest = new TranslateRequestDto();
+            autoRequest.setQ(text);
+            autoRequest.setSource(sourceLang);
+            autoRequest.setTarget(targetLang);
+
+            return translate(autoRequest);
+        });
+    }
+
+    /** 감지 결과가 없으면 기본값(en, 0.0) — 기본값은 캐시하지 않음 */
+    private static Mono<LanguageDetectionResponseDto> toDetection(List<Map<String, Object>> body) {
+        if (body.isEmpty() || body.get(0).get("language") == null) {
+            return TranslationCache.uncached(detection("en", 0.0));
+        }
+        Map<String, Object> firstResult = body.get(0);
+
+        String language = String.valueOf(firstResult.get("language"));
+        Object confidenceObj = firstResult.getOrDefault("confidence", 0.0);
+        double confidence = confidenceObj instanceof Number n ? n.doubleValue() : 0.0;
+        return Mono.just(detection(language, confidence));
+    }
+
+    private static LanguageDetectionResponseDto detection(String language, double confidence) {
+        LanguageDetectionResponseDto responseDto = new LanguageDetectionResponseDto();
+        responseDto.setLanguage(language);
+        responseDto.setConfidence(confidence);
+        return responseDto;
+    }
+
+    /**
+     * LibreTranslate 호출을 OutboundResilience(libretranslate)로 감싸고, 실패를 번역 서버 오류 코드로 변환합니다.
+     * 보호 계층이 거절한 경우(서킷 OPEN, 동시성 초과)는 LT_SERVICE_UNAVAILABLE 입니다.
+     */
+    private <T> Mono<T> guarded(Mono<T> call) {
+        return resilience.mono(OutboundResilience.LIBRETRANSLATE, call)
+                .onErrorMap(e -> !(e instanceof CustomException), e -> {
+                    log.warn("LibreTranslate 호출 실패: {}", e.toString());
+                    return new CustomException(toErrorCode(e));
+                });
+    }
+
+    private static ErrorCode toErrorCode(Throwable e) {
+        if (e instanceof RequestNotPermitted) return ErrorCode.LT_RATE_LIMIT;
+        if (OutboundResilience.isRejected(e)) return ErrorCode.LT_SERVICE_UNAVAILABLE;
+        if (e instanceof TimeoutException) return ErrorCode.LT_TIMEOUT;
+        if (e instanceof WebClientRequestException) return ErrorCode.LT_CONNECTION_FAILURE;
+        if (e instanceof DecodingException) return ErrorCode.LT_PARSE_FAILURE;
+        if (e instanceof WebClientResponseException r) {
+            return switch (r.getStatusCode().value()) {
+                case 400 -> ErrorCode.LT_BAD_REQUEST;
+                case 401 -> ErrorCode.LT_UNAUTHORIZED;
+                case 403 -> ErrorCode.LT_FORBIDDEN;
+                case 429 -> ErrorCode.LT_RATE_LIMIT;
+                case 503 -> ErrorCode.LT_SERVICE_UNAVAILABLE;
+                default -> r.getStatusCode().is5xxServerError()
+                        ? ErrorCode.LT_INTERNAL_SERVER_ERROR : ErrorCode.LT_UNEXPECTED_RESPONSE;
+            };
         }
-        
-        // 3단계: 번역 실행
-        TranslateRequestDto autoRequest = new TranslateRequestDto();
-        autoRequest.setQ(text);
-        autoRequest.setSource(sourceLang);
-        autoRequest.setTarget(targetLang);
-        
-        return translate(autoRequest);
+        return ErrorCode.LT_UNKNOWN_PROCESSING_ERROR;
     }
 }
@@ -0,0 +1,47 @@
+package org.example.howareyou.domain.translate.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.howareyou.global.exception.CustomException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * ✅ 번역 엔진 호출 지표
+ *  translate.upstream{engine, operation=translate|detect, outcome=success|에러코드}
+ *  - Timer 라 엔진별 지연(분위수/히스토그램)과 호출 수/에러 수를 함께 봄
+ *  - 캐시 hit 는 외부 호출이 없으므로 기록하지 않음 (translate.cache.requests 참고)
+ */
+@Component
+@RequiredArgsConstructor
+public class TranslateMetrics {
+
+    public static final String TRANSLATE = "translate";
+    public static final String DETECT = "detect";
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> Mono<T> record(String engine, String operation, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call
+                    .doOnSuccess(v -> sample.stop(timer(engine, operation, "success")))
+                    .doOnError(e -> sample.stop(timer(engine, operation, outcome(e))));
+        });
+    }
+
+    private Timer timer(String engine, String operation, String outcome) {
+        return Timer.builder("translate.upstream")
+                .description("번역 엔진 호출 지연/결과")
+                .tag("engine", engine)
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String outcome(Throwable e) {
+        return e instanceof CustomException ce ? ce.getErrorCode().getCode() : e.getClass().getSimpleName();
+    }
+}
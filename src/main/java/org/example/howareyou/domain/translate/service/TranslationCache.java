@@ -0,0 +1,201 @@
+package org.example.howareyou.domain.translate.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.translate.dto.LanguageDetectionResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ✅ 번역 결과 캐시
+ *  - 키: (엔진, source, target, 정규화된 원문 SHA-256) — 언어 감지는 엔진 "{engine}-detect" 로 같은 구조
+ *  - 1차: Caffeine (크기 제한 LRU), 2차: Redis (TTL)
+ *  - single-flight: 같은 키의 동시 요청은 먼저 온 요청의 결과를 구독 → 외부 호출 1회
+ *    (진행 중인 CompletableFuture 를 로컬 캐시에 바로 넣어 두는 방식, 실패하면 캐시에서 빠짐)
+ *  - 논블로킹: 결과는 Mono, Redis 조회/저장은 boundedElastic 스케줄러에서 수행
+ *  - Redis 장애 시 miss 로 취급하고 번역 서버 호출로 진행
+ *  - 응답을 해석하지 못해 쓰는 기본값은 uncached(...) 로 내보내면 캐시하지 않고 이번 요청(과 합쳐진 요청)에만 전달
+ *
+ * 메트릭: translate.cache.requests{engine, result=hit_local|hit_redis|coalesced|miss}
+ */
+@Slf4j
+@Component
+public class TranslationCache {
+
+    private static final String PREFIX = "translate:v2:";   // v2: 줄바꿈 유지 키
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration redisTtl;
+    private final int maxTextLength;
+    private final AsyncCache<String, String> local;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public TranslationCache(RedisTemplate<String, String> redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${translate.cache.local-max-size:20000}") long localMaxSize,
+                            @Value("${translate.cache.local-ttl-minutes:60}") long localTtlMinutes,
+                            @Value("${translate.cache.redis-ttl-days:7}") long redisTtlDays,
+                            @Value("${translate.cache.max-text-length:2000}") int maxTextLength) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.redisTtl = Duration.ofDays(redisTtlDays);
+        this.maxTextLength = maxTextLength;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .buildAsync();
+    }
+
+    /**
+     * 번역 결과 조회 (로컬 → Redis → translator 호출)
+     * 빈 문자열이나 max-text-length 를 넘는 원문은 캐시하지 않고 바로 호출
+     */
+    public Mono<String> translate(String engine, String source, String target, String text,
+                                  Supplier<Mono<String>> translator) {
+        if (text == null || text.isBlank() || text.length() > maxTextLength) return unwrap(Mono.defer(translator));
+        String key = PREFIX + engine + ":" + lang(source) + ":" + lang(target) + ":" + sha256(normalize(text));
+        return unwrap(getOrLoad(engine, key, translator));
+    }
+
+    /** 언어 감지 결과 조회 (값은 "language|confidence" 로 저장) */
+    public Mono<LanguageDetectionResponseDto> detect(String engine, String text,
+                                                     Supplier<Mono<LanguageDetectionResponseDto>> detector) {
+        if (text == null || text.isBlank() || text.length() > maxTextLength) return unwrap(Mono.defer(detector));
+        String detectEngine = engine + "-detect";
+        String key = PREFIX + detectEngine + ":" + sha256(normalize(text));
+        return unwrap(getOrLoad(detectEngine, key, () -> detector.get()
+                .map(detected -> detected.getLanguage() + "|" + detected.getConfidence()))
+                .map(cached -> {
+                    String[] parts = cached.split("\\|", 2);
+                    LanguageDetectionResponseDto dto = new LanguageDetectionResponseDto();
+                    dto.setLanguage(parts[0]);
+                    dto.setConfidence(parts.length == 2 && !"null".equals(parts[1]) ? Double.parseDouble(parts[1]) : 0.0);
+                    return dto;
+                }));
+    }
+
+    /** 캐시하지 않을 값 (번역 서버 응답을 해석하지 못해 쓰는 기본값 등) — loader 가 반환 */
+    public static <T> Mono<T> uncached(T value) {
+        return Mono.error(new UncachedValue(value));
+    }
+
+    /** uncached 값은 실패처럼 캐시를 거치지 않고 전달된 뒤 여기서 다시 값으로 */
+    @SuppressWarnings("unchecked")
+    private static <T> Mono<T> unwrap(Mono<T> result) {
+        return result.onErrorResume(UncachedValue.class, e -> Mono.just((T) e.value));
+    }
+
+    /**
+     * 먼저 온 요청이 로드를 시작하고, 같은 키의 요청은 모두 같은 future 를 구독
+     * 로드는 요청자 구독과 분리되어 있어 먼저 온 요청이 끊겨도 기다리던 요청은 결과를 받음
+     */
+    private Mono<String> getOrLoad(String engine, String key, Supplier<Mono<String>> loader) {
+        return Mono.defer(() -> {
+            CompletableFuture<String> mine = new CompletableFuture<>();
+            CompletableFuture<String> existing = local.asMap().putIfAbsent(key, mine);
+            if (existing != null) {
+                counter(engine, existing.isDone() ? "hit_local" : "coalesced").increment();
+                return Mono.fromFuture(existing, true);
+            }
+
+            load(engine, key, loader).subscribe(
+                    mine::complete,
+                    e -> {
+                        // 실패는 캐시하지 않음 — 기다리던 요청에도 같은 예외 전달
+                        local.asMap().remove(key, mine);
+                        mine.completeExceptionally(e);
+                    },
+                    () -> mine.complete(null)); // 빈 결과는 Caffeine 이 캐시에서 제거
+            return Mono.fromFuture(mine, true);
+        });
+    }
+
+    private Mono<String> load(String engine, String key, Supplier<Mono<String>> loader) {
+        return getRemote(key)
+                .doOnNext(cached -> counter(engine, "hit_redis").increment())
+                .switchIfEmpty(Mono.defer(() -> {
+                    counter(engine, "miss").increment();
+                    return Mono.defer(loader).doOnNext(value -> putRemote(key, value));
+                }));
+    }
+
+    /** Redis 조회도 boundedElastic 에서 (flatMap 안에서 구독되면 Netty 이벤트 루프일 수 있음) */
+    private Mono<String> getRemote(String key) {
+        return Mono.fromCallable(() -> redisTemplate.opsForValue().get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(e -> {
+                    log.warn("⚠️ 번역 캐시 Redis 조회 실패 → miss 처리: {}", e.toString());
+                    return Mono.empty();
+                });
+    }
+
+    /** Redis 저장은 응답을 기다리지 않음 (Netty 스레드에서 블로킹 호출을 하지 않도록 boundedElastic) */
+    private void putRemote(String key, String value) {
+        if (value == null) return;
+        Mono.fromRunnable(() -> redisTemplate.opsForValue().set(key, value, redisTtl))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(null, e -> log.warn("⚠️ 번역 캐시 Redis 저장 실패: {}", e.toString()));
+    }
+
+    private Counter counter(String engine, String result) {
+        return counters.computeIfAbsent(engine + ":" + result, k -> Counter.builder("translate.cache.requests")
+                .tag("engine", engine)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+
+    /* ---------- 정규화 ---------- */
+
+    /**
+     * 유니코드 NFC + 앞뒤 공백 제거 + 가로 공백(스페이스/탭) 압축
+     * 줄바꿈은 줄 단위 번역 결과에 영향을 주므로 유지 (줄 끝/앞 공백만 제거), 대소문자도 유지
+     */
+    static String normalize(String text) {
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC);
+        return nfc.strip()
+                .replaceAll("\\h*\\R\\h*", "\n")
+                .replaceAll("\\h+", " ");
+    }
+
+    private static String lang(String code) {
+        return code == null ? "" : code.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** 캐시를 건너뛰는 값 운반용 (스택 트레이스 없음) */
+    private static final class UncachedValue extends RuntimeException {
+        private final transient Object value;
+
+        private UncachedValue(Object value) {
+            super("uncached translation value", null, false, false);
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.howareyou.domain.vocabulary.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.document.DictionaryData;
+import org.example.howareyou.domain.vocabulary.repository.DictionaryDataRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+/**
+ * dictionary_data 중복 키 정리 (word, pos, dictionaryType)
+ * application.yml에서 migration.dictionary-dedup.enabled=true 일 때 시작 시 실행
+ *  - 키마다 가장 먼저 생성된 문서만 남기고, unique 가 아니던 이전 인덱스(ix_word_pos_type)를 제거
+ *  - VocabularyIndexConfig 가 unique 인덱스(ux_word_pos_type)를 만들기 전에 끝나도록 먼저 동기 실행
+ * (중복이 없으면 아무것도 지우지 않으므로 켜 두어도 안전)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migration.dictionary-dedup.enabled", havingValue = "true")
+public class DictionaryDedupMigrationConfig {
+
+    private static final String LEGACY_INDEX = "ix_word_pos_type";
+
+    private final DictionaryDataRepository dictionaryDataRepository;
+    private final MongoTemplate mongoTemplate;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            long removed = dictionaryDataRepository.removeDuplicateKeys();
+            if (removed > 0) {
+                log.info("✅ dictionary_data 중복 문서 정리 완료 - {}건 삭제", removed);
+            }
+
+            IndexOperations ops = mongoTemplate.indexOps(DictionaryData.class);
+            boolean legacyIndex = ops.getIndexInfo().stream().anyMatch(i -> LEGACY_INDEX.equals(i.getName()));
+            if (legacyIndex) {
+                ops.dropIndex(LEGACY_INDEX);
+                log.info("🗂️ dictionary_data 이전 인덱스 제거: {}", LEGACY_INDEX);
+            }
+        } catch (Exception e) {
+            log.error("❌ dictionary_data 중복 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.howareyou.domain.vocabulary.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * member_vocabulary 날짜 키(words.localDay) 마이그레이션
+ * application.yml에서 migration.vocabulary-local-day.enabled=true 일 때 시작 시 백그라운드 실행
+ * (localDay 가 없는 문서만 수정하므로 매번 켜 두어도 이미 처리된 문서는 건드리지 않음)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migration.vocabulary-local-day.enabled", havingValue = "true")
+public class MemberVocabularyLocalDayMigrationConfig {
+
+    private final MemberVocaBookService memberVocaBookService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        log.info("🚀 member_vocabulary localDay 마이그레이션 시작");
+        CompletableFuture.runAsync(memberVocaBookService::migrateLocalDayKeys)
+                .exceptionally(e -> {
+                    log.error("❌ member_vocabulary localDay 마이그레이션 실패", e);
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.howareyou.domain.vocabulary.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * member_word 컬렉션 백필
+ * application.yml에서 migration.member-word.enabled=true 이고 완료 표시(migration_state)가 없을 때 실행
+ * (사용자별 체크포인트로 이어서 처리, 실패한 사용자가 남으면 완료 표시 없이 끝나 다음 기동 때 다시 시도)
+ * 컬렉션이 비어 있는지로 판단하지 않음 → 중간에 끊긴 백필도 재개됨
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "migration.member-word.enabled", havingValue = "true")
+public class MemberWordBackfillConfig {
+
+    private final MemberVocaBookService memberVocaBookService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfIncomplete() {
+        if (memberVocaBookService.isMemberWordBackfillCompleted()) {
+            log.debug("member_word 백필 완료 표시 있음 → 백필 생략");
+            return;
+        }
+        log.info("🚀 member_word 백필 미완료 → 백그라운드 백필 시작");
+        CompletableFuture.runAsync(memberVocaBookService::backfillMemberWords)
+                .exceptionally(e -> {
+                    log.error("❌ member_word 백필 실패", e);
+                    return null;
+                });
+    }
+}
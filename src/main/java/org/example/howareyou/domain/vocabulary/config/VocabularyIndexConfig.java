@@ -0,0 +1,48 @@
+package org.example.howareyou.domain.vocabulary.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.dashboard.document.DashboardSnapshot;
+import org.example.howareyou.domain.vocabulary.document.ChatRoomVocabulary;
+import org.example.howareyou.domain.vocabulary.document.DictionaryData;
+import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+import java.util.List;
+
+/**
+ * 단어장(+ 대시보드 스냅샷) 관련 Mongo 인덱스 생성
+ * (spring.data.mongodb.auto-index-creation 은 꺼져 있으므로, 문서에 선언한 인덱스를 시작 시 직접 보장)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class VocabularyIndexConfig {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(
+            MemberWord.class, MemberVocabulary.class, ChatRoomVocabulary.class, DictionaryData.class,
+            DashboardSnapshot.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+        for (Class<?> type : INDEXED_DOCUMENTS) {
+            try {
+                IndexOperations ops = mongoTemplate.indexOps(type);
+                resolver.resolveIndexFor(type).forEach(ops::ensureIndex);
+                log.info("🗂️ Mongo 인덱스 확인 완료: {}", type.getSimpleName());
+            } catch (Exception e) {
+                log.error("❌ Mongo 인덱스 생성 실패: {}", type.getSimpleName(), e);
+            }
+        }
+    }
+}
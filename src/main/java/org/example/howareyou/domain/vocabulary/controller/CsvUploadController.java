@@ -7,6 +7,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class CsvUploadController {
@@ -16,7 +18,13 @@ public class CsvUploadController {
 //    @Operation(summary = "csv업로드", description = "csv를 mongoDB에 업로드합니다.")
     @PostMapping("/upload-csv")
     public String uploadCsv(@RequestParam String filename) {
-        csvImportService.importCsv(filename);
-        return "업로드 완료: " + filename;
+        CsvImportService.ImportResult result = csvImportService.importCsv(filename);
+        return "업로드 완료: " + filename + " (" + result.rows() + "행)";
+    }
+
+//    @Operation(summary = "csv 전체 업로드", description = "resources/voca 의 모든 csv를 병렬로 mongoDB에 upsert 합니다.")
+    @PostMapping("/upload-csv/all")
+    public List<CsvImportService.ImportResult> uploadAllCsv() {
+        return csvImportService.importAll();
     }
 }
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
 import org.example.howareyou.domain.vocabulary.dto.AggregatedWordEntry;
+import org.example.howareyou.domain.vocabulary.dto.WordCursorPage;
 import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
@@ -63,6 +64,30 @@ public class MemberVocaBookController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 사용자별 단어장 전체 조회 (키셋 커서)
+     */
+    @Operation(
+            summary = "사용자 전체 단어(중복 제거, 최신 기준) 커서 조회",
+            description = "analyzedAt desc, word, pos 순 키셋 페이지네이션입니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다. withTotal=false면 총개수를 계산하지 않습니다(무한 스크롤)."
+    )
+    @GetMapping("/{membername}/scroll")
+    public ResponseEntity<WordCursorPage<AggregatedWordEntry>> scrollLatestUniqueWords(
+            @Parameter(description = "사용자 이름", example = "user1", required = true)
+            @PathVariable String membername,
+            @RequestParam(required = false) String lang,
+            @RequestParam(required = false) String pos,
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "총개수 포함 여부", example = "true")
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        WordCursorPage<AggregatedWordEntry> result =
+                memberVocaBookService.findLatestUniqueWordsScroll(membername, lang, pos, null, cursor, size, withTotal);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * 특정 사용자의 날짜별 단어장 조회
      * - document ID: membername_yyyy-MM-dd
@@ -127,4 +152,30 @@ public class MemberVocaBookController {
                 memberVocaBookService.findLatestUniqueWordsByLevelPaged(membername, lang, pos, level, page, size);
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    /**
+     * 사용자별 단어장 난이도별 조회 (키셋 커서)
+     */
+    @Operation(
+            summary = "사용자별 단어장 난이도별 커서 조회",
+            description = "난이도별 목록의 키셋 페이지네이션입니다. 응답의 nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회합니다. withTotal=false면 총개수를 계산하지 않습니다(무한 스크롤)."
+    )
+    @GetMapping("/{membername}/level/{level}/scroll")
+    public ResponseEntity<WordCursorPage<AggregatedWordEntry>> scrollLatestUniqueWordsByLevel(
+            @Parameter(description = "사용자 이름", example = "user1", required = true)
+            @PathVariable String membername,
+            @Parameter(description = "레벨(en:a1,a2,b1,b2,c1 / ko:A,B,C)", example = "a1", required = true)
+            @PathVariable String level,
+            @RequestParam(required = false) String lang,
+            @RequestParam(required = false) String pos,
+            @Parameter(description = "직전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @Parameter(description = "총개수 포함 여부", example = "true")
+            @RequestParam(defaultValue = "true") boolean withTotal
+    ) {
+        WordCursorPage<AggregatedWordEntry> result =
+                memberVocaBookService.findLatestUniqueWordsScroll(membername, lang, pos, level, cursor, size, withTotal);
+        return ResponseEntity.ok(result);
+    }
+}
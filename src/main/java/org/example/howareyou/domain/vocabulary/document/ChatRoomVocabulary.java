@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -13,6 +14,8 @@ import java.util.List;
 @Setter
 @Builder
 @Document(collection = "chatroom_vocabulary")
+// 사용자 단어장 배치: chatRoomUuid $in + analyzedAt 범위
+@CompoundIndex(name = "ix_room_analyzed", def = "{'chatRoomUuid': 1, 'analyzedAt': 1}")
 public class ChatRoomVocabulary {
 
     @Id
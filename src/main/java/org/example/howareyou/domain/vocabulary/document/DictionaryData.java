@@ -5,11 +5,14 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
 
 @Document(collection = "dictionary_data")
+// CSV upsert 키 + 단어/품사 매칭 조회 (기존 중복은 DictionaryDedupMigrationConfig 가 정리한 뒤 unique)
+@CompoundIndex(name = "ux_word_pos_type", def = "{'word': 1, 'pos': 1, 'dictionaryType': 1}", unique = true)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -2,6 +2,7 @@ package org.example.howareyou.domain.vocabulary.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -13,6 +14,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "member_vocabulary")
+// 대시보드 기간 조회: membername 일치 + words.localDay 범위 ($elemMatch) 로 인덱스 탐색
+@CompoundIndex(name = "ix_member_local_day", def = "{'membername': 1, 'words.localDay': 1}")
 public class MemberVocabulary {
 
     @Id
@@ -40,6 +43,7 @@ public class MemberVocabulary {
         private String chatRoomUuid;   // 단어가 분석된 채팅방
         private List<String> chatMessageId;   //단어가 쓰인 chatMessageId
         private List<String> example;         // 단어가 쓰인 원문
-        private Instant analyzedAt;    // 분석된 시점
+        private Instant analyzedAt;    // 분석된 시점 (BSON Date)
+        private String localDay;       // 사용자 타임존 기준 analyzedAt 날짜 (yyyy-MM-dd, 생성 시 계산)
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package org.example.howareyou.domain.vocabulary.document;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 사용자별 단어 (member_vocabulary 의 날짜별 문서를 (membername, word, pos) 단위로 미리 합친 컬렉션)
+ *
+ * - 사용자 단어장 생성(generateVocabularyForMember) 시 증분 upsert
+ * - 항상 가장 최신(analyzedAt) 항목의 뜻/레벨/예문을 유지
+ * - 목록/개수 조회는 $unwind/$group 없이 인덱스 범위 스캔으로 처리
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "member_word")
+@CompoundIndexes({
+        @CompoundIndex(name = "uk_member_word", def = "{'membername': 1, 'word': 1, 'pos': 1}", unique = true),
+        @CompoundIndex(name = "ix_member_recent", def = "{'membername': 1, 'analyzedAt': -1, 'word': 1, 'pos': 1}"),
+        @CompoundIndex(name = "ix_member_level_recent", def = "{'membername': 1, 'level': 1, 'analyzedAt': -1, 'word': 1, 'pos': 1}"),
+        @CompoundIndex(name = "ix_member_lang_pos_recent", def = "{'membername': 1, 'lang': 1, 'pos': 1, 'analyzedAt': -1}"),
+        @CompoundIndex(name = "ix_member_pos_recent", def = "{'membername': 1, 'pos': 1, 'analyzedAt': -1}")
+})
+public class MemberWord {
+
+    @Id
+    private String id;
+
+    private String membername;      // 사용자 이름
+    private String word;            // 원문
+    private String pos;             // 품사
+
+    /* ---- 가장 최신 분석 기준 값 ---- */
+    private String meaning;         // 뜻
+    private String lang;            // 원문 언어 en / ko
+    private String level;           // 난이도
+    private String dictionaryType;  // enko / koen
+    private String chatRoomUuid;    // 최근 등장 채팅방
+    private List<String> chatMessageId; // 최근 등장 메시지 ID
+    private List<String> example;       // 최근 예문
+
+    private Instant firstSeenAt;    // 처음 단어장에 들어온 시점
+    private Instant analyzedAt;     // 마지막으로 분석된 시점 (= last seen)
+}
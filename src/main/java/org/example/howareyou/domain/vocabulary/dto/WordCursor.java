@@ -0,0 +1,34 @@
+package org.example.howareyou.domain.vocabulary.dto;
+
+import org.example.howareyou.global.exception.CustomException;
+import org.example.howareyou.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * member_word 키셋 커서: 정렬 키 (analyzedAt desc, word asc, pos asc) 의 마지막 값
+ * 클라이언트에는 base64url 문자열로만 노출
+ */
+public record WordCursor(Instant analyzedAt, String word, String pos) {
+
+    private static final String SEP = "\n";
+
+    public String encode() {
+        String raw = analyzedAt.toEpochMilli() + SEP + word + SEP + pos;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/빈 문자열이면 첫 페이지(null) */
+    public static WordCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEP, 3);
+            return new WordCursor(Instant.ofEpochMilli(Long.parseLong(parts[0])), parts[1], parts[2]);
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 cursor 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.howareyou.domain.vocabulary.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 키셋(search-after) 페이지 응답
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 넘기면 이어서 조회
+ * - total 은 withTotal=false(무한 스크롤) 이면 null
+ */
+@Getter
+@Builder
+public class WordCursorPage<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+    private final Long total;
+}
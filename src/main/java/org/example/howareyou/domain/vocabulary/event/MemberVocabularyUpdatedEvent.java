@@ -0,0 +1,7 @@
+package org.example.howareyou.domain.vocabulary.event;
+
+/**
+ * 사용자 단어(member_word)가 다시 만들어졌을 때 발행
+ * 사용자 단어로 만든 캐시(퀴즈 후보 풀 등)를 무효화하는 용도
+ */
+public record MemberVocabularyUpdatedEvent(String membername) {}
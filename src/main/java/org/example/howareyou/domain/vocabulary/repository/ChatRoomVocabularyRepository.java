@@ -5,7 +5,6 @@ import org.example.howareyou.domain.vocabulary.document.ChatRoomVocabulary;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.time.Instant;
-import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +15,4 @@ public interface ChatRoomVocabularyRepository extends MongoRepository<ChatRoomVo
 
     List<ChatRoomVocabulary> findByAnalyzedAtBetween(Instant start, Instant end);
 
-    List<ChatRoomVocabulary> findByChatRoomUuidInAndAnalyzedAtBetween(
-            Collection<String> roomUuids, Instant start, Instant end);
-
 }
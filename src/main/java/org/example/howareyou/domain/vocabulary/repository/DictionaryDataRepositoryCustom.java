@@ -1,5 +1,6 @@
 package org.example.howareyou.domain.vocabulary.repository;
 
+import com.mongodb.bulk.BulkWriteResult;
 import org.example.howareyou.domain.vocabulary.document.DictionaryData;
 import org.example.howareyou.domain.vocabulary.dto.WordPosPair;
 
@@ -8,4 +9,17 @@ import java.util.List;
 public interface DictionaryDataRepositoryCustom {
     List<DictionaryData> findByWordAndPosPairs(List<WordPosPair> pairs);
 
+    /**
+     * (word, pos, dictionaryType) 기준 unordered bulk upsert — 재import 해도 중복 문서가 생기지 않음
+     * 같은 키가 한 청크에 여러 번 있으면 마지막 행만 반영 (unordered upsert 가 동시에 insert 하지 않도록)
+     * 뜻/레벨은 갱신, createdAt 은 최초 생성 시에만 기록
+     */
+    BulkWriteResult upsertAll(List<DictionaryData> entries);
+
+    /**
+     * (word, pos, dictionaryType) 가 같은 중복 문서 정리 — 키마다 가장 먼저 생성된 문서(_id 순)만 남김
+     * @return 삭제한 문서 수
+     */
+    long removeDuplicateKeys();
+
 }
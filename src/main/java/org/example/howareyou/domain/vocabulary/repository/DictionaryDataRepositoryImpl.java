@@ -1,14 +1,24 @@
 package org.example.howareyou.domain.vocabulary.repository;
 
+import com.mongodb.bulk.BulkWriteResult;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
 import org.example.howareyou.domain.vocabulary.document.DictionaryData;
 import org.example.howareyou.domain.vocabulary.dto.WordPosPair;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Repository
 @RequiredArgsConstructor
@@ -26,4 +36,46 @@ public class DictionaryDataRepositoryImpl implements DictionaryDataRepositoryCus
         Query query = new Query(new Criteria().orOperator(criteriaList));
         return mongoTemplate.find(query, DictionaryData.class);
     }
+
+    @Override
+    public BulkWriteResult upsertAll(List<DictionaryData> entries) {
+        // 청크 안 중복 키 제거 (뒤에 나온 행 우선)
+        Map<List<String>, DictionaryData> byKey = new LinkedHashMap<>();
+        for (DictionaryData d : entries) {
+            byKey.put(Arrays.asList(d.getWord(), d.getPos(), d.getDictionaryType()), d);
+        }
+
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, DictionaryData.class);
+        for (DictionaryData d : byKey.values()) {
+            Query key = new Query(Criteria.where("word").is(d.getWord())
+                    .and("pos").is(d.getPos())
+                    .and("dictionaryType").is(d.getDictionaryType()));
+            Update update = new Update()
+                    .set("meaning", d.getMeaning())
+                    .set("level", d.getLevel())
+                    .setOnInsert("createdAt", d.getCreatedAt());
+            ops.upsert(key, update);
+        }
+        return ops.execute();
+    }
+
+    @Override
+    public long removeDuplicateKeys() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.sort(Sort.by(Sort.Direction.ASC, "_id")),
+                Aggregation.group("word", "pos", "dictionaryType")
+                        .push("_id").as("ids")
+                        .count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1))
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        long removed = 0;
+        for (Document group : mongoTemplate.aggregate(aggregation, DictionaryData.class, Document.class)) {
+            List<?> ids = group.getList("ids", Object.class);
+            List<?> duplicates = ids.subList(1, ids.size());   // 첫 문서만 유지
+            removed += mongoTemplate.remove(new Query(Criteria.where("_id").in(duplicates)), DictionaryData.class)
+                    .getDeletedCount();
+        }
+        return removed;
+    }
 }
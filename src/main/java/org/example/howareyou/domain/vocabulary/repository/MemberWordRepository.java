@@ -0,0 +1,11 @@
+package org.example.howareyou.domain.vocabulary.repository;
+
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface MemberWordRepository extends MongoRepository<MemberWord, String>, MemberWordRepositoryCustom {
+
+    long countByMembername(String membername);
+
+    boolean existsByMembername(String membername);
+}
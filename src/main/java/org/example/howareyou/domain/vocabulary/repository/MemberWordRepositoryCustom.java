@@ -0,0 +1,26 @@
+package org.example.howareyou.domain.vocabulary.repository;
+
+import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
+import org.example.howareyou.domain.vocabulary.dto.WordCursor;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MemberWordRepositoryCustom {
+
+    /** 날짜별 단어장 항목들을 (membername, word, pos) 단위로 증분 upsert */
+    void upsertAll(String membername, Collection<MemberVocabulary.MemberWordEntry> entries);
+
+    /** 최신순 목록 (lang/pos/level 은 null 이면 필터 없음) */
+    List<MemberWord> findLatest(String membername, String lang, String pos, String level, int skip, int limit);
+
+    /**
+     * 키셋 페이지: 커서(마지막 정렬 키) 이후 항목을 limit 개까지
+     * 정렬 (analyzedAt desc, word asc, pos asc) — ix_member_recent 인덱스 순서와 동일
+     */
+    List<MemberWord> findLatestAfter(String membername, String lang, String pos, String level, WordCursor after, int limit);
+
+    /** 목록 조건과 같은 필터의 전체 개수 */
+    long countWords(String membername, String lang, String pos, String level);
+}
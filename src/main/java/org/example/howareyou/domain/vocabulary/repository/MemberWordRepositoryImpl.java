@@ -0,0 +1,123 @@
+package org.example.howareyou.domain.vocabulary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
+import org.example.howareyou.domain.vocabulary.dto.WordCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class MemberWordRepositoryImpl implements MemberWordRepositoryCustom {
+
+    private static final int BULK_CHUNK = 1000;
+    private static final Sort LATEST_ORDER =
+            Sort.by(Sort.Order.desc("analyzedAt"), Sort.Order.asc("word"), Sort.Order.asc("pos"));
+
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 항목당 2개의 연산을 unordered bulk 로 보냄 (실행 순서와 무관하게 같은 결과)
+     *  1) upsert  : 없으면 생성(setOnInsert), firstSeenAt 은 $min 으로 유지
+     *  2) update  : 기존 analyzedAt 이 더 오래된 경우에만 최신 값으로 교체
+     */
+    @Override
+    public void upsertAll(String membername, Collection<MemberVocabulary.MemberWordEntry> entries) {
+        if (entries.isEmpty()) return;
+
+        BulkOperations ops = null;
+        int pending = 0;
+        for (MemberVocabulary.MemberWordEntry e : entries) {
+            if (ops == null) {
+                ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MemberWord.class);
+            }
+            Criteria key = Criteria.where("membername").is(membername)
+                    .and("word").is(e.getWord())
+                    .and("pos").is(e.getPos());
+
+            Update insert = new Update()
+                    .setOnInsert("meaning", e.getMeaning())
+                    .setOnInsert("lang", e.getLang())
+                    .setOnInsert("level", e.getLevel())
+                    .setOnInsert("dictionaryType", e.getDictionaryType())
+                    .setOnInsert("chatRoomUuid", e.getChatRoomUuid())
+                    .setOnInsert("chatMessageId", e.getChatMessageId())
+                    .setOnInsert("example", e.getExample())
+                    .setOnInsert("analyzedAt", e.getAnalyzedAt())
+                    .min("firstSeenAt", e.getAnalyzedAt());
+            ops.upsert(new Query(key), insert);
+
+            Update latest = new Update()
+                    .set("meaning", e.getMeaning())
+                    .set("lang", e.getLang())
+                    .set("level", e.getLevel())
+                    .set("dictionaryType", e.getDictionaryType())
+                    .set("chatRoomUuid", e.getChatRoomUuid())
+                    .set("chatMessageId", e.getChatMessageId())
+                    .set("example", e.getExample())
+                    .set("analyzedAt", e.getAnalyzedAt());
+            ops.updateOne(new Query(Criteria.where("membername").is(membername)
+                    .and("word").is(e.getWord())
+                    .and("pos").is(e.getPos())
+                    .and("analyzedAt").lt(e.getAnalyzedAt())), latest);
+
+            if (++pending >= BULK_CHUNK) {
+                ops.execute();
+                ops = null;
+                pending = 0;
+            }
+        }
+        if (ops != null && pending > 0) {
+            ops.execute();
+        }
+    }
+
+    @Override
+    public List<MemberWord> findLatest(String membername, String lang, String pos, String level, int skip, int limit) {
+        Query query = new Query(filter(membername, lang, pos, level))
+                .with(LATEST_ORDER)
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, MemberWord.class);
+    }
+
+    @Override
+    public List<MemberWord> findLatestAfter(String membername, String lang, String pos, String level,
+                                            WordCursor after, int limit) {
+        Criteria criteria = filter(membername, lang, pos, level);
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("analyzedAt").lt(after.analyzedAt()),
+                    Criteria.where("analyzedAt").is(after.analyzedAt()).and("word").gt(after.word()),
+                    Criteria.where("analyzedAt").is(after.analyzedAt()).and("word").is(after.word())
+                            .and("pos").gt(after.pos())
+            );
+        }
+        Query query = new Query(criteria)
+                .with(LATEST_ORDER)
+                .limit(limit);
+        return mongoTemplate.find(query, MemberWord.class);
+    }
+
+    @Override
+    public long countWords(String membername, String lang, String pos, String level) {
+        return mongoTemplate.count(new Query(filter(membername, lang, pos, level)), MemberWord.class);
+    }
+
+    private Criteria filter(String membername, String lang, String pos, String level) {
+        Criteria c = Criteria.where("membername").is(membername);
+        if (lang != null) c = c.and("lang").is(lang);
+        if (pos != null) c = c.and("pos").is(pos);
+        if (level != null) c = c.and("level").is(level);
+        return c;
+    }
+}
@@ -3,7 +3,7 @@ package org.example.howareyou.domain.vocabulary.scheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.vocabulary.service.ChatVocaBookService;
-import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
+import org.example.howareyou.domain.vocabulary.service.MemberVocabularyJob;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -16,7 +16,7 @@ import java.time.temporal.ChronoUnit;
 public class VocaScheduler {
 
     private final ChatVocaBookService chatVocaBookService;
-    private final MemberVocaBookService memberVocaBookService;
+    private final MemberVocabularyJob memberVocabularyJob;
 
     @Scheduled(cron = "0 0 * * * *") // 매 정각 실행
     public void generateVocabularyBookHourly() {
@@ -37,6 +37,6 @@ public class VocaScheduler {
     // 사용자 단어장: 매 정각 (UTC)
     @Scheduled(cron = "0 0 * * * *", zone = "UTC")
     public void driveMemberTimezoneBatch() {
-        memberVocaBookService.runByTimezoneWindow();
+        memberVocabularyJob.runByTimezoneWindow();
     }
 }
\ No newline at end of file
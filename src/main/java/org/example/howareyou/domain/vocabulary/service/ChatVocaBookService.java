@@ -1,6 +1,5 @@
 package org.example.howareyou.domain.vocabulary.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.chat.voca.dto.ChatMessageReadModel;
@@ -8,7 +7,6 @@ import org.example.howareyou.domain.chat.voca.service.ChatMessageVocaService;
 //import org.example.howareyou.domain.vocabulary.document.ChatRoomVocabulary;
 import org.example.howareyou.domain.vocabulary.document.ChatRoomVocabulary;
 import org.example.howareyou.domain.vocabulary.document.DictionaryData;
-import org.example.howareyou.domain.vocabulary.dto.AnalyzeBatchRequest;
 import org.example.howareyou.domain.vocabulary.dto.AnalyzedResponseWord;
 //import org.example.howareyou.domain.vocabulary.entity.DictionaryData;
 //import org.example.howareyou.domain.vocabulary.repository.ChatRoomVocabularyRepository;
@@ -32,7 +30,8 @@ import java.util.stream.Collectors;
 public class ChatVocaBookService {
 
     private final ChatMessageVocaService chatMessageVocaService;
-    private final NlpClient nlpClient;
+    private final NlpBatchDispatcher nlpBatchDispatcher;
+    private final NlpAnalysisCache nlpAnalysisCache;
     private final DictionaryDataRepository dictionaryDataRepository;
     private final ChatRoomVocabularyRepository chatRoomVocabularyRepository;
 
@@ -48,14 +47,12 @@ public class ChatVocaBookService {
      */
     public Mono<Void> generateVocabularyForRangeReactive(Instant start, Instant end) {
         return fetchGroupedMessagesByRoomReactive(start, end)              // 시간 범위 내 메시지 조회 & 채팅방별 그룹핑
-                .flatMapMany(map -> Flux.fromIterable(map.entrySet()))    // Map<room, messages> → Flux<Entry> 변환
+                .flatMap(this::analyzeMessagesAsBatchReactive)             // 여러 방을 묶어/쪼개서 NLP 분석 → 방별 결과
+                .flatMapMany(map -> Flux.fromIterable(map.entrySet()))    // Map<room, analyzed> → Flux<Entry> 변환
                 .flatMap(entry ->
-                                analyzeMessagesAsBatchReactive(entry.getKey(), entry.getValue()) // NLP 결과
-                                        .flatMap(analyzedWords ->
-                                                matchWordsWithDictionaryReactive(analyzedWords)          // 사전 매칭
-                                                        .flatMap(matched ->
-                                                                saveVocabularyReactive(entry.getKey(), matched, analyzedWords) // Mongo 저장
-                                                        )
+                                matchWordsWithDictionaryReactive(entry.getValue())               // 사전 매칭
+                                        .flatMap(matched ->
+                                                saveVocabularyReactive(entry.getKey(), matched, entry.getValue()) // Mongo 저장
                                         ),
                         6 // 동시에 처리할 채팅방 개수 제한
                 )
@@ -88,35 +85,112 @@ public class ChatVocaBookService {
 
     /**
      * ✅ (비동기) NLP 서버에 배치 분석 요청
-     *    - 채팅방의 모든 메시지를 JSON 배열로 변환하여 전달
-     *    - NLP 서버 응답: 각 단어의 text, pos, lang 등
+     *    - 메시지 텍스트를 정규화/해시해서 NlpAnalysisCache 를 먼저 조회 (로컬 → Redis)
+     *    - miss 인 메시지만 (같은 텍스트는 대표 1건만) NlpBatchDispatcher 로 전송
+     *    - 새 분석 결과는 캐시에 저장 후, hit 결과와 합쳐 채팅방별로 재구성
+     *    - 반환: 채팅방별 분석 결과 (분석 실패한 메시지가 있는 방은 제외)
      */
-    private Mono<List<AnalyzedResponseWord>> analyzeMessagesAsBatchReactive(
-            String chatRoomUuid,
-            List<ChatMessageReadModel> messages
+    private Mono<Map<String, List<AnalyzedResponseWord>>> analyzeMessagesAsBatchReactive(
+            Map<String, List<ChatMessageReadModel>> messagesByRoom
     ) {
-        AnalyzeBatchRequest req = new AnalyzeBatchRequest(
-                chatRoomUuid,
-                messages.stream()
-                        .map(m -> new MessageItem(
-                                m.getId(),
-                                m.getContent(),
-                                m.getSenderId(),
-                                m.getSenderName(),
-                                m.getMessageTime().toString()
-                        ))
-                        .toList()
-        );
+        Map<String, String> keyByMessageId = new HashMap<>();
+        messagesByRoom.values().forEach(messages -> messages.forEach(m ->
+                keyByMessageId.put(m.getId(), nlpAnalysisCache.keyOf(m.getContent()))));
+
+        return Mono.fromCallable(() -> nlpAnalysisCache.getAll(new HashSet<>(keyByMessageId.values())))
+                .subscribeOn(Schedulers.boundedElastic())   // Redis MGET (블로킹)
+                .flatMap(cached -> {
+                    // miss 메시지만 방별로 모으되, 같은 텍스트는 대표 메시지 1건만 전송
+                    Map<String, List<MessageItem>> missesByRoom = new LinkedHashMap<>();
+                    Set<String> pendingKeys = new HashSet<>();
+                    messagesByRoom.forEach((chatRoomUuid, messages) -> messages.forEach(m -> {
+                        String key = keyByMessageId.get(m.getId());
+                        if (cached.containsKey(key) || !pendingKeys.add(key)) return;
+                        missesByRoom.computeIfAbsent(chatRoomUuid, r -> new ArrayList<>()).add(toMessageItem(m));
+                    }));
+
+                    int total = keyByMessageId.size();
+                    long hits = keyByMessageId.values().stream().filter(cached::containsKey).count();
+                    int sent = pendingKeys.size();
+                    nlpAnalysisCache.recordSaved(total - sent);
+                    log.info("🗂️ NLP 분석 캐시 - messages={}, hit={} ({}%), sent={}, saved={}",
+                            total, hits, total == 0 ? 0 : hits * 100 / total, sent, total - sent);
 
-        try {
-            String jsonPayload = new ObjectMapper().writeValueAsString(req);
-            log.info("📤 NLP 요청 JSON: {}", jsonPayload);
-        } catch (Exception e) {
-            log.error("❌ NLP 요청 JSON 직렬화 실패", e);
+                    return nlpBatchDispatcher.analyzeByRoom(missesByRoom)
+                            .publishOn(Schedulers.boundedElastic())   // Redis 파이프라인 저장 (블로킹)
+                            .map(analyzed -> mergeWithCache(messagesByRoom, keyByMessageId, cached, missesByRoom, analyzed));
+                })
+                .doOnNext(result -> log.info("🧠 NLP 완료 - rooms={}/{}", result.size(), messagesByRoom.size()));
+    }
+
+    /**
+     * 새 분석 결과를 캐시에 저장하고, 캐시 hit 결과와 합쳐 채팅방별 단어 리스트로 재구성
+     *  - 새로 분석된 메시지는 NLP 서버 응답(예문 포함)을 그대로 사용
+     *  - 캐시/중복으로 해결된 메시지는 캐시 결과 + 메시지 본문을 예문으로 사용
+     */
+    private Map<String, List<AnalyzedResponseWord>> mergeWithCache(
+            Map<String, List<ChatMessageReadModel>> messagesByRoom,
+            Map<String, String> keyByMessageId,
+            Map<String, List<NlpAnalysisCache.CachedWord>> cached,
+            Map<String, List<MessageItem>> missesByRoom,
+            Map<String, List<AnalyzedResponseWord>> analyzed
+    ) {
+        Map<String, List<AnalyzedResponseWord>> freshByMessageId = analyzed.values().stream()
+                .flatMap(List::stream)
+                .filter(w -> w.getSourceMessageId() != null)
+                .collect(Collectors.groupingBy(AnalyzedResponseWord::getSourceMessageId));
+
+        // 분석 요청이 성공한 방의 메시지만 캐싱, 단어가 안 온 메시지는 빈 목록 ("ok"/이모지 등 → 다음 배치에서 다시 보내지 않음)
+        Map<String, List<NlpAnalysisCache.CachedWord>> fresh = new HashMap<>();
+        missesByRoom.forEach((chatRoomUuid, items) -> {
+            if (!analyzed.containsKey(chatRoomUuid)) return;   // 분석 실패한 방은 캐싱하지 않음
+            items.forEach(item -> {
+                List<AnalyzedResponseWord> words = freshByMessageId.getOrDefault(item.messageId(), List.of());
+                fresh.put(keyByMessageId.get(item.messageId()),
+                        words.stream().map(NlpAnalysisCache.CachedWord::from).toList());
+            });
+        });
+        nlpAnalysisCache.putAll(fresh);
+
+        Map<String, List<NlpAnalysisCache.CachedWord>> resolved = new HashMap<>(cached);
+        resolved.putAll(fresh);
+
+        Map<String, List<AnalyzedResponseWord>> result = new HashMap<>();
+        for (Map.Entry<String, List<ChatMessageReadModel>> entry : messagesByRoom.entrySet()) {
+            List<AnalyzedResponseWord> words = new ArrayList<>();
+            boolean complete = true;
+            for (ChatMessageReadModel m : entry.getValue()) {
+                List<AnalyzedResponseWord> own = freshByMessageId.get(m.getId());
+                if (own != null) {
+                    words.addAll(own);
+                    continue;
+                }
+                String key = keyByMessageId.get(m.getId());
+                List<NlpAnalysisCache.CachedWord> hit = resolved.get(key);
+                if (hit == null) {
+                    complete = false;   // 대표 메시지 분석 실패 → 방 전체 보류
+                    break;
+                }
+                hit.forEach(w -> words.add(w.toResponse(m.getId(), m.getContent())));
+            }
+            if (!complete) continue;
+            // 출처 메시지 ID 없이 내려온 단어는 해당 방 결과에 그대로 포함
+            analyzed.getOrDefault(entry.getKey(), List.of()).stream()
+                    .filter(w -> w.getSourceMessageId() == null)
+                    .forEach(words::add);
+            result.put(entry.getKey(), words);
         }
+        return result;
+    }
 
-        return nlpClient.analyzeBatchReactive(req)
-                .doOnNext(list -> log.info("🧠 NLP 완료 - room={}, analyzed={}", chatRoomUuid, list.size()));
+    private MessageItem toMessageItem(ChatMessageReadModel m) {
+        return new MessageItem(
+                m.getId(),
+                m.getContent(),
+                m.getSenderId(),
+                m.getSenderName(),
+                m.getMessageTime().toString()
+        );
     }
 
     /**
@@ -1,54 +1,130 @@
 package org.example.howareyou.domain.vocabulary.service;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.opencsv.bean.CsvToBean;
 import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.vocabulary.document.DictionaryData;
 import org.example.howareyou.domain.vocabulary.repository.DictionaryDataRepository;
 import org.example.howareyou.domain.vocabulary.service.dto.VocabularyCsvRow;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * 사전 CSV import
+ *  - 행을 한 줄씩 읽어(전체를 메모리에 올리지 않음) CHUNK 단위로 bulk upsert
+ *  - (word, pos, dictionaryType) 기준 upsert 라 같은 파일을 다시 올려도 중복이 생기지 않음
+ *  - importAll 은 resources/voca 의 CSV 파일들을 파일 단위로 병렬 처리
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CsvImportService {
 
+    private static final String VOCA_DIR = "voca/";
+    private static final int CHUNK = 1000;
+    private static final int MAX_PARALLEL_FILES = 4;
+
     private final DictionaryDataRepository vocabularyDataRepository;
 
-    public void importCsv(String filename) {
-        String path = "/voca/" + filename;
+    /** 파일별 import 결과 */
+    public record ImportResult(String filename, long rows, long inserted, long updated, long millis) {
+        public double rowsPerSec() {
+            return millis == 0 ? rows : rows * 1000.0 / millis;
+        }
+    }
+
+    public ImportResult importCsv(String filename) {
+        Resource resource = new ClassPathResource(VOCA_DIR + filename);
+        long startedAt = System.currentTimeMillis();
+        Instant now = Instant.now();  // ✅ 같은 import 의 신규 단어는 동일 시간 부여
 
-        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream(path))) {
-            List<VocabularyCsvRow> rows = new CsvToBeanBuilder<VocabularyCsvRow>(reader)
+        long rows = 0, inserted = 0, updated = 0;
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            CsvToBean<VocabularyCsvRow> csv = new CsvToBeanBuilder<VocabularyCsvRow>(reader)
                     .withType(VocabularyCsvRow.class)
                     .withIgnoreLeadingWhiteSpace(true)
-                    .build()
-                    .parse();
-
-            Instant now = Instant.now();
-
-            List<DictionaryData> vocabularyList = rows.stream()
-                    .map(row -> DictionaryData.builder()
-                            .word(row.getWord())
-                            .meaning(row.getMeaning())
-                            .pos(row.getPos())
-                            .level(row.getLevel())
-                            .dictionaryType(row.getDictionaryType())
-                            .createdAt(now)  // ✅ 동일 시간 부여
-                            .build())
-                    .toList();
+                    .build();
+
+            List<DictionaryData> chunk = new ArrayList<>(CHUNK);
+            for (VocabularyCsvRow row : csv) {  // iterator 로 한 행씩 파싱
+                if (row.getWord() == null || row.getWord().isBlank()) continue;
+                chunk.add(DictionaryData.builder()
+                        .word(row.getWord())
+                        .meaning(row.getMeaning())
+                        .pos(row.getPos())
+                        .level(row.getLevel())
+                        .dictionaryType(row.getDictionaryType())
+                        .createdAt(now)
+                        .build());
+                rows++;
+
+                if (chunk.size() >= CHUNK) {
+                    BulkWriteResult r = vocabularyDataRepository.upsertAll(chunk);
+                    inserted += r.getUpserts().size();
+                    updated += r.getModifiedCount();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                BulkWriteResult r = vocabularyDataRepository.upsertAll(chunk);
+                inserted += r.getUpserts().size();
+                updated += r.getModifiedCount();
+            }
+        } catch (Exception e) {
+            log.error("❌ CSV import 실패: {}", filename, e);
+            throw new RuntimeException("CSV import 실패: " + filename, e);
+        }
 
-            vocabularyDataRepository.saveAll(vocabularyList);
-            log.info("✅ CSV import 완료: {}건 저장", vocabularyList.size());
+        ImportResult result = new ImportResult(filename, rows, inserted, updated, System.currentTimeMillis() - startedAt);
+        log.info("✅ CSV import 완료: {} - {}행 (신규 {}, 변경 {}), {}ms, {} rows/s",
+                filename, rows, inserted, updated, result.millis(), String.format("%.0f", result.rowsPerSec()));
+        return result;
+    }
 
+    /**
+     * resources/voca/*.csv 전체 import (파일 단위 병렬)
+     */
+    public List<ImportResult> importAll() {
+        List<String> filenames = new ArrayList<>();
+        try {
+            for (Resource r : new PathMatchingResourcePatternResolver().getResources("classpath:" + VOCA_DIR + "*.csv")) {
+                filenames.add(r.getFilename());
+            }
         } catch (Exception e) {
-            log.error("❌ CSV import 실패", e);
-            throw new RuntimeException("CSV import 실패", e);
+            log.error("❌ CSV 파일 목록 조회 실패", e);
+            throw new RuntimeException("CSV 파일 목록 조회 실패", e);
+        }
+        if (filenames.isEmpty()) return List.of();
+
+        long startedAt = System.currentTimeMillis();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(filenames.size(), MAX_PARALLEL_FILES));
+        try {
+            List<CompletableFuture<ImportResult>> futures = filenames.stream()
+                    .map(f -> CompletableFuture.supplyAsync(() -> importCsv(f), pool))
+                    .toList();
+            List<ImportResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+            long rows = results.stream().mapToLong(ImportResult::rows).sum();
+            long millis = Math.max(System.currentTimeMillis() - startedAt, 1);
+            log.info("✅ 사전 CSV 전체 import 완료: {}개 파일, {}행, {}ms, {} rows/s",
+                    results.size(), rows, millis, String.format("%.0f", rows * 1000.0 / millis));
+            return results;
+        } finally {
+            pool.shutdown();
         }
     }
-}
\ No newline at end of file
+}
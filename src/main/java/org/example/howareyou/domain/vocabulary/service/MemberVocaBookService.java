@@ -8,18 +8,26 @@ import org.example.howareyou.domain.member.dto.response.MemberProfileViewForVoca
 import org.example.howareyou.domain.member.service.MemberService;
 import org.example.howareyou.domain.vocabulary.document.ChatRoomVocabulary;
 import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
 import org.example.howareyou.domain.vocabulary.dto.AggregatedWordEntry;
-import org.example.howareyou.domain.vocabulary.repository.ChatRoomVocabularyRepository;
+import org.example.howareyou.domain.vocabulary.dto.WordCursor;
+import org.example.howareyou.domain.vocabulary.dto.WordCursorPage;
+import org.example.howareyou.domain.vocabulary.event.MemberVocabularyUpdatedEvent;
 import org.example.howareyou.domain.vocabulary.repository.MemberVocabularyRepository;
+import org.example.howareyou.domain.vocabulary.repository.MemberWordRepository;
 import org.example.howareyou.global.exception.CustomException;
 import org.example.howareyou.global.exception.ErrorCode;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.*;
@@ -29,8 +37,8 @@ import java.util.*;
  * 사용자별 단어장 생성 서비스
  *
  * 동작 개요
- * 1) 단일 스케줄러가 주기적으로 실행된다.
- * 2) 모든 사용자를 순회하되, "해당 사용자의 타임존(Local time)이 05:00"인 경우에만 처리한다.
+ * 1) 단일 스케줄러가 주기적으로 실행된다. (MemberVocabularyJob)
+ * 2) "해당 사용자의 타임존(Local time)이 05:00"인 사용자만 조회해 병렬로 처리한다.
  * 3) 그 사용자 타임존 기준 "어제 00:00 ~ 오늘 00:00" 기간(=어제 하루)을 UTC Instant로 변환한다.
  * 4) 그 기간에 생성된 채팅방 단어장(ChatRoomVocabulary) 중,
  *    - 사용자가 참여한 채팅방의 것만 취합하고,
@@ -43,63 +51,20 @@ import java.util.*;
 @RequiredArgsConstructor
 public class MemberVocaBookService {
 
+    private static final String DEFAULT_TIMEZONE = "Asia/Seoul"; // 프로필 없는 사용자의 localDay 기준
+    private static final int DUPLICATE_KEY = 11000;
+    private static final String MIGRATION_STATE = "migration_state";                 // 마이그레이션 완료 표시 (_id = 작업 이름)
+    private static final String MEMBER_WORD_BACKFILL = "member_word_backfill";
+    private static final String MEMBER_WORD_BACKFILL_DONE = "member_word_backfill_done"; // 백필 끝난 사용자 (_id = membername)
+    private static final int BACKFILL_ATTEMPTS = 3;
+
     private final MemberService memberService;
     private final ChatRoomService chatRoomService;
-    private final ChatRoomVocabularyRepository chatRoomVocabularyRepository;
     private final MemberVocabularyRepository memberVocabularyRepository;
+    private final MemberWordRepository memberWordRepository;
+    private final MemberWordCountCache memberWordCountCache;
     private final MongoTemplate mongoTemplate;
-
-    /**
-     * 한 번에 전체 유저를 불러온다.
-     */
-    public void runByTimezoneWindow() {
-        // 배치용 뷰 조회
-        List<MemberProfileViewForVoca> profiles = memberService.findAllActiveProfilesForVoca();
-        if (profiles.isEmpty()) {
-            log.debug("🟡 처리할 회원이 없습니다.");
-            return;
-        }
-
-        int processed = 0;
-
-        for (MemberProfileViewForVoca profile : profiles) {
-            try {
-                // 타임존 기준 '시(hour)가 5'인지 간단 체크 (매시간 실행 전제)
-                if (!shouldRunNowHourly(profile.timezone())) continue;
-
-                // 사용자 타임존의 "어제 00:00 ~ 오늘 00:00" → UTC 범위(+ 문서 날짜)
-                TimeRange range = resolveYesterdayRangeInTz(profile.timezone());
-                String docId = profile.membername() + "_" + range.yesterLocalDate().toString();
-
-                // 중복 생성 방지: 이미 문서 있으면 스킵
-                if (memberVocabularyRepository.existsById(docId)) {
-                    log.info("⏩ 이미 생성된 문서 스킵: {}", docId);
-                    continue;
-                }
-
-                log.info("🕔 {} (tz: {}) 사용자 단어장 생성 - {} ~ {}",
-                        profile.membername(), profile.timezone(), range.start(), range.end());
-
-                // 사용자 단어장 생성
-                generateVocabularyForMember(
-                        profile.memberId(),
-                        profile.membername(),
-                        profile.language(),
-                        range.start(),
-                        range.end(),
-                        docId
-                );
-                processed++;
-            } catch (Exception e) {
-                log.error("❌ 사용자 단어장 생성 실패 - member={}", profile.membername(), e);
-            }
-        }
-
-        if (processed > 0) {
-            log.info("✅ 타임존 05시 대상 처리 완료 - {}명", processed);
-        }
-    }
-
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 외부/스케줄러에서 직접 호출 가능한 API형 메서드 (원하는 시간 범위로 실행)
@@ -109,19 +74,63 @@ public class MemberVocaBookService {
                                             String userLang,
                                             Instant start,
                                             Instant end,
+                                            ZoneId zone,
                                             String docId) {
-        String targetLang = "ko".equalsIgnoreCase(userLang) ? "en" : "ko";
+        MemberVocabulary doc = buildMemberVocabulary(memberId, membername, userLang, start, end, zone, docId);
+        if (doc == null) return;
 
+        memberVocabularyRepository.save(doc);
+        applyMemberWords(doc);
+        log.info("💾 저장 완료: {} [{}개 단어] (docId={})", membername, doc.getWords().size(), docId);
+    }
+
+    /**
+     * 사용자 단어장 문서 생성 (저장하지 않음)
+     * @return 참여 채팅방/대상 단어가 없으면 null
+     */
+    public MemberVocabulary buildMemberVocabulary(Long memberId,
+                                                  String membername,
+                                                  String userLang,
+                                                  Instant start,
+                                                  Instant end,
+                                                  ZoneId zone,
+                                                  String docId) {
         // ✅ 사용자 참여 채팅방 UUID 미리 조회 (셋)
         Set<String> myRoomUuids = chatRoomService.getMyChatRoomUuids(memberId);
         if (myRoomUuids.isEmpty()) {
             log.info("ℹ️ 사용자 {} 참여 채팅방 없음 → 스킵", membername);
-            return;
+            return null;
         }
 
         // 기간 내 방 단어장 조회
-        List<ChatRoomVocabulary> roomVocabs =
-                chatRoomVocabularyRepository.findByChatRoomUuidInAndAnalyzedAtBetween(myRoomUuids,start, end);
+        List<ChatRoomVocabulary> roomVocabs = findRoomVocabularies(myRoomUuids, start, end);
+
+        return mergeMemberVocabulary(membername, userLang, zone, docId, roomVocabs);
+    }
+
+    /**
+     * 여러 채팅방의 기간 내 단어장을 한 번에 조회 ([start, end), analyzedAt 오름차순)
+     * 배치에서는 한 페이지 회원들의 참여 방 전체를 한 번에 가져와 메모리에서 나눠 씀
+     */
+    public List<ChatRoomVocabulary> findRoomVocabularies(Collection<String> roomUuids, Instant start, Instant end) {
+        if (roomUuids.isEmpty()) return List.of();
+        Query query = new Query(Criteria.where("chatRoomUuid").in(roomUuids)
+                .and("analyzedAt").gte(start).lt(end))
+                .with(Sort.by(Sort.Direction.ASC, "analyzedAt"));
+        return mongoTemplate.find(query, ChatRoomVocabulary.class);
+    }
+
+    /**
+     * 이미 조회한 채팅방 단어장들로 사용자 단어장 문서 생성 (DB 접근 없음)
+     * @param roomVocabs 사용자가 참여한 방의 기간 내 단어장 (analyzedAt 오름차순)
+     * @return 대상 단어가 없으면 null
+     */
+    public MemberVocabulary mergeMemberVocabulary(String membername,
+                                                  String userLang,
+                                                  ZoneId zone,
+                                                  String docId,
+                                                  List<ChatRoomVocabulary> roomVocabs) {
+        String targetLang = "ko".equalsIgnoreCase(userLang) ? "en" : "ko";
 
         Map<String, MemberVocabulary.MemberWordEntry> wordMap = new HashMap<>();
 
@@ -147,6 +156,7 @@ public class MemberVocaBookService {
                                         .chatMessageId(new ArrayList<>(w.getMessageIds()))
                                         .example(new ArrayList<>(w.getUsedInMessages()))
                                         .analyzedAt(analyzedAt)
+                                        .localDay(toLocalDay(analyzedAt, zone))
                                         .build(),
                                 //이미 있던 값과 새 값 병합하는 함수
                                 (exist, inc) -> {
@@ -159,6 +169,7 @@ public class MemberVocaBookService {
                                     // 분석 시점 최신값 유지
                                     if (inc.getAnalyzedAt().isAfter(exist.getAnalyzedAt())) {
                                         exist.setAnalyzedAt(inc.getAnalyzedAt());
+                                        exist.setLocalDay(inc.getLocalDay());
                                     }
                                     return exist;
                                 }
@@ -168,42 +179,73 @@ public class MemberVocaBookService {
 
         if (wordMap.isEmpty()) {
             log.info("ℹ️ {} 대상 단어 없음 → 스킵", membername);
-            return;
+            return null;
         }
 
-//        String docId = membername + "_" + LocalDate.now(ZoneId.of("UTC")).minusDays(1);
-
-        MemberVocabulary doc = MemberVocabulary.builder()
+        return MemberVocabulary.builder()
                 .id(docId)
                 .membername(membername)
                 .createdAt(Instant.now())
                 .words(new ArrayList<>(wordMap.values()))
                 .build();
-
-        memberVocabularyRepository.save(doc);
-        log.info("💾 저장 완료: {} [{}개 단어] (docId={})", membername, wordMap.size(), docId);
-
     }
 
-    /* -------------------- 내부 유틸들 -------------------- */
+    /**
+     * 여러 사용자의 단어장 문서를 한 번의 unordered bulk insert 로 저장한 뒤 member_word 반영
+     * 이미 있는 문서(중복 키)는 건너뛰고, 그 외 쓰기 오류는 그대로 던짐
+     * @return 실제로 삽입된 문서 (member_word 도 이 문서들만 반영)
+     */
+    public List<MemberVocabulary> saveAll(List<MemberVocabulary> docs) {
+        if (docs.isEmpty()) return List.of();
+        List<MemberVocabulary> inserted = docs;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MemberVocabulary.class)
+                    .insert(docs)
+                    .execute();
+        } catch (BulkOperationException e) {
+            boolean onlyDuplicates = e.getErrors().stream().allMatch(err -> err.getCode() == DUPLICATE_KEY);
+            if (!onlyDuplicates) throw e;
+            // 오류 index = bulk 요청 내 위치 → 중복으로 스킵된 문서 제외
+            Set<Integer> duplicates = new HashSet<>();
+            e.getErrors().forEach(err -> duplicates.add(err.getIndex()));
+            inserted = new ArrayList<>(docs.size() - duplicates.size());
+            for (int i = 0; i < docs.size(); i++) {
+                if (!duplicates.contains(i)) inserted.add(docs.get(i));
+            }
+            log.info("⏩ 이미 생성된 단어장 {}건 스킵", duplicates.size());
+        }
+        // 스킵된 문서는 먼저 저장한 실행이 이미 반영 → member_word 쓰기/캐시 무효화/갱신 이벤트를 다시 내지 않음
+        for (MemberVocabulary doc : inserted) {
+            applyMemberWords(doc);
+        }
+        return inserted;
+    }
 
-    /** 매 시간 실행 전제: 분/초는 고려하지 않고 '해당 타임존의 시(hour)가 5인지'만 본다 */
-    private boolean shouldRunNowHourly(String timezone) {
-        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(timezone));
-        return now.getHour() == 5;
+    /** 이미 생성된 날짜별 문서 ID (중복 생성 방지용, _id 만 조회) */
+    public Set<String> findExistingDocIds(Collection<String> docIds) {
+        if (docIds.isEmpty()) return Set.of();
+        Query query = new Query(Criteria.where("_id").in(docIds));
+        query.fields().include("_id");
+        Set<String> existing = new HashSet<>();
+        for (MemberVocabulary doc : mongoTemplate.find(query, MemberVocabulary.class)) {
+            existing.add(doc.getId());
+        }
+        return existing;
     }
 
-    /** 어제(사용자 타임존)의 시작/끝 + 문서 ID용 로컬 날짜 */
-    private TimeRange resolveYesterdayRangeInTz(String timezone) {
-        ZoneId zone = ZoneId.of(timezone);
-        ZonedDateTime now = ZonedDateTime.now(zone);
-        ZonedDateTime startZdt = now.minusDays(1).toLocalDate().atStartOfDay(zone);
-        ZonedDateTime endZdt = startZdt.plusDays(1);
-        return new TimeRange(startZdt.toInstant(), endZdt.toInstant(), startZdt.toLocalDate());
+    /** 사용자별 단어(member_word) 증분 반영 → 목록/개수 조회는 이 컬렉션에서 */
+    private void applyMemberWords(MemberVocabulary doc) {
+        memberWordRepository.upsertAll(doc.getMembername(), doc.getWords());
+        memberWordCountCache.invalidate(doc.getMembername());
+        eventPublisher.publishEvent(new MemberVocabularyUpdatedEvent(doc.getMembername()));
     }
 
-    /** 문서 생성 범위/날짜 전달용 */
-    private record TimeRange(Instant start, Instant end, LocalDate yesterLocalDate) {}
+    /* -------------------- 내부 유틸들 -------------------- */
+
+    /** 대시보드 기간 조회용 날짜 키 (사용자 타임존 yyyy-MM-dd) */
+    private static String toLocalDay(Instant at, ZoneId zone) {
+        return at.atZone(zone).toLocalDate().toString();
+    }
 
     /* -------------------- 사용자 별 단어장 조회용 -------------------- */
 
@@ -214,27 +256,23 @@ public class MemberVocaBookService {
         return memberVocabularyRepository.findAll();
     }
 
-    //가장 최신 단어들만 뽑아서 중복없이 전체 조회
+    //가장 최신 단어들만 뽑아서 중복없이 전체 조회 (member_word 인덱스 스캔)
     public Page<AggregatedWordEntry> findLatestUniqueWordsPaged(String membername,
                                                                 String lang,
                                                                 String pos,
                                                                 int page,
                                                                 int size) {
-        int skip = Math.max(page, 0) * Math.max(size, 1);
-
-        // items
-        List<AggregatedWordEntry> items =
-                memberVocabularyRepository.findLatestUniqueWords(membername, lang, pos, skip, size);
-
-        // total
-        long total = 0L;
-        List<MemberVocabularyRepository.CountOnly> cnt =
-                memberVocabularyRepository.countLatestUniqueWords(membername, lang, pos);
-        if (cnt != null && !cnt.isEmpty() && cnt.get(0).getTotal() != null) {
-            total = cnt.get(0).getTotal();
-        }
+        int safePage = Math.max(page, 0);
+        int safeSize = Math.max(size, 1);
+
+        List<AggregatedWordEntry> items = memberWordRepository
+                .findLatest(membername, lang, pos, null, safePage * safeSize, safeSize)
+                .stream()
+                .map(this::toAggregated)
+                .toList();
+        long total = memberWordCountCache.count(membername, lang, pos, null);
 
-        return new PageImpl<>(items, PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "analyzedAt")), total);
+        return new PageImpl<>(items, PageRequest.of(safePage, safeSize, Sort.by(Sort.Direction.DESC, "analyzedAt")), total);
     }
 
     //사용자 + 날짜별
@@ -280,14 +318,20 @@ public class MemberVocaBookService {
                 log.warn("멤버를 찾을 수 없습니다 - memberId: {}", memberId);
                 return 0;
             }
-            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countTotalUniqueWords(membername);
-            return result.isEmpty() ? 0 : result.get(0).getTotal();
+            return memberWordRepository.countByMembername(membername);
         } catch (Exception e) {
             log.error("전체 단어 개수 조회 실패 - memberId: {}", memberId, e);
             return 0;
         }
     }
 
+    /**
+     * 사용자 이름으로 전체 단어 개수 조회 (member_word 인덱스 count)
+     */
+    public long countTotalWords(String membername) {
+        return memberWordRepository.countByMembername(membername);
+    }
+
     /**
      * 사용자 ID로 단어 개수 조회 (기간별)
      */
@@ -298,8 +342,8 @@ public class MemberVocaBookService {
                 log.warn("멤버를 찾을 수 없습니다 - memberId: {}", memberId);
                 return 0;
             }
-            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countTotalUniqueWordsByPeriod(
-                membername, "Asia/Seoul", from.toString(), to.toString()); // Hardcoded timezone for now
+            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countUniqueWordsByLocalDay(
+                membername, from.toString(), to.toString(), null, null);
             return result.isEmpty() ? 0 : result.get(0).getTotal();
         } catch (Exception e) {
             log.error("기간별 단어 개수 조회 실패 - memberId: {}, from: {}, to: {}", memberId, from, to, e);
@@ -317,8 +361,8 @@ public class MemberVocaBookService {
                 log.warn("멤버를 찾을 수 없습니다 - memberId: {}", memberId);
                 return 0;
             }
-            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countByMemberAndLangAndPeriod(
-                membername, lang, "Asia/Seoul", from.toString(), to.toString());
+            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countUniqueWordsByLocalDay(
+                membername, from.toString(), to.toString(), lang, null);
             return result.isEmpty() ? 0 : result.get(0).getTotal();
         } catch (Exception e) {
             log.error("언어별 단어 개수 조회 실패 - memberId: {}, lang: {}, from: {}, to: {}", memberId, lang, from, to, e);
@@ -336,8 +380,8 @@ public class MemberVocaBookService {
                 log.warn("멤버를 찾을 수 없습니다 - memberId: {}", memberId);
                 return 0;
             }
-            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countByMemberAndPosAndPeriod(
-                membername, pos, "Asia/Seoul", from.toString(), to.toString());
+            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countUniqueWordsByLocalDay(
+                membername, from.toString(), to.toString(), null, pos);
             return result.isEmpty() ? 0 : result.get(0).getTotal();
         } catch (Exception e) {
             log.error("품사별 단어 개수 조회 실패 - memberId: {}, pos: {}, from: {}, to: {}", memberId, pos, from, to, e);
@@ -355,8 +399,8 @@ public class MemberVocaBookService {
                 log.warn("멤버를 찾을 수 없습니다 - memberId: {}", memberId);
                 return 0;
             }
-            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countByMemberAndLangAndPosAndPeriod(
-                membername, lang, pos, "Asia/Seoul", from.toString(), to.toString());
+            List<MemberVocabularyRepository.CountOnly> result = memberVocabularyRepository.countUniqueWordsByLocalDay(
+                membername, from.toString(), to.toString(), lang, pos);
             return result.isEmpty() ? 0 : result.get(0).getTotal();
         } catch (Exception e) {
             log.error("언어+품사별 단어 개수 조회 실패 - memberId: {}, lang: {}, pos: {}, from: {}, to: {}", 
@@ -381,7 +425,7 @@ public class MemberVocaBookService {
             LocalDate from = calculateFromDate(to, period);
             
             List<MemberVocabularyRepository.DailyWordCount> result = memberVocabularyRepository.getDailyWordCountsByPeriod(
-                membername, "Asia/Seoul", from.toString(), to.toString());
+                membername, from.toString(), to.toString());
             
             Map<String, Integer> grass = new HashMap<>();
             for (MemberVocabularyRepository.DailyWordCount daily : result) {
@@ -411,7 +455,7 @@ public class MemberVocaBookService {
             LocalDate from = calculateFromDate(to, period);
             
             List<MemberVocabularyRepository.DailyWordCount> result = memberVocabularyRepository.getDailyWordCountsByPeriod(
-                membername, "Asia/Seoul", from.toString(), to.toString());
+                membername, from.toString(), to.toString());
             
             Map<String, Integer> grass = new HashMap<>();
             for (MemberVocabularyRepository.DailyWordCount daily : result) {
@@ -449,7 +493,7 @@ public class MemberVocaBookService {
     private String safeLower(String s) { return s == null ? "" : s.toLowerCase(); }
 
 
-    //난이도별 조회
+    //난이도별 조회 (member_word 인덱스 스캔)
     public Page<AggregatedWordEntry> findLatestUniqueWordsByLevelPaged(
             String membername,
             String lang,
@@ -460,19 +504,13 @@ public class MemberVocaBookService {
     ) {
         int safePage = Math.max(0, page);
         int safeSize = Math.max(1, size);
-        int skip = safePage * safeSize;
-
-        // items
-        List<AggregatedWordEntry> items =
-                memberVocabularyRepository.findLatestUniqueWordsByLevel(membername, lang, pos, level, skip, safeSize);
-
-        // total
-        long total = 0L;
-        List<MemberVocabularyRepository.CountOnly> cnt =
-                memberVocabularyRepository.countLatestUniqueWordsByLevel(membername, lang, pos, level);
-        if (cnt != null && !cnt.isEmpty() && cnt.get(0).getTotal() != null) {
-            total = cnt.get(0).getTotal();
-        }
+
+        List<AggregatedWordEntry> items = memberWordRepository
+                .findLatest(membername, lang, pos, level, safePage * safeSize, safeSize)
+                .stream()
+                .map(this::toAggregated)
+                .toList();
+        long total = memberWordCountCache.count(membername, lang, pos, level);
 
         return new PageImpl<>(
                 items,
@@ -481,4 +519,186 @@ public class MemberVocaBookService {
         );
     }
 
-}
\ No newline at end of file
+    /**
+     * 키셋(search-after) 페이지 조회 — 깊은 페이지도 skip 없이 인덱스에서 바로 이어 읽음
+     * @param cursor    직전 페이지의 nextCursor (첫 페이지는 null)
+     * @param withTotal false 면 총개수를 계산하지 않음 (무한 스크롤용)
+     */
+    public WordCursorPage<AggregatedWordEntry> findLatestUniqueWordsScroll(
+            String membername,
+            String lang,
+            String pos,
+            String level,
+            String cursor,
+            int size,
+            boolean withTotal
+    ) {
+        int safeSize = Math.max(1, size);
+        WordCursor after = WordCursor.decode(cursor);
+
+        // 한 개 더 읽어서 다음 페이지 존재 여부 판단
+        List<MemberWord> rows = memberWordRepository.findLatestAfter(membername, lang, pos, level, after, safeSize + 1);
+        boolean hasNext = rows.size() > safeSize;
+        if (hasNext) {
+            rows = rows.subList(0, safeSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            MemberWord last = rows.get(rows.size() - 1);
+            nextCursor = new WordCursor(last.getAnalyzedAt(), last.getWord(), last.getPos()).encode();
+        }
+
+        return WordCursorPage.<AggregatedWordEntry>builder()
+                .content(rows.stream().map(this::toAggregated).toList())
+                .size(safeSize)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .total(withTotal ? memberWordCountCache.count(membername, lang, pos, level) : null)
+                .build();
+    }
+
+    private AggregatedWordEntry toAggregated(MemberWord w) {
+        return AggregatedWordEntry.builder()
+                .word(w.getWord())
+                .meaning(w.getMeaning())
+                .pos(w.getPos())
+                .lang(w.getLang())
+                .level(w.getLevel())
+                .analyzedAt(w.getAnalyzedAt())
+                .chatRoomUuid(w.getChatRoomUuid())
+                .chatMessageId(w.getChatMessageId())
+                .example(w.getExample())
+                .build();
+    }
+
+    /* -------------------- member_word 백필 -------------------- */
+
+    /**
+     * 한 사용자의 날짜별 단어장 전체를 member_word 로 다시 반영 (멱등)
+     * @return 반영한 날짜 문서 수
+     */
+    public int rebuildMemberWords(String membername) {
+        List<MemberVocabulary> docs = memberVocabularyRepository.findAllByMembername(membername);
+        for (MemberVocabulary doc : docs) {
+            if (doc.getWords() != null) {
+                memberWordRepository.upsertAll(membername, doc.getWords());
+            }
+        }
+        memberWordCountCache.invalidate(membername);
+        eventPublisher.publishEvent(new MemberVocabularyUpdatedEvent(membername));
+        return docs.size();
+    }
+
+    /** member_word 백필이 모든 사용자에 대해 끝났는지 (완료 표시 기준) */
+    public boolean isMemberWordBackfillCompleted() {
+        return mongoTemplate.exists(new Query(Criteria.where("_id").is(MEMBER_WORD_BACKFILL)), MIGRATION_STATE);
+    }
+
+    /**
+     * 모든 사용자의 member_word 백필 (중간에 끊겨도 다시 실행하면 이어서)
+     *  - 사용자마다 끝나면 체크포인트 기록 → 재실행 시 끝난 사용자는 건너뜀
+     *  - 실패한 사용자는 BACKFILL_ATTEMPTS 회까지 재시도, 그래도 실패하면 완료 표시를 남기지 않음 (다음 기동 때 다시)
+     *  - 전원 성공하면 완료 표시 저장 후 체크포인트 삭제
+     * @return 이번 실행에서 처리한 사용자 수
+     */
+    public int backfillMemberWords() {
+        if (isMemberWordBackfillCompleted()) return 0;
+
+        List<String> membernames = mongoTemplate.findDistinct(
+                new Query(), "membername", MemberVocabulary.class, String.class);
+        Set<String> finished = new HashSet<>(mongoTemplate.findDistinct(
+                new Query(), "_id", MEMBER_WORD_BACKFILL_DONE, String.class));
+        if (!finished.isEmpty()) log.info("🔁 member_word 백필 이어서 실행 - 완료 {}명 건너뜀", finished.size());
+
+        int done = 0;
+        List<String> failed = new ArrayList<>();
+        for (String membername : membernames) {
+            if (finished.contains(membername)) continue;
+            if (backfillMember(membername)) done++;
+            else failed.add(membername);
+        }
+
+        if (!failed.isEmpty()) {
+            log.warn("⚠️ member_word 백필 미완료 - {}명 실패 (다음 실행에서 재시도): {}", failed.size(),
+                    failed.size() > 20 ? failed.subList(0, 20) + " ..." : failed);
+            return done;
+        }
+        mongoTemplate.save(new Document("_id", MEMBER_WORD_BACKFILL)
+                .append("completedAt", Date.from(Instant.now()))
+                .append("members", membernames.size()), MIGRATION_STATE);
+        mongoTemplate.dropCollection(MEMBER_WORD_BACKFILL_DONE);
+        log.info("✅ member_word 백필 완료 - 이번 실행 {}명, 전체 {}명", done, membernames.size());
+        return done;
+    }
+
+    /** 한 사용자 백필 (재시도 포함), 성공하면 체크포인트 기록 */
+    private boolean backfillMember(String membername) {
+        for (int attempt = 1; attempt <= BACKFILL_ATTEMPTS; attempt++) {
+            try {
+                int docs = rebuildMemberWords(membername);
+                mongoTemplate.save(new Document("_id", membername).append("at", Date.from(Instant.now())),
+                        MEMBER_WORD_BACKFILL_DONE);
+                log.debug("member_word 백필: {} ({}개 문서)", membername, docs);
+                return true;
+            } catch (Exception e) {
+                log.warn("⚠️ member_word 백필 실패 - member={}, 시도 {}/{}: {}",
+                        membername, attempt, BACKFILL_ATTEMPTS, e.getMessage());
+            }
+        }
+        log.error("❌ member_word 백필 포기 - member={}", membername);
+        return false;
+    }
+
+    /* -------------------- member_vocabulary 날짜 키 마이그레이션 -------------------- */
+
+    /**
+     * 기존 날짜별 단어장 문서 보정 (멱등, localDay 가 없는 문서만 대상)
+     *  - words.analyzedAt : 문자열로 저장된 값은 BSON Date 로 변환 ($toDate, Date 는 그대로)
+     *  - words.localDay   : 사용자 타임존 기준 yyyy-MM-dd (탈퇴 등으로 프로필이 없으면 Asia/Seoul)
+     * 서버 측 update pipeline 으로 처리하므로 문서를 애플리케이션으로 읽지 않음
+     * @return 수정된 문서 수
+     */
+    public long migrateLocalDayKeys() {
+        Map<String, String> timezones = new HashMap<>();
+        for (MemberProfileViewForVoca p : memberService.findAllActiveProfilesForVoca()) {
+            timezones.put(p.membername(), p.timezone());
+        }
+
+        List<String> membernames = mongoTemplate.findDistinct(
+                new Query(Criteria.where("words").elemMatch(Criteria.where("localDay").exists(false))),
+                "membername", MemberVocabulary.class, String.class);
+
+        long modified = 0;
+        for (String membername : membernames) {
+            String timezone = timezones.getOrDefault(membername, DEFAULT_TIMEZONE);
+            try {
+                Document filter = new Document("membername", membername)
+                        .append("words", new Document("$elemMatch", new Document("localDay", new Document("$exists", false))));
+                List<Document> pipeline = List.of(
+                        new Document("$set", new Document("words", mapWords(
+                                new Document("analyzedAt", new Document("$toDate", "$$w.analyzedAt"))))),
+                        new Document("$set", new Document("words", mapWords(
+                                new Document("localDay", new Document("$dateToString", new Document("format", "%Y-%m-%d")
+                                        .append("date", "$$w.analyzedAt")
+                                        .append("timezone", timezone))))))
+                );
+                modified += mongoTemplate.getCollection(mongoTemplate.getCollectionName(MemberVocabulary.class))
+                        .updateMany(filter, pipeline)
+                        .getModifiedCount();
+            } catch (Exception e) {
+                log.error("❌ localDay 마이그레이션 실패 - member={}", membername, e);
+            }
+        }
+        log.info("✅ member_vocabulary localDay 마이그레이션 완료 - {}명, {}개 문서", membernames.size(), modified);
+        return modified;
+    }
+
+    /** words 배열 각 원소에 fields 를 덮어쓰는 $map 식 */
+    private static Document mapWords(Document fields) {
+        return new Document("$map", new Document("input", "$words")
+                .append("as", "w")
+                .append("in", new Document("$mergeObjects", List.of("$$w", fields))));
+    }
+
+}
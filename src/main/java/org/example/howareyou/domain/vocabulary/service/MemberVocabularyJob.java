@@ -0,0 +1,272 @@
+package org.example.howareyou.domain.vocabulary.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.chat.service.ChatRoomService;
+import org.example.howareyou.domain.member.dto.response.MemberProfileViewForVoca;
+import org.example.howareyou.domain.member.service.MemberService;
+import org.example.howareyou.domain.vocabulary.document.ChatRoomVocabulary;
+import org.example.howareyou.domain.vocabulary.document.MemberVocabulary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ✅ 사용자 단어장 생성 배치 (타임존 버킷 + 병렬 처리)
+ *
+ * 1) 활성 회원의 타임존 목록을 SQL group by 로 가져와 현재 UTC 오프셋별로 묶음
+ * 2) 지금 05시인 오프셋 버킷의 타임존에 속한 회원만 id 키셋으로 페이지 조회
+ * 3) 페이지마다 기존 문서 ID, 참여 채팅방(Postgres 1회), 방 단어장($in 1회)을 한 번에 조회
+ *    → 고정 크기 풀에서 회원별로 메모리 병합
+ * 4) 페이지 단위로 Mongo unordered bulk insert + member_word 반영
+ *
+ * 메트릭: vocab.member.job.user.latency (사용자당, p50/p95/p99), vocab.member.job.users{result},
+ *        vocab.member.job.throughput (마지막 실행 users/sec)
+ */
+@Slf4j
+@Component
+public class MemberVocabularyJob {
+
+    private static final int RUN_HOUR = 5;
+
+    private final MemberService memberService;
+    private final MemberVocaBookService memberVocaBookService;
+    private final ChatRoomService chatRoomService;
+    private final int pageSize;
+    private final ExecutorService executor;
+
+    private final Timer userLatency;
+    private final Counter created;
+    private final Counter skipped;
+    private final Counter failed;
+    private final AtomicLong lastThroughput = new AtomicLong(); // users/sec * 1000
+
+    public MemberVocabularyJob(MemberService memberService,
+                               MemberVocaBookService memberVocaBookService,
+                               ChatRoomService chatRoomService,
+                               MeterRegistry meterRegistry,
+                               @Value("${vocabulary.job.page-size:500}") int pageSize,
+                               @Value("${vocabulary.job.concurrency:8}") int concurrency) {
+        this.memberService = memberService;
+        this.memberVocaBookService = memberVocaBookService;
+        this.chatRoomService = chatRoomService;
+        this.pageSize = pageSize;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, r -> {
+            Thread t = new Thread(r, "voca-job-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.userLatency = Timer.builder("vocab.member.job.user.latency")
+                .description("사용자 1명 단어장 병합 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.created = Counter.builder("vocab.member.job.users").tag("result", "created").register(meterRegistry);
+        this.skipped = Counter.builder("vocab.member.job.users").tag("result", "skipped").register(meterRegistry);
+        this.failed = Counter.builder("vocab.member.job.users").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("vocab.member.job.throughput", lastThroughput, v -> v.get() / 1000.0)
+                .description("마지막 실행 처리량 (users/sec)")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 매 정각 실행 전제: 지금 로컬 시각이 05시인 타임존의 회원만 처리
+     */
+    public void runByTimezoneWindow() {
+        Instant now = Instant.now();
+        Map<String, TimeRange> dueZones = resolveDueZones(now);
+        if (dueZones.isEmpty()) {
+            log.debug("🟡 05시인 타임존 없음 → 스킵");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Long> latencies = new ArrayList<>();
+        int total = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<MemberProfileViewForVoca> page =
+                    memberService.findActiveProfilesForVoca(dueZones.keySet(), afterId, pageSize);
+            if (page.isEmpty()) break;
+
+            total += processPage(page, dueZones, latencies);
+            afterId = page.get(page.size() - 1).memberId();
+            if (page.size() < pageSize) break;
+        }
+
+        double seconds = Math.max((System.nanoTime() - startedAt) / 1_000_000_000.0, 0.001);
+        double usersPerSec = total / seconds;
+        lastThroughput.set(Math.round(usersPerSec * 1000));
+
+        if (total > 0) {
+            Collections.sort(latencies);
+            log.info("✅ 타임존 05시 대상 처리 완료 - {}명, {}s, {} users/s, p95={}ms, p99={}ms (tz: {})",
+                    total, String.format("%.2f", seconds), String.format("%.1f", usersPerSec),
+                    percentile(latencies, 0.95), percentile(latencies, 0.99), dueZones.keySet());
+        }
+    }
+
+    /**
+     * 한 페이지 처리
+     * @return 처리 대상(이미 생성된 문서 제외) 회원 수
+     */
+    private int processPage(List<MemberProfileViewForVoca> page,
+                            Map<String, TimeRange> dueZones,
+                            List<Long> latencies) {
+        Map<String, MemberProfileViewForVoca> byDocId = new LinkedHashMap<>();
+        for (MemberProfileViewForVoca profile : page) {
+            TimeRange range = dueZones.get(profile.timezone());
+            if (range == null) continue;
+            byDocId.put(profile.membername() + "_" + range.yesterLocalDate(), profile);
+        }
+
+        // 중복 생성 방지: 페이지 단위로 한 번에 조회
+        Set<String> existing = memberVocaBookService.findExistingDocIds(byDocId.keySet());
+        if (!existing.isEmpty()) {
+            skipped.increment(existing.size());
+            log.info("⏩ 이미 생성된 문서 스킵: {}건", existing.size());
+        }
+
+        List<MemberProfileViewForVoca> targets = new ArrayList<>();
+        byDocId.forEach((docId, profile) -> {
+            if (!existing.contains(docId)) targets.add(profile);
+        });
+        if (targets.isEmpty()) return 0;
+
+        // 참여 채팅방: 페이지 전체를 쿼리 1회로
+        Map<Long, Set<String>> roomsByMember = chatRoomService.getChatRoomUuidsByMemberIds(
+                targets.stream().map(MemberProfileViewForVoca::memberId).toList());
+
+        // 방 단어장: 페이지 전체 방 $in + 가장 넓은 기간으로 1회 조회 → 방별로 묶음 (analyzedAt 오름차순 유지)
+        Set<String> allRooms = new HashSet<>();
+        roomsByMember.values().forEach(allRooms::addAll);
+        Instant from = targets.stream().map(p -> dueZones.get(p.timezone()).start()).min(Comparator.naturalOrder()).orElseThrow();
+        Instant to = targets.stream().map(p -> dueZones.get(p.timezone()).end()).max(Comparator.naturalOrder()).orElseThrow();
+        Map<String, List<ChatRoomVocabulary>> vocabsByRoom = new HashMap<>();
+        for (ChatRoomVocabulary v : memberVocaBookService.findRoomVocabularies(allRooms, from, to)) {
+            vocabsByRoom.computeIfAbsent(v.getChatRoomUuid(), k -> new ArrayList<>()).add(v);
+        }
+
+        List<Future<MemberVocabulary>> futures = new ArrayList<>();
+        List<Long> pageLatencies = Collections.synchronizedList(new ArrayList<>());
+        for (MemberProfileViewForVoca profile : targets) {
+            TimeRange range = dueZones.get(profile.timezone());
+            String docId = profile.membername() + "_" + range.yesterLocalDate();
+            Set<String> rooms = roomsByMember.getOrDefault(profile.memberId(), Set.of());
+
+            futures.add(executor.submit(() -> {
+                long t0 = System.nanoTime();
+                try {
+                    List<ChatRoomVocabulary> mine = new ArrayList<>();
+                    for (String room : rooms) {
+                        for (ChatRoomVocabulary v : vocabsByRoom.getOrDefault(room, List.of())) {
+                            if (!v.getAnalyzedAt().isBefore(range.start()) && v.getAnalyzedAt().isBefore(range.end())) {
+                                mine.add(v);
+                            }
+                        }
+                    }
+                    mine.sort(Comparator.comparing(ChatRoomVocabulary::getAnalyzedAt));
+                    return memberVocaBookService.mergeMemberVocabulary(
+                            profile.membername(),
+                            profile.language(),
+                            range.zone(),
+                            docId,
+                            mine
+                    );
+                } catch (Exception ex) {
+                    failed.increment();
+                    log.error("❌ 사용자 단어장 생성 실패 - member={}", profile.membername(), ex);
+                    return null;
+                } finally {
+                    long elapsed = System.nanoTime() - t0;
+                    userLatency.record(elapsed, TimeUnit.NANOSECONDS);
+                    pageLatencies.add(elapsed);
+                }
+            }));
+        }
+
+        List<MemberVocabulary> docs = new ArrayList<>();
+        for (Future<MemberVocabulary> f : futures) {
+            try {
+                MemberVocabulary doc = f.get();
+                if (doc != null) docs.add(doc);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("사용자 단어장 배치 중단", e);
+            } catch (ExecutionException e) {
+                log.error("❌ 사용자 단어장 작업 오류", e.getCause());
+            }
+        }
+
+        try {
+            int inserted = memberVocaBookService.saveAll(docs).size();
+            created.increment(inserted);
+            skipped.increment(docs.size() - inserted);
+            log.info("💾 저장 완료: {}명 단어장, 이미 있던 {}건 스킵 (페이지 {}명)", inserted, docs.size() - inserted, page.size());
+        } catch (Exception e) {
+            failed.increment(docs.size());
+            log.error("❌ 사용자 단어장 일괄 저장 실패 - {}건", docs.size(), e);
+        }
+
+        latencies.addAll(pageLatencies);
+        return futures.size();
+    }
+
+    /**
+     * 활성 타임존을 현재 UTC 오프셋으로 묶고, 로컬 시각이 05시인 버킷의 타임존만 반환
+     * (같은 오프셋이어도 어제 범위는 DST 이력에 따라 다를 수 있어 타임존별로 계산)
+     */
+    private Map<String, TimeRange> resolveDueZones(Instant now) {
+        Map<ZoneOffset, List<ZoneId>> byOffset = new HashMap<>();
+        for (String tz : memberService.findActiveTimezones()) {
+            try {
+                ZoneId zone = ZoneId.of(tz);
+                byOffset.computeIfAbsent(zone.getRules().getOffset(now), k -> new ArrayList<>()).add(zone);
+            } catch (DateTimeException e) {
+                log.warn("⚠️ 잘못된 타임존 스킵: {}", tz);
+            }
+        }
+
+        Map<String, TimeRange> due = new HashMap<>();
+        byOffset.forEach((offset, zones) -> {
+            if (now.atOffset(offset).getHour() != RUN_HOUR) return;
+            for (ZoneId zone : zones) {
+                due.put(zone.getId(), resolveYesterdayRange(zone, now));
+            }
+        });
+        return due;
+    }
+
+    /** 어제(사용자 타임존)의 시작/끝 + 문서 ID용 로컬 날짜 */
+    private static TimeRange resolveYesterdayRange(ZoneId zone, Instant now) {
+        ZonedDateTime startZdt = now.atZone(zone).minusDays(1).toLocalDate().atStartOfDay(zone);
+        ZonedDateTime endZdt = startZdt.plusDays(1);
+        return new TimeRange(zone, startZdt.toInstant(), endZdt.toInstant(), startZdt.toLocalDate());
+    }
+
+    private static long percentile(List<Long> sortedNanos, double p) {
+        if (sortedNanos.isEmpty()) return 0;
+        int idx = (int) Math.ceil(p * sortedNanos.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos.get(Math.max(idx, 0)));
+    }
+
+    /** 문서 생성 범위/날짜 전달용 */
+    private record TimeRange(ZoneId zone, Instant start, Instant end, LocalDate yesterLocalDate) {}
+}
@@ -0,0 +1,99 @@
+package org.example.howareyou.domain.vocabulary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.repository.MemberWordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ✅ 사용자 단어 목록 총개수 캐시
+ *  - 키: vocab:total:{membername} (Hash), 필드: lang|pos|level (없는 조건은 *)
+ *  - member_word 는 야간 단어장 생성 작업에서만 바뀌므로, 그 시점에 사용자 키 전체를 삭제하고 세대 번호 증가
+ *  - miss 시 count 전에 읽은 세대가 그대로일 때만 저장 (Lua 로 비교 + 저장) → 무효화 전에 센 값이 무효화 뒤에 저장되지 않음
+ *  - TTL 은 무효화 누락에 대한 안전장치, 키가 새로 만들어질 때만 설정 (필드 저장마다 연장하지 않음)
+ *  - Redis 장애 시 바로 count 쿼리로 진행
+ */
+@Slf4j
+@Component
+public class MemberWordCountCache {
+
+    private static final String PREFIX = "vocab:total:";
+    private static final String GENERATION_PREFIX = "vocab:total:gen:";
+    private static final String ANY = "*";
+
+    /** KEYS[1]=hash, KEYS[2]=세대 키 / ARGV[1]=count 전에 읽은 세대("" = 없음), ARGV[2]=필드, ARGV[3]=값, ARGV[4]=TTL 초 */
+    private static final RedisScript<Long> PUT_IF_GENERATION = new DefaultRedisScript<>("""
+            if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end
+            local created = redis.call('EXISTS', KEYS[1]) == 0
+            redis.call('HSET', KEYS[1], ARGV[2], ARGV[3])
+            if created then redis.call('EXPIRE', KEYS[1], ARGV[4]) end
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberWordRepository memberWordRepository;
+    private final Duration ttl;
+
+    public MemberWordCountCache(RedisTemplate<String, String> redisTemplate,
+                                MemberWordRepository memberWordRepository,
+                                @Value("${vocabulary.total-cache.ttl-hours:36}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.memberWordRepository = memberWordRepository;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /** 조건별 총개수 (캐시 miss 시 count 후 저장) */
+    public long count(String membername, String lang, String pos, String level) {
+        String key = PREFIX + membername;
+        String field = field(lang, pos, level);
+
+        try {
+            Object cached = redisTemplate.opsForHash().get(key, field);
+            if (cached != null) {
+                return Long.parseLong(cached.toString());
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 단어 개수 캐시 조회 실패 - member={}: {}", membername, e.getMessage());
+            return memberWordRepository.countWords(membername, lang, pos, level);
+        }
+
+        String generation;
+        try {
+            generation = redisTemplate.opsForValue().get(GENERATION_PREFIX + membername);
+        } catch (Exception e) {
+            log.warn("⚠️ 단어 개수 캐시 세대 조회 실패 - member={}: {}", membername, e.getMessage());
+            return memberWordRepository.countWords(membername, lang, pos, level);
+        }
+
+        long total = memberWordRepository.countWords(membername, lang, pos, level);
+        try {
+            redisTemplate.execute(PUT_IF_GENERATION, List.of(key, GENERATION_PREFIX + membername),
+                    generation == null ? "" : generation, field, Long.toString(total), Long.toString(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("⚠️ 단어 개수 캐시 저장 실패 - member={}: {}", membername, e.getMessage());
+        }
+        return total;
+    }
+
+    /** 사용자 단어가 바뀐 뒤 호출 (세대 증가 → 진행 중인 miss 의 저장 차단, 해당 사용자의 모든 조건 캐시 삭제) */
+    public void invalidate(String membername) {
+        try {
+            String generationKey = GENERATION_PREFIX + membername;
+            redisTemplate.opsForValue().increment(generationKey);
+            redisTemplate.expire(generationKey, ttl);
+            redisTemplate.delete(PREFIX + membername);
+        } catch (Exception e) {
+            log.warn("⚠️ 단어 개수 캐시 무효화 실패 - member={}: {}", membername, e.getMessage());
+        }
+    }
+
+    private static String field(String lang, String pos, String level) {
+        return (lang == null ? ANY : lang) + "|" + (pos == null ? ANY : pos) + "|" + (level == null ? ANY : level);
+    }
+}
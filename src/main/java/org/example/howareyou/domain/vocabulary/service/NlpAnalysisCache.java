@@ -0,0 +1,173 @@
+package org.example.howareyou.domain.vocabulary.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.dto.AnalyzedResponseWord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * ✅ NLP 분석 결과 캐시 (내용 주소 기반)
+ *  - 키: 정규화된 메시지 텍스트의 SHA-256
+ *  - 값: 해당 텍스트의 분석 결과 (word / pos / lang)
+ *    분석은 성공했지만 단어가 없는 메시지("ok", 이모지 등)는 빈 목록으로, 응답 누락 가능성을 고려해 짧은 TTL(empty-ttl) 로 저장
+ *  - 1차: Caffeine (크기 제한), 2차: Redis (TTL)
+ *  - Redis 장애 시 전부 miss 로 취급하고 NLP 호출로 진행
+ */
+@Slf4j
+@Component
+public class NlpAnalysisCache {
+
+    private static final String PREFIX = "nlp:analysis:v2:";   // v2: 대소문자 유지 키
+    private static final TypeReference<List<CachedWord>> WORDS_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Duration emptyTtl;
+    private final Cache<String, List<CachedWord>> local;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+    private final Counter savedMessages;
+
+    public NlpAnalysisCache(RedisTemplate<String, String> redisTemplate,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${nlp.cache.local-max-size:50000}") long localMaxSize,
+                            @Value("${nlp.cache.local-ttl-minutes:180}") long localTtlMinutes,
+                            @Value("${nlp.cache.redis-ttl-days:14}") long redisTtlDays,
+                            @Value("${nlp.cache.empty-ttl-hours:24}") long emptyTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofDays(redisTtlDays);
+        this.emptyTtl = Duration.ofHours(emptyTtlHours);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(localTtlMinutes))
+                .build();
+
+        this.localHits = Counter.builder("nlp.analysis.cache.requests").tag("result", "hit_local").register(meterRegistry);
+        this.redisHits = Counter.builder("nlp.analysis.cache.requests").tag("result", "hit_redis").register(meterRegistry);
+        this.misses = Counter.builder("nlp.analysis.cache.requests").tag("result", "miss").register(meterRegistry);
+        this.savedMessages = Counter.builder("nlp.analysis.cache.saved.messages")
+                .description("캐시/중복 제거로 NLP 서버에 보내지 않은 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /** 캐시 키 (정규화 텍스트 해시) */
+    public String keyOf(String content) {
+        return sha256(normalize(content));
+    }
+
+    /**
+     * 여러 키를 한 번에 조회 (로컬 → Redis MGET)
+     * 반환 Map 에는 hit 된 키만 포함
+     */
+    public Map<String, List<CachedWord>> getAll(Collection<String> keys) {
+        Map<String, List<CachedWord>> found = new HashMap<>(local.getAllPresent(keys));
+        localHits.increment(found.size());
+
+        List<String> remote = keys.stream().filter(k -> !found.containsKey(k)).distinct().toList();
+        if (remote.isEmpty()) return found;
+
+        int redisHitCount = 0;
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(remote.stream().map(k -> PREFIX + k).toList());
+            for (int i = 0; values != null && i < remote.size(); i++) {
+                String json = values.get(i);
+                if (json == null) continue;
+                List<CachedWord> words = objectMapper.readValue(json, WORDS_TYPE);
+                found.put(remote.get(i), words);
+                local.put(remote.get(i), words);     // Redis hit 은 로컬로 승격
+                redisHitCount++;
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ NLP 분석 캐시 Redis 조회 실패 → miss 처리: {}", e.toString());
+        }
+        redisHits.increment(redisHitCount);
+        misses.increment(remote.size() - redisHitCount);
+        return found;
+    }
+
+    /** 분석 결과 저장 (로컬 + Redis 파이프라인 SET EX, 빈 결과는 empty-ttl) */
+    public void putAll(Map<String, List<CachedWord>> entries) {
+        if (entries.isEmpty()) return;
+        local.putAll(entries);
+
+        try {
+            Map<byte[], byte[]> payload = new HashMap<>();
+            Set<byte[]> empty = new HashSet<>();
+            for (Map.Entry<String, List<CachedWord>> e : entries.entrySet()) {
+                byte[] key = (PREFIX + e.getKey()).getBytes(StandardCharsets.UTF_8);
+                payload.put(key, objectMapper.writeValueAsBytes(e.getValue()));
+                if (e.getValue().isEmpty()) empty.add(key);
+            }
+            Expiration expiration = Expiration.from(redisTtl);
+            Expiration emptyExpiration = Expiration.from(emptyTtl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                payload.forEach((k, v) -> connection.stringCommands()
+                        .set(k, v, empty.contains(k) ? emptyExpiration : expiration, RedisStringCommands.SetOption.upsert()));
+                return null;
+            });
+        } catch (JsonProcessingException e) {
+            log.error("❌ NLP 분석 캐시 직렬화 실패", e);
+        } catch (Exception e) {
+            log.warn("⚠️ NLP 분석 캐시 Redis 저장 실패: {}", e.toString());
+        }
+    }
+
+    /** 배치 1회에서 NLP 호출을 생략한 메시지 수 기록 */
+    public void recordSaved(int count) {
+        savedMessages.increment(count);
+    }
+
+    /* ---------- 정규화 ---------- */
+
+    /** 유니코드 NFC + 앞뒤 공백 제거 + 공백 압축 (대소문자는 품사/고유명사 분석에 영향을 주므로 유지) */
+    static String normalize(String content) {
+        if (content == null) return "";
+        String nfc = Normalizer.normalize(content, Normalizer.Form.NFC);
+        return nfc.strip().replaceAll("\\s+", " ");
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** 캐시에 보관하는 최소 분석 정보 (메시지 ID/예문은 메시지마다 다르므로 제외) */
+    public record CachedWord(String word, String pos, String lang) {
+
+        public static CachedWord from(AnalyzedResponseWord w) {
+            return new CachedWord(w.getWord(), w.getPos(), w.getLang());
+        }
+
+        public AnalyzedResponseWord toResponse(String sourceMessageId, String example) {
+            return new AnalyzedResponseWord(word, pos, lang, sourceMessageId, example);
+        }
+    }
+}
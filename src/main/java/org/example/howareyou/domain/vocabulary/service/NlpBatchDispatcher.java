@@ -0,0 +1,224 @@
+package org.example.howareyou.domain.vocabulary.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.domain.vocabulary.dto.AnalyzeBatchRequest;
+import org.example.howareyou.domain.vocabulary.dto.AnalyzedResponseWord;
+import org.example.howareyou.domain.vocabulary.dto.MessageItem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ✅ NLP 배치 분배기 (/analyze/mixed-batch 앞단)
+ *  - 작은 채팅방 여러 개의 메시지를 한 요청으로 묶고
+ *  - 큰 채팅방은 토큰 예산(token budget) 단위로 잘라서 보낸다
+ *  - 배치 지연시간을 보고 토큰 예산을 AIMD 방식으로 조절
+ *    (목표보다 빠르면 +step, 느리거나 실패하면 절반)
+ *  - 응답 단어는 sourceMessageId 로 원래 채팅방에 다시 분배
+ */
+@Slf4j
+@Component
+public class NlpBatchDispatcher {
+
+    private static final String MIXED_ROOM_PREFIX = "mixed:";
+
+    private final NlpClient nlpClient;
+
+    private final int minTokenBudget;
+    private final int maxTokenBudget;
+    private final int tokenBudgetStep;
+    private final int maxMessagesPerBatch;
+    private final long targetLatencyMs;
+    private final int concurrency;
+
+    /** 현재 배치 1건에 담을 최대 추정 토큰 수 (지연시간 기반으로 계속 조정됨) */
+    private final AtomicInteger tokenBudget;
+
+    private final DistributionSummary batchMessages;
+    private final DistributionSummary batchTokens;
+    private final DistributionSummary batchRooms;
+    private final Timer batchLatency;
+
+    public NlpBatchDispatcher(NlpClient nlpClient,
+                              MeterRegistry meterRegistry,
+                              @Value("${nlp.batch.initial-token-budget:4000}") int initialTokenBudget,
+                              @Value("${nlp.batch.min-token-budget:500}") int minTokenBudget,
+                              @Value("${nlp.batch.max-token-budget:20000}") int maxTokenBudget,
+                              @Value("${nlp.batch.token-budget-step:500}") int tokenBudgetStep,
+                              @Value("${nlp.batch.max-messages:500}") int maxMessagesPerBatch,
+                              @Value("${nlp.batch.target-latency-ms:3000}") long targetLatencyMs,
+                              @Value("${nlp.batch.concurrency:4}") int concurrency) {
+        this.nlpClient = nlpClient;
+        this.minTokenBudget = minTokenBudget;
+        this.maxTokenBudget = maxTokenBudget;
+        this.tokenBudgetStep = tokenBudgetStep;
+        this.maxMessagesPerBatch = maxMessagesPerBatch;
+        this.targetLatencyMs = targetLatencyMs;
+        this.concurrency = concurrency;
+        this.tokenBudget = new AtomicInteger(clamp(initialTokenBudget));
+
+        this.batchMessages = DistributionSummary.builder("nlp.batch.messages")
+                .description("NLP 배치 1건당 메시지 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchTokens = DistributionSummary.builder("nlp.batch.tokens")
+                .description("NLP 배치 1건당 추정 토큰 수")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchRooms = DistributionSummary.builder("nlp.batch.rooms")
+                .description("NLP 배치 1건에 묶인 채팅방 수")
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("nlp.batch.latency")
+                .description("NLP 배치 1건 응답 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("nlp.batch.token.budget", tokenBudget, AtomicInteger::get)
+                .description("현재 NLP 배치 토큰 예산")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 채팅방별 메시지를 배치로 재구성해 분석하고, 결과를 다시 채팅방별로 돌려준다.
+     *  - 결과 Map 에는 분석에 성공한 채팅방만 포함 (단어가 없으면 빈 리스트)
+     *  - 한 채팅방의 청크 중 하나라도 실패하면 그 채팅방은 결과에서 제외 (부분 저장 방지)
+     */
+    public Mono<Map<String, List<AnalyzedResponseWord>>> analyzeByRoom(Map<String, List<MessageItem>> messagesByRoom) {
+        if (messagesByRoom.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        Map<String, String> roomByMessageId = new HashMap<>();
+        messagesByRoom.forEach((room, messages) ->
+                messages.forEach(m -> roomByMessageId.put(m.messageId(), room)));
+
+        Map<String, List<AnalyzedResponseWord>> result = new ConcurrentHashMap<>();
+        messagesByRoom.keySet().forEach(room -> result.put(room, Collections.synchronizedList(new ArrayList<>())));
+        Set<String> failedRooms = ConcurrentHashMap.newKeySet();
+
+        List<Batch> batches = plan(messagesByRoom, tokenBudget.get());
+        log.info("📦 NLP 배치 계획 - rooms={}, batches={}, tokenBudget={}",
+                messagesByRoom.size(), batches.size(), tokenBudget.get());
+
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> send(batch)
+                                .doOnNext(words -> distribute(batch, words, roomByMessageId, result))
+                                .onErrorResume(e -> {
+                                    log.warn("⚠️ NLP 배치 실패 - rooms={}, messages={}, cause={}",
+                                            batch.rooms(), batch.messages().size(), e.toString());
+                                    failedRooms.addAll(batch.rooms());
+                                    return Mono.empty();
+                                }),
+                        concurrency)
+                .then(Mono.<Map<String, List<AnalyzedResponseWord>>>fromSupplier(() -> {
+                    failedRooms.forEach(result::remove);
+                    return new HashMap<>(result);
+                }));
+    }
+
+    /* ---------- 배치 구성 ---------- */
+
+    /**
+     * 채팅방 순서대로 메시지를 이어 붙이면서 토큰 예산/메시지 수 한도에 닿으면 배치를 끊는다.
+     *  - 작은 방들은 자연스럽게 한 배치로 합쳐지고
+     *  - 큰 방은 여러 배치로 나뉜다 (예산보다 큰 단일 메시지는 단독 배치)
+     */
+    List<Batch> plan(Map<String, List<MessageItem>> messagesByRoom, int budget) {
+        List<Batch> batches = new ArrayList<>();
+        List<MessageItem> current = new ArrayList<>();
+        Set<String> currentRooms = new LinkedHashSet<>();
+        int currentTokens = 0;
+
+        for (Map.Entry<String, List<MessageItem>> entry : messagesByRoom.entrySet()) {
+            for (MessageItem message : entry.getValue()) {
+                int tokens = estimateTokens(message.content());
+                boolean overBudget = currentTokens + tokens > budget || current.size() >= maxMessagesPerBatch;
+                if (!current.isEmpty() && overBudget) {
+                    batches.add(new Batch(List.copyOf(current), Set.copyOf(currentRooms), currentTokens));
+                    current.clear();
+                    currentRooms.clear();
+                    currentTokens = 0;
+                }
+                current.add(message);
+                currentRooms.add(entry.getKey());
+                currentTokens += tokens;
+            }
+        }
+        if (!current.isEmpty()) {
+            batches.add(new Batch(List.copyOf(current), Set.copyOf(currentRooms), currentTokens));
+        }
+        return batches;
+    }
+
+    /** spaCy 토큰 수 근사치: 공백 기준 단어 수와 글자 수/4 중 큰 값 */
+    static int estimateTokens(String content) {
+        if (content == null || content.isBlank()) return 1;
+        int words = content.trim().split("\\s+").length;
+        return Math.max(words, (content.length() + 3) / 4);
+    }
+
+    /* ---------- 전송 & 지연시간 피드백 ---------- */
+
+    private Mono<List<AnalyzedResponseWord>> send(Batch batch) {
+        String label = batch.rooms().size() == 1
+                ? batch.rooms().iterator().next()
+                : MIXED_ROOM_PREFIX + batch.rooms().size();
+        AnalyzeBatchRequest request = new AnalyzeBatchRequest(label, batch.messages());
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return nlpClient.analyzeBatchReactive(request)
+                    .doOnSuccess(words -> onBatchFinished(batch, System.nanoTime() - startedAt, true))
+                    .doOnError(e -> onBatchFinished(batch, System.nanoTime() - startedAt, false));
+        });
+    }
+
+    private void onBatchFinished(Batch batch, long elapsedNanos, boolean success) {
+        long elapsedMs = elapsedNanos / 1_000_000;
+        batchMessages.record(batch.messages().size());
+        batchTokens.record(batch.tokens());
+        batchRooms.record(batch.rooms().size());
+        batchLatency.record(Duration.ofNanos(elapsedNanos));
+
+        if (!success || elapsedMs > targetLatencyMs) {
+            tokenBudget.updateAndGet(b -> clamp(b / 2));                        // 느리거나 실패 → 절반
+        } else if (elapsedMs < targetLatencyMs / 2 && batch.tokens() >= tokenBudget.get() / 2) {
+            tokenBudget.updateAndGet(b -> clamp(b + tokenBudgetStep));          // 충분히 빠름 → 조금씩 키움
+        }
+    }
+
+    private int clamp(int budget) {
+        return Math.max(minTokenBudget, Math.min(maxTokenBudget, budget));
+    }
+
+    /* ---------- 결과 분배 ---------- */
+
+    private void distribute(Batch batch,
+                            List<AnalyzedResponseWord> words,
+                            Map<String, String> roomByMessageId,
+                            Map<String, List<AnalyzedResponseWord>> result) {
+        String singleRoom = batch.rooms().size() == 1 ? batch.rooms().iterator().next() : null;
+        for (AnalyzedResponseWord word : words) {
+            String room = word.getSourceMessageId() != null
+                    ? roomByMessageId.get(word.getSourceMessageId())
+                    : singleRoom;
+            if (room == null) {
+                log.debug("출처 채팅방을 알 수 없는 단어 무시 - word={}", word.getWord());
+                continue;
+            }
+            result.get(room).add(word);
+        }
+    }
+
+    /** 한 번의 /analyze/mixed-batch 호출 단위 */
+    record Batch(List<MessageItem> messages, Set<String> rooms, int tokens) {}
+}
@@ -11,13 +11,13 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 
 @Slf4j
 @Configuration
-//@Profile("dev")              // ⭐ dev 프로필에서만 활성
+@Profile("dev")               // ⭐ dev 프로필에서만 활성 (prod 기동 시 벡터 인덱스/이웃 목록/체크포인트/캐시를 지우지 않도록)
 @RequiredArgsConstructor
 public class DevRedisCleaner {
 
     private final RedisConnectionFactory cf;
 
-    /** 애플리케이션이 뜰 때마다 FLUSHDB */
+    /** 애플리케이션이 뜰 때마다 FLUSHDB (dev 전용 — 운영 키 정리는 RedisMaintenance 의 SCAN 배치 사용) */
     @Bean
     public CommandLineRunner flushRedisOnBoot() {
         return args -> {
@@ -20,6 +20,7 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -74,6 +75,9 @@ public class SecurityConfig {
                 // 세션 없이 동작(JWT)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+                // JwtAuthFilter 가 요청 속성에 저장한 인증을 ASYNC 디스패치(Mono 응답)에서도 사용
+                .securityContext(context -> context.securityContextRepository(new RequestAttributeSecurityContextRepository()))
+
                 // 인가 규칙
                 .authorizeHttpRequests(auth -> auth
                         // 프리플라이트(OPTIONS) 전체 허용
@@ -1,23 +1,44 @@
 package org.example.howareyou.global.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
-    @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
-    }
-
     // NLP 분석용 WebClient
+    // 배치 요청이 몰리는 사이드카라 전용 커넥션 풀을 둔다 (공용 풀과 분리)
     @Bean(name = "nlpWebClient") // 8000용 (기존)
     public WebClient nlpWebClient(@Value("${nlp.base-url}") String baseUrl,
-        WebClient.Builder builder) {
-        return builder.baseUrl(baseUrl).build();
+                                  @Value("${nlp.pool.max-connections:16}") int maxConnections,
+                                  @Value("${nlp.pool.pending-acquire-max-count:64}") int pendingAcquireMaxCount,
+                                  @Value("${nlp.pool.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+                                  @Value("${nlp.pool.max-idle-time-ms:30000}") long maxIdleTimeMs,
+                                  @Value("${nlp.pool.connect-timeout-ms:2000}") int connectTimeoutMs,
+                                  @Value("${nlp.pool.response-timeout-ms:30000}") long responseTimeoutMs,
+                                  @Value("${nlp.pool.max-in-memory-size-mb:16}") int maxInMemorySizeMb,
+                                  WebClient.Builder builder) {
+        HttpClient httpClient = pooledHttpClient("nlp-pool", maxConnections, pendingAcquireMaxCount,
+                pendingAcquireTimeoutMs, maxIdleTimeMs, connectTimeoutMs, responseTimeoutMs);
+
+        // 큰 배치 응답(토큰 리스트)이 기본 256KB 버퍼를 넘기지 않도록 상향
+        ExchangeStrategies strategies = ExchangeStrategies.builder()
+                .codecs(c -> c.defaultCodecs().maxInMemorySize(maxInMemorySizeMb * 1024 * 1024))
+                .build();
+
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .exchangeStrategies(strategies)
+                .build();
     }
 
     @Bean(name = "taggingNlpWebClient") // 8001용 (신규)
@@ -26,20 +47,65 @@ public class WebClientConfig {
         return builder.baseUrl(baseUrl).build();
     }
 
+    // 번역 호출용 - 서블릿 스레드를 잡지 않도록 논블로킹, 엔진별 전용 커넥션 풀
     @Bean(name = "translateWebClient")
     public WebClient translateWebClient(@Value("${libretranslate.host}") String host, @Value("${libretranslate.port}") int port,
+                                        @Value("${libretranslate.pool.max-connections:50}") int maxConnections,
+                                        @Value("${libretranslate.pool.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+                                        @Value("${libretranslate.pool.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+                                        @Value("${libretranslate.pool.max-idle-time-ms:30000}") long maxIdleTimeMs,
+                                        @Value("${libretranslate.pool.connect-timeout-ms:2000}") int connectTimeoutMs,
+                                        @Value("${libretranslate.pool.response-timeout-ms:10000}") long responseTimeoutMs,
                                         WebClient.Builder builder) {
         String baseUrl = "http://" + host + ":" + port;
-        return builder.baseUrl(baseUrl).build();
+        HttpClient httpClient = pooledHttpClient("libretranslate-pool", maxConnections, pendingAcquireMaxCount,
+                pendingAcquireTimeoutMs, maxIdleTimeMs, connectTimeoutMs, responseTimeoutMs);
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 
     @Bean(name = "geminiWebClient")
     public WebClient geminiWebClient(@Value("${gemini.base-url}") String baseUrl,
                                      @Value("${gemini.model}") String model,
                                      @Value("${gemini.api-key}") String apiKey,
+                                     @Value("${gemini.pool.max-connections:20}") int maxConnections,
+                                     @Value("${gemini.pool.pending-acquire-max-count:100}") int pendingAcquireMaxCount,
+                                     @Value("${gemini.pool.pending-acquire-timeout-ms:2000}") long pendingAcquireTimeoutMs,
+                                     @Value("${gemini.pool.max-idle-time-ms:60000}") long maxIdleTimeMs,
+                                     @Value("${gemini.pool.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                     @Value("${gemini.pool.response-timeout-ms:15000}") long responseTimeoutMs,
                                      WebClient.Builder builder) {
-        return builder.baseUrl(baseUrl+"/models/"+model+"/")
+        HttpClient httpClient = pooledHttpClient("gemini-pool", maxConnections, pendingAcquireMaxCount,
+                pendingAcquireTimeoutMs, maxIdleTimeMs, connectTimeoutMs, responseTimeoutMs);
+        return builder.clone()
+                .baseUrl(baseUrl+"/models/"+model+"/")
                 .defaultHeader("x-goog-api-key", apiKey)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
+
+    /**
+     * 전용 커넥션 풀 + 연결/응답 타임아웃을 가진 Reactor Netty 클라이언트
+     * (풀이 가득 차면 pending-acquire-max-count 까지만 대기, 그 이상은 즉시 실패)
+     */
+    private static HttpClient pooledHttpClient(String name, int maxConnections, int pendingAcquireMaxCount,
+                                               long pendingAcquireTimeoutMs, long maxIdleTimeMs,
+                                               int connectTimeoutMs, long responseTimeoutMs) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))   // 상대 서버 keep-alive 보다 짧게
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)                                   // reactor.netty.connection.provider.* 지표
+                .build();
+
+        return HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .keepAlive(true)
+                .compress(true);
+    }
 }
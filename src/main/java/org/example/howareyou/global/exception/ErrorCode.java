@@ -116,6 +116,10 @@ public enum ErrorCode {
     /* ───────────[Vector]─────────── */
     VECTOR_SERIALIZATION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "VEC001", "사용자 벡터 직렬화에 실패했습니다."),
     VECTOR_DESERIALIZATION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "VEC002", "사용자 벡터 역직렬화에 실패했습니다."),
+
+    /* ───────────[Redis]─────────── */
+    REDIS_MAINTENANCE_RUNNING(HttpStatus.CONFLICT, "R001", "같은 Redis 일괄 작업이 이미 실행 중입니다."),
+
     /* ───────────[퀴즈]─────────── */
     INVALID_DATE_FORMAT(HttpStatus.BAD_REQUEST, "Q001", "잘못된 날짜 형식입니다. yyyy-dd-MM 형식으로 보내주세요."),
 //    INSUFFICIENT_DISTRACTORS(HttpStatus.UNPROCESSABLE_ENTITY, "Q002", "오답 선택지가 부족합니다."),
@@ -0,0 +1,12 @@
+package org.example.howareyou.global.redis;
+
+/**
+ * Redis 일괄 작업 진행 상황
+ *
+ * @param scanned  SCAN 으로 읽은 키 수
+ * @param matched  필터를 통과해 처리한 키 수
+ * @param unlinked 삭제한 키 수
+ */
+public record MaintenanceProgress(String job, String pattern, long scanned, long matched, long unlinked,
+                                  long elapsedMs, boolean cancelled) {
+}
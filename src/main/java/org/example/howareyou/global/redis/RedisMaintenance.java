@@ -0,0 +1,190 @@
+package org.example.howareyou.global.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.howareyou.global.exception.CustomException;
+import org.example.howareyou.global.exception.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * ✅ Redis 일괄 작업 공통 도구 (KEYS 대신 SCAN)
+ *
+ *  - SCAN MATCH pattern COUNT scan-count 커서로 키를 나눠 읽고 batch-size 단위로 처리
+ *  - 값 확인은 배치당 MGET 1회, 삭제는 배치당 UNLINK 1회 (값 해제는 Redis 백그라운드 스레드)
+ *  - max-keys-per-second 로 처리 속도 제한 → 채팅/presence 트래픽과 같은 Redis 를 오래 점유하지 않음
+ *  - 작업 이름별 진행 상황 조회(progress) / 취소(cancel), 같은 이름의 작업은 동시에 하나만
+ */
+@Slf4j
+@Component
+public class RedisMaintenance {
+
+    private static final long PROGRESS_LOG_INTERVAL_MS = 5_000;
+
+    private final RedisTemplate<String, String> redis;
+    private final int scanCount;
+    private final int batchSize;
+    private final int maxKeysPerSecond;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public RedisMaintenance(RedisTemplate<String, String> redis,
+                            @Value("${redis.maintenance.scan-count:500}") int scanCount,
+                            @Value("${redis.maintenance.batch-size:500}") int batchSize,
+                            @Value("${redis.maintenance.max-keys-per-second:5000}") int maxKeysPerSecond) {
+        this.redis = redis;
+        this.scanCount = scanCount;
+        this.batchSize = batchSize;
+        this.maxKeysPerSecond = maxKeysPerSecond;
+    }
+
+    /**
+     * pattern 에 맞고 keyFilter 를 통과한 키를 모두 UNLINK
+     */
+    public MaintenanceProgress unlink(String jobName, String pattern, Predicate<String> keyFilter) {
+        return run(jobName, pattern, keyFilter, (job, batch) -> job.unlinked(unlinkBatch(batch)));
+    }
+
+    /**
+     * pattern 에 맞는 키의 값을 배치로 MGET 해서 shouldUnlink 가 true 인 키만 UNLINK
+     * (값을 읽지 못한 키는 value = null 로 전달)
+     */
+    public <V> MaintenanceProgress sweep(String jobName, RedisTemplate<String, V> template, String pattern,
+                                         Predicate<String> keyFilter, BiPredicate<String, V> shouldUnlink) {
+        return run(jobName, pattern, keyFilter, (job, batch) -> {
+            List<V> values = multiGet(template, batch);
+            List<String> targets = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (shouldUnlink.test(batch.get(i), values.get(i))) targets.add(batch.get(i));
+            }
+            job.unlinked(unlinkBatch(targets));
+        });
+    }
+
+    /** 실행 중인 작업 진행 상황 */
+    public List<MaintenanceProgress> progress() {
+        return jobs.values().stream().map(Job::snapshot).toList();
+    }
+
+    /** 작업 취소 요청 (현재 배치를 마치고 멈춤) — 실행 중이 아니면 false */
+    public boolean cancel(String jobName) {
+        Job job = jobs.get(jobName);
+        if (job == null) return false;
+        job.cancelled = true;
+        log.info("🛑 Redis 작업 취소 요청 - {}", jobName);
+        return true;
+    }
+
+    private MaintenanceProgress run(String jobName, String pattern, Predicate<String> keyFilter, BatchHandler handler) {
+        Job job = new Job(jobName, pattern);
+        if (jobs.putIfAbsent(jobName, job) != null) {
+            throw new CustomException(ErrorCode.REDIS_MAINTENANCE_RUNNING, "이미 실행 중인 Redis 작업입니다: " + jobName);
+        }
+        log.info("🧹 Redis 작업 시작 - {} (pattern={}, count={}, batch={}, {} keys/s)",
+                jobName, pattern, scanCount, batchSize, maxKeysPerSecond);
+        long lastLogAt = System.currentTimeMillis();
+        try (Cursor<String> cursor = redis.scan(ScanOptions.scanOptions().match(pattern).count(scanCount).build())) {
+            List<String> batch = new ArrayList<>(batchSize);
+            while (!job.cancelled && cursor.hasNext()) {
+                String key = cursor.next();
+                job.scanned++;
+                if (keyFilter.test(key)) batch.add(key);
+                if (batch.size() < batchSize) continue;
+
+                process(job, batch, handler);
+                batch = new ArrayList<>(batchSize);
+                if (System.currentTimeMillis() - lastLogAt >= PROGRESS_LOG_INTERVAL_MS) {
+                    lastLogAt = System.currentTimeMillis();
+                    log.info("🔄 Redis 작업 진행 - {}", job.snapshot());
+                }
+            }
+            if (!job.cancelled && !batch.isEmpty()) process(job, batch, handler);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.cancelled = true;
+        } finally {
+            jobs.remove(jobName, job);
+        }
+
+        MaintenanceProgress result = job.snapshot();
+        log.info("{} Redis 작업 {} - {}", result.cancelled() ? "🛑" : "✅", result.cancelled() ? "취소" : "완료", result);
+        return result;
+    }
+
+    private void process(Job job, List<String> batch, BatchHandler handler) throws InterruptedException {
+        handler.handle(job, batch);
+        job.matched += batch.size();
+        throttle(job);
+    }
+
+    /** 시작 시점부터 max-keys-per-second 를 넘지 않도록 대기 */
+    private void throttle(Job job) throws InterruptedException {
+        if (maxKeysPerSecond <= 0) return;
+        long expectedMs = job.matched * 1000 / maxKeysPerSecond;
+        long elapsedMs = System.currentTimeMillis() - job.startedAt;
+        if (expectedMs > elapsedMs) Thread.sleep(expectedMs - elapsedMs);
+    }
+
+    private long unlinkBatch(List<String> keys) {
+        if (keys.isEmpty()) return 0;
+        Long removed = redis.unlink(keys);
+        return removed == null ? 0 : removed;
+    }
+
+    /** 배치 MGET — 역직렬화 실패 시 키별로 다시 읽고, 읽지 못한 값은 null */
+    private static <V> List<V> multiGet(RedisTemplate<String, V> template, List<String> keys) {
+        try {
+            List<V> values = template.opsForValue().multiGet(keys);
+            if (values != null && values.size() == keys.size()) return values;
+        } catch (Exception e) {
+            log.debug("MGET 실패 → 키별 조회: {}", e.getMessage());
+        }
+        List<V> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            try {
+                values.add(template.opsForValue().get(key));
+            } catch (Exception e) {
+                values.add(null);
+            }
+        }
+        return values;
+    }
+
+    @FunctionalInterface
+    private interface BatchHandler {
+        void handle(Job job, List<String> batch);
+    }
+
+    /** 실행 중인 작업 상태 (카운터는 작업 스레드만 갱신, 조회는 스냅샷) */
+    private static final class Job {
+        private final String name;
+        private final String pattern;
+        private final long startedAt = System.currentTimeMillis();
+        private volatile long scanned;
+        private volatile long matched;
+        private volatile long unlinked;
+        private volatile boolean cancelled;
+
+        private Job(String name, String pattern) {
+            this.name = name;
+            this.pattern = pattern;
+        }
+
+        private void unlinked(long count) {
+            unlinked += count;
+        }
+
+        private MaintenanceProgress snapshot() {
+            return new MaintenanceProgress(name, pattern, scanned, matched, unlinked,
+                    System.currentTimeMillis() - startedAt, cancelled);
+        }
+    }
+}
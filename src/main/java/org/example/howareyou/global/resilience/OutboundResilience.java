@@ -0,0 +1,76 @@
+package org.example.howareyou.global.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import io.github.resilience4j.reactor.timelimiter.operator.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부(사이드카/외부 API) 호출 공통 보호 계층
+ *
+ * 의존 서비스별 인스턴스 이름으로 resilience4j 설정(application.yml)을 찾아 적용:
+ *  - CircuitBreaker : 실패/지연 비율이 높으면 OPEN → 즉시 실패 (스레드가 쌓이지 않음)
+ *  - RateLimiter    : 초당 호출 수 제한
+ *  - Bulkhead       : 동시 호출 수 제한 (세마포어, 대기 없이 거절)
+ *  - TimeLimiter    : 호출 상한 시간
+ *
+ * 지표는 resilience4j-micrometer 가 자동 등록 (resilience4j.circuitbreaker.* 등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundResilience {
+
+    public static final String NLP = "nlp";
+    public static final String TAGGING = "tagging";
+    public static final String LIBRETRANSLATE = "libretranslate";
+    public static final String GEMINI = "gemini";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+
+    /**
+     * 리액티브 호출 보호
+     * 바깥쪽부터 RateLimiter → Bulkhead → CircuitBreaker → TimeLimiter → 실제 호출
+     *  - CircuitBreaker 를 거절 계층 안쪽에 둬서 호출률/동시성 초과 거절이 실패율에 잡히지 않음
+     *    (순간 몰림만으로 정상 사이드카의 서킷이 OPEN 되지 않도록, 설정의 ignore-exceptions 도 같은 목적)
+     */
+    public <T> Mono<T> mono(String name, Mono<T> call) {
+        return call
+                .transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(name)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(name)))
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(name)))
+                .transformDeferred(RateLimiterOperator.of(rateLimiterRegistry.rateLimiter(name)));
+    }
+
+    /** 보호 계층이 스스로 거절한 경우 (OPEN / 동시성 초과 / 호출률 초과) */
+    public static boolean isRejected(Throwable e) {
+        return e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException
+                || e instanceof RequestNotPermitted;
+    }
+
+    /** 재시도할 가치가 있는 일시적 오류인지 (타임아웃, 연결 실패, 5xx) */
+    public static boolean isTransient(Throwable e) {
+        if (isRejected(e)) return false;
+        if (e instanceof WebClientResponseException r) return r.getStatusCode().is5xxServerError();
+        return e instanceof TimeoutException || e instanceof WebClientRequestException;
+    }
+}
@@ -9,11 +9,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.howareyou.domain.member.redis.MemberCacheService;
+import org.example.howareyou.domain.member.redis.PresenceService;
 import org.example.howareyou.global.security.CustomMemberDetails;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -28,6 +32,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
     private final MemberCacheService memberCacheService;
+    private final PresenceService presenceService;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
 
     /** JWT 형식인지 간단히 확인 (header.payload.signature) */
     private boolean looksLikeJwt(String token) {
@@ -102,13 +108,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 } else {
                     memberCacheService.cache(id);           // 캐시 miss → 새로 캐싱
                 }
+                presenceService.seen(id);                   // 접속 인덱스 (ZADD, 회원당 15초에 한 번)
             } catch (Exception e) {
                 log.error("멤버 캐싱 처리 중 오류 발생: {}", id, e);
                 // 캐싱 오류가 있어도 인증은 계속 진행
             }
             /* -------------------------------------------------- */
 
-            SecurityContextHolder.getContext().setAuthentication(auth);
+            // 요청 속성에도 저장 → Mono/비동기 응답의 ASYNC 재디스패치에서 SecurityContextHolderFilter 가 다시 불러옴
+            //   (OncePerRequestFilter 라 ASYNC 디스패치에서는 이 필터가 다시 돌지 않음)
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(auth);
+            SecurityContextHolder.setContext(context);
+            securityContextRepository.saveContext(context, req, res);
         }
         catch (ExpiredJwtException e) {
             log.debug("JWT expired: {}", e.getMessage());
@@ -13,6 +13,8 @@ import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.member.entity.Role;
 import org.example.howareyou.domain.member.redis.MemberCacheService;
 import org.example.howareyou.domain.member.repository.MemberRepository;
+import org.example.howareyou.global.redis.MaintenanceProgress;
+import org.example.howareyou.global.redis.RedisMaintenance;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
@@ -41,6 +43,7 @@ public class TestController {
     private final AuthRepository authRepository;
     private final PasswordEncoder passwordEncoder;
     private final MemberCacheService memberCacheService;
+    private final RedisMaintenance redisMaintenance;
 
     @Operation(
         summary = "테스트 계정 생성",
@@ -191,9 +194,10 @@ public class TestController {
     public ResponseEntity<Map<String, Object>> clearCache() {
         Map<String, Object> response = new HashMap<>();
         try {
-            memberCacheService.clearAllCache();
-            response.put("success", true);
-            response.put("message", "모든 멤버 캐시가 삭제되었습니다.");
+            MaintenanceProgress result = memberCacheService.clearAllCache();
+            response.put("success", !result.cancelled());
+            response.put("message", result.cancelled() ? "멤버 캐시 삭제가 취소되었습니다." : "모든 멤버 캐시가 삭제되었습니다.");
+            response.put("progress", result);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             response.put("success", false);
@@ -209,9 +213,10 @@ public class TestController {
     public ResponseEntity<Map<String, Object>> migrateCache() {
         Map<String, Object> response = new HashMap<>();
         try {
-            memberCacheService.migrateCache();
-            response.put("success", true);
-            response.put("message", "캐시 마이그레이션이 완료되었습니다.");
+            MaintenanceProgress result = memberCacheService.migrateCache();
+            response.put("success", !result.cancelled());
+            response.put("message", result.cancelled() ? "캐시 마이그레이션이 취소되었습니다." : "캐시 마이그레이션이 완료되었습니다.");
+            response.put("progress", result);
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             response.put("success", false);
@@ -220,6 +225,26 @@ public class TestController {
         }
     }
 
+    /**
+     * 실행 중인 Redis 일괄 작업 진행 상황
+     */
+    @GetMapping("/redis-maintenance")
+    public ResponseEntity<List<MaintenanceProgress>> redisMaintenanceProgress() {
+        return ResponseEntity.ok(redisMaintenance.progress());
+    }
+
+    /**
+     * Redis 일괄 작업 취소 (현재 배치를 마치고 멈춤)
+     */
+    @PostMapping("/redis-maintenance/{job}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelRedisMaintenance(@PathVariable String job) {
+        Map<String, Object> response = new HashMap<>();
+        boolean cancelled = redisMaintenance.cancel(job);
+        response.put("success", cancelled);
+        response.put("message", cancelled ? "취소를 요청했습니다." : "실행 중인 작업이 없습니다: " + job);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 캐시 상태 확인
      */
@@ -212,7 +212,7 @@ public class VocaTestController {
                     memberId, membername, userLang, docId, from, to, timezone);
 
             // ✅ 서비스 호출 시 docId를 함께 전달
-            memberVocaBookService.generateVocabularyForMember(memberId, membername, userLang, from, to, docId);
+            memberVocaBookService.generateVocabularyForMember(memberId, membername, userLang, from, to, zone, docId);
 
             result.put("success", true);
             result.put("message", "사용자 단어장 생성 로직 실행 완료");
@@ -0,0 +1,94 @@
+package org.example.howareyou.domain.member.service;
+
+import jakarta.persistence.EntityManager;
+import org.example.howareyou.domain.member.dto.request.MatchQuery;
+import org.example.howareyou.domain.member.entity.Member;
+import org.example.howareyou.domain.member.entity.MemberProfile;
+import org.example.howareyou.domain.member.entity.MemberTag;
+import org.example.howareyou.domain.member.redis.PresenceService;
+import org.example.howareyou.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관심사 매칭: SQL(findDistinctByProfileInterestsInAndIdNot) vs 비트맵 인덱스 비교 (결과 일치만 검증, 시간은 로그)
+ * 기본 빌드에서는 건너뜀 → ./gradlew test --tests '*MemberMatchBenchmarkTest' -Dbenchmark=true
+ */
+@DataJpaTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MemberMatchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberMatchBenchmarkTest.class);
+
+    private static final int MEMBERS = 5_000;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void anyInterests_sqlVsBitmap() {
+        Random random = new Random(42);
+        MemberTag[] tags = MemberTag.values();
+        for (int i = 0; i < MEMBERS; i++) {
+            Set<MemberTag> interests = EnumSet.noneOf(MemberTag.class);
+            for (int k = 0; k < 3; k++) interests.add(tags[random.nextInt(tags.length)]);
+            Member m = Member.create("bench" + i + "@example.com");
+            m.setMembername("bench" + i);
+            MemberProfile.create("nick" + i, null, null, interests).setMember(m);
+            em.persist(m);
+        }
+        em.flush();
+        em.clear();
+
+        PresenceService presenceService = mock(PresenceService.class);
+        when(presenceService.onlineMemberIds()).thenReturn(List.of());
+        MemberMatchIndex index = new MemberMatchIndex(memberRepository, presenceService);
+        index.rebuild();
+        Set<MemberTag> query = EnumSet.of(MemberTag.TRAVEL, MemberTag.MUSIC);
+
+        List<Long> sqlIds = memberRepository.findDistinctByProfileInterestsInAndIdNot(query, -1L)
+                .stream().map(Member::getId).toList();
+        List<Long> bitmapIds = index.match(MatchQuery.anyOf(query), -1L, MEMBERS);
+        assertThat(bitmapIds).containsExactlyInAnyOrderElementsOf(sqlIds);
+
+        double sqlMicros = measure(() -> {
+            em.clear();
+            return memberRepository.findDistinctByProfileInterestsInAndIdNot(query, -1L).size();
+        });
+        double bitmapMicros = measure(() -> index.match(MatchQuery.anyOf(query), -1L, MEMBERS).size());
+
+        // 시간은 기록만 (실행 환경에 따라 달라지므로 검증하지 않음)
+        log.info("매칭 {}명 중 {}명 - SQL {}µs/op, 비트맵 {}µs/op ({}배)", MEMBERS, sqlIds.size(),
+                String.format("%.1f", sqlMicros), String.format("%.1f", bitmapMicros),
+                String.format("%.0f", sqlMicros / bitmapMicros));
+    }
+
+    private static double measure(Supplier<Integer> op) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += op.get();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += op.get();
+        double micros = (System.nanoTime() - startedAt) / 1_000.0 / ITERATIONS;
+        if (sink < 0) throw new IllegalStateException();
+        return micros;
+    }
+}
@@ -0,0 +1,125 @@
+package org.example.howareyou.domain.member.service;
+
+import org.example.howareyou.domain.member.dto.request.MatchQuery;
+import org.example.howareyou.domain.member.dto.response.MemberMatchRow;
+import org.example.howareyou.domain.member.entity.MemberTag;
+import org.example.howareyou.domain.member.event.MemberMatchChangedEvent;
+import org.example.howareyou.domain.member.redis.PresenceService;
+import org.example.howareyou.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberMatchIndexTest {
+
+    private MemberRepository memberRepository;
+    private MemberMatchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findMatchRowsAfter(any(), any())).thenReturn(List.of(
+                row(1L, Set.of(MemberTag.TRAVEL, MemberTag.MUSIC), "ko", "KR", 25),
+                row(2L, Set.of(MemberTag.TRAVEL), "en", "US", 31),
+                row(3L, Set.of(MemberTag.TRAVEL, MemberTag.MUSIC, MemberTag.FOOD), "en", "KR", null),
+                row(4L, Set.of(MemberTag.SPORTS), "ko", "KR", 40)
+        ));
+        PresenceService presenceService = mock(PresenceService.class);
+        when(presenceService.onlineMemberIds()).thenReturn(List.of(3L));
+        index = new MemberMatchIndex(memberRepository, presenceService);
+        index.rebuild();
+    }
+
+    @Test
+    void match_allInterests_onlineFirst() {
+        List<Long> ids = index.match(MatchQuery.allOf(Set.of(MemberTag.TRAVEL, MemberTag.MUSIC)), null, 10);
+
+        assertThat(ids).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void match_anyInterests_excludesRequester() {
+        List<Long> ids = index.match(MatchQuery.anyOf(Set.of(MemberTag.MUSIC, MemberTag.SPORTS)), 1L, 10);
+
+        assertThat(ids).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    void match_languageCountryAndAge() {
+        assertThat(index.match(new MatchQuery(null, null, "KO", "kr", null, null, false), null, 10))
+                .containsExactlyInAnyOrder(1L, 4L);
+        // 생년월일 없는 회원(3)은 나이 조건이 있으면 제외
+        assertThat(index.match(new MatchQuery(Set.of(MemberTag.TRAVEL), null, null, null, 20, 35, false), null, 10))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.match(new MatchQuery(null, null, "ja", null, null, null, false), null, 10)).isEmpty();
+    }
+
+    @Test
+    void put_replacesPreviousAttributes_andRemoveFreesSlot() {
+        index.put(row(2L, Set.of(MemberTag.SPORTS), "ko", "JP", 31));
+
+        assertThat(index.match(MatchQuery.allOf(Set.of(MemberTag.TRAVEL)), null, 10)).doesNotContain(2L);
+        assertThat(index.match(new MatchQuery(null, null, null, "US", null, null, false), null, 10)).isEmpty();
+        assertThat(index.match(MatchQuery.allOf(Set.of(MemberTag.SPORTS)), null, 10)).containsExactlyInAnyOrder(2L, 4L);
+
+        index.remove(4L);
+        index.put(row(5L, Set.of(MemberTag.SPORTS), "en", "KR", 22));
+
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.match(MatchQuery.allOf(Set.of(MemberTag.SPORTS)), null, 10)).containsExactlyInAnyOrder(2L, 5L);
+    }
+
+    @Test
+    void match_onlineOnly_andLimit() {
+        assertThat(index.match(new MatchQuery(null, null, null, null, null, null, true), null, 10)).containsExactly(3L);
+        assertThat(index.match(MatchQuery.allOf(Set.of()), null, 2)).hasSize(2).startsWith(3L);
+    }
+
+    @Test
+    void rebuild_keepsUpdatesAppliedWhileLoading() {
+        // given: 적재 쿼리가 돌아가는 사이 회원 2 수정 커밋, 회원 4 탈퇴 커밋
+        when(memberRepository.findMatchRowsAfter(any(), any())).thenAnswer(inv -> {
+            index.onMemberMatchChanged(new MemberMatchChangedEvent(2L, row(2L, Set.of(MemberTag.SPORTS), "en", "US", 31)));
+            index.onMemberMatchChanged(MemberMatchChangedEvent.removed(4L));
+            return List.of(
+                    row(1L, Set.of(MemberTag.TRAVEL, MemberTag.MUSIC), "ko", "KR", 25),
+                    row(2L, Set.of(MemberTag.TRAVEL), "en", "US", 31),       // 수정 전 스냅샷
+                    row(4L, Set.of(MemberTag.SPORTS), "ko", "KR", 40));
+        });
+
+        // when
+        index.rebuild();
+
+        // then: 스냅샷이 아니라 나중 증분이 남음
+        assertThat(index.match(MatchQuery.allOf(Set.of(MemberTag.SPORTS)), null, 10)).containsExactly(2L);
+        assertThat(index.match(MatchQuery.allOf(Set.of(MemberTag.TRAVEL)), null, 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void failedRebuild_keepsCurrentIndex() {
+        // given
+        when(memberRepository.findMatchRowsAfter(any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        index.scheduledRebuild();
+        index.put(row(5L, Set.of(MemberTag.FOOD), "ko", "KR", 22));
+
+        // then
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(index.match(MatchQuery.allOf(Set.of(MemberTag.FOOD)), null, 10)).containsExactlyInAnyOrder(3L, 5L);
+    }
+
+    private static MemberMatchRow row(long id, Set<MemberTag> interests, String language, String country, Integer age) {
+        LocalDate birth = age == null ? null : LocalDate.now().minusYears(age).minusDays(1);
+        return new MemberMatchRow(id, MemberTag.maskOf(interests), language, country, birth);
+    }
+}
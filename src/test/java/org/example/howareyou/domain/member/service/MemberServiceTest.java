@@ -1,6 +1,9 @@
 
 package org.example.howareyou.domain.member.service;
 
+import org.example.howareyou.domain.member.dto.request.FilterRequest;
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryPage;
+import org.example.howareyou.domain.member.dto.response.MemberDiscoveryView;
 import org.example.howareyou.domain.member.dto.response.ProfileResponse;
 import org.example.howareyou.domain.member.entity.MemberTag;
 import org.example.howareyou.domain.member.entity.Member;
@@ -13,11 +16,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +36,9 @@ class MemberServiceTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberMatchIndex memberMatchIndex;   // 적재 전(isReady=false) → DB 조회 경로
+
     private Member member1;
     private Member member2;
     private Member member3;
@@ -59,11 +69,13 @@ class MemberServiceTest {
 
     @Test
     void findOthersWithSameCategories() {
-        // given
+        // given: 인덱스 적재 전 → 관심사 하나라도 겹치는 회원을 SQL 로 조회, 상한은 인덱스 경로와 같은 200명
         when(memberRepository.findById(1L)).thenReturn(Optional.of(member1));
-        when(memberRepository.findDistinctByProfileInterestsInAndIdNot(
-                Set.of(MemberTag.SPORTS, MemberTag.MUSIC), 1L))
-                .thenReturn(List.of(member2));
+        when(memberRepository.findIdsWithAnyInterest(1L,
+                MemberTag.maskOf(Set.of(MemberTag.SPORTS, MemberTag.MUSIC)), 200))
+                .thenReturn(List.of(2L));
+        when(memberRepository.findDiscoveryViewsByIds(List.of(2L)))
+                .thenReturn(List.of(view(2L, "member2", null)));
 
         // when
         List<ProfileResponse> result = memberService.findOthersWithSameCategories(1L);
@@ -72,4 +84,54 @@ class MemberServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getMembername()).isEqualTo("member2");
     }
+
+    @Test
+    void findOthersWithFilter_beforeIndexReady_pushesConditionsIntoQuery() {
+        // given: 인덱스 적재 전 → DB 조회, 조건은 모두 SQL 로 전달하고 상한은 200명
+        FilterRequest filter = new FilterRequest();
+        filter.setInterests(Set.of(MemberTag.SPORTS));
+        filter.setLanguage("en");
+        filter.setCountry("US");
+        filter.setMinAge(20);
+        filter.setMaxAge(30);
+        LocalDate today = LocalDate.now();
+        when(memberRepository.findDiscoverableIds(eq(1L), eq(MemberTag.SPORTS.bit()), eq("en"), eq("US"),
+                eq(today.minusYears(20)), eq(today.minusYears(31).plusDays(1)),
+                any(Instant.class), eq(Long.MAX_VALUE), eq(200)))
+                .thenReturn(List.of(3L, 2L));
+        when(memberRepository.findDiscoveryViewsByIds(List.of(3L, 2L))).thenReturn(List.of(
+                view(2L, "member2", today.minusYears(30)),
+                view(3L, "member3", today.minusYears(25))));
+
+        // when
+        List<ProfileResponse> result = memberService.findOthersWithFilter(filter, 1L);
+
+        // then: 쿼리가 준 최근 활동순 유지, 나이는 MemberProfile 과 같은 계산
+        assertThat(result).extracting(ProfileResponse::getMembername).containsExactly("member3", "member2");
+        assertThat(result).extracting(ProfileResponse::getAge).containsExactly(25, 30);
+    }
+
+    @Test
+    void discoverMembers_readsOneExtraRowForNextCursor() {
+        // given
+        when(memberRepository.findDiscoverableIds(eq(1L), eq(0L), any(Instant.class), eq(Long.MAX_VALUE), eq(3)))
+                .thenReturn(List.of(5L, 4L, 3L));
+        when(memberRepository.findDiscoveryViewsByIds(List.of(5L, 4L))).thenReturn(List.of(
+                view(5L, "member5", null),
+                view(4L, "member4", null)));
+
+        // when
+        MemberDiscoveryPage page = memberService.discoverMembers(1L, Set.of(), null, 2);
+
+        // then
+        assertThat(page.getContent()).extracting(ProfileResponse::getMembername).containsExactly("member5", "member4");
+        assertThat(page.getContent()).extracting(ProfileResponse::getAge).containsOnly(-1);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isNotNull();
+    }
+
+    private static MemberDiscoveryView view(Long id, String membername, LocalDate birthDate) {
+        return new MemberDiscoveryView(id, membername, "nick" + id, null, null, MemberTag.SPORTS.bit(), true,
+                "en", "UTC", birthDate, "US", null, Instant.parse("2026-10-01T00:00:00Z").minusSeconds(id));
+    }
 }
@@ -0,0 +1,77 @@
+package org.example.howareyou.domain.quiz.repository;
+
+import jakarta.persistence.EntityManager;
+import org.example.howareyou.domain.quiz.entity.QuizResult;
+import org.example.howareyou.domain.quiz.entity.QuizStatus;
+import org.example.howareyou.domain.quiz.entity.QuizType;
+import org.example.howareyou.domain.quiz.entity.QuizWord;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 퀴즈 시작 시 저장(quiz_result 1건 + quiz_word 30건)이
+ * 시퀀스 선할당 + JDBC batch 로 몇 개의 문장으로 끝나는지 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class QuizPersistenceBatchTest {
+
+    private static final int QUESTIONS = 30;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private QuizResultRepository quizResultRepository;
+
+    @Autowired
+    private QuizWordRepository quizWordRepository;
+
+    @Test
+    void quizStart_insertsAreBatched() {
+        // given - 시퀀스 첫 호출(초기값 보정) 영향을 빼기 위해 한 번 저장해 둠
+        startQuiz();
+        em.flush();
+        em.clear();
+
+        Statistics stats = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        // when
+        startQuiz();
+        em.flush();
+
+        // then - insert 2문장(quiz_result, quiz_word batch) + 블록 경계에서의 시퀀스 호출
+        assertThat(stats.getEntityInsertCount()).isEqualTo(QUESTIONS + 1);
+        assertThat(stats.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    private void startQuiz() {
+        QuizResult result = quizResultRepository.save(QuizResult.builder()
+                .memberId(1L)
+                .quizType(QuizType.RANDOM)
+                .totalQuestions((long) QUESTIONS)
+                .quizStatus(QuizStatus.PENDING)
+                .build());
+
+        List<QuizWord> words = new ArrayList<>(QUESTIONS);
+        for (int i = 0; i < QUESTIONS; i++) {
+            words.add(QuizWord.builder()
+                    .quizResult(result)
+                    .questionNo(i + 1)
+                    .word("word" + i)
+                    .meaning("meaning" + i)
+                    .choice1("a").choice2("b").choice3("c").choice4("d")
+                    .correctAnswer(1)
+                    .build());
+        }
+        quizWordRepository.saveAll(words);
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.howareyou.domain.quiz.service;
+
+import org.example.howareyou.domain.member.service.MemberService;
+import org.example.howareyou.domain.quiz.dto.ClientQuizQuestion;
+import org.example.howareyou.domain.quiz.dto.ClientStartResponse;
+import org.example.howareyou.domain.quiz.entity.QuizResult;
+import org.example.howareyou.domain.quiz.repository.QuizResultRepository;
+import org.example.howareyou.domain.quiz.repository.QuizWordRepository;
+import org.example.howareyou.domain.vocabulary.document.MemberWord;
+import org.example.howareyou.domain.vocabulary.service.MemberVocaBookService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuizGeneratorServiceImplTest {
+
+    private static final String MEMBERNAME = "alice";
+
+    private MemberService memberService;
+    private QuizResultRepository quizResultRepository;
+    private QuizCandidatePoolCache candidatePoolCache;
+
+    @BeforeEach
+    void setUp() {
+        memberService = mock(MemberService.class);
+        when(memberService.getIdByMembername(MEMBERNAME)).thenReturn(1L);
+        quizResultRepository = mock(QuizResultRepository.class);
+        when(quizResultRepository.save(any(QuizResult.class))).thenAnswer(inv -> inv.getArgument(0));
+        candidatePoolCache = mock(QuizCandidatePoolCache.class);
+
+        List<MemberWord> words = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            words.add(MemberWord.builder().membername(MEMBERNAME)
+                    .word("word" + i).meaning("뜻" + i).level("a1").pos("noun").build());
+        }
+        when(candidatePoolCache.get(MEMBERNAME)).thenReturn(QuizCandidatePool.of(words));
+    }
+
+    @Test
+    void sameSeed_givesSameQuestionAndChoiceOrder() {
+        // given: 같은 quiz.random.seed 로 뜬 두 인스턴스
+        QuizGeneratorServiceImpl first = generator(new QuizRandomFactory(42L));
+        QuizGeneratorServiceImpl second = generator(new QuizRandomFactory(42L));
+
+        // when
+        List<List<String>> a = order(first.startRandomQuiz(MEMBERNAME, null), first.startRandomQuiz(MEMBERNAME, null));
+        List<List<String>> b = order(second.startRandomQuiz(MEMBERNAME, null), second.startRandomQuiz(MEMBERNAME, null));
+
+        // then: 생성 순서가 같으면 문항 수, 문항 순서, 보기 순서까지 같음
+        assertThat(a).isEqualTo(b);
+        assertThat(order(generator(new QuizRandomFactory(7L)).startRandomQuiz(MEMBERNAME, null))).isNotEqualTo(a.subList(0, 1));
+    }
+
+    private QuizGeneratorServiceImpl generator(QuizRandomFactory randomFactory) {
+        return new QuizGeneratorServiceImpl(memberService, mock(MemberVocaBookService.class), quizResultRepository,
+                mock(QuizWordRepository.class), candidatePoolCache, randomFactory);
+    }
+
+    /** 퀴즈별 [문항1, 보기1..4, 문항2, ...] */
+    private static List<List<String>> order(ClientStartResponse... quizzes) {
+        List<List<String>> out = new ArrayList<>();
+        for (ClientStartResponse quiz : quizzes) {
+            List<String> flat = new ArrayList<>();
+            for (ClientQuizQuestion q : quiz.getQuizQuestions()) {
+                flat.add(q.getQuestion());
+                flat.addAll(q.getChoices());
+            }
+            out.add(flat);
+        }
+        return out;
+    }
+}
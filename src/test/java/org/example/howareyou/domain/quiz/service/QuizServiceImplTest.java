@@ -0,0 +1,153 @@
+package org.example.howareyou.domain.quiz.service;
+
+import org.example.howareyou.domain.quiz.dto.grade.GradedAnswer;
+import org.example.howareyou.domain.quiz.dto.grade.QuizWordGrade;
+import org.example.howareyou.domain.quiz.dto.response.WrongAnswerResponse;
+import org.example.howareyou.domain.quiz.dto.submit.SubmitResponse;
+import org.example.howareyou.domain.quiz.entity.QuizResult;
+import org.example.howareyou.domain.quiz.entity.QuizStatus;
+import org.example.howareyou.domain.quiz.event.QuizGradedEvent;
+import org.example.howareyou.domain.quiz.repository.QuizResultRepository;
+import org.example.howareyou.domain.quiz.repository.QuizWordRepository;
+import org.example.howareyou.global.exception.CustomException;
+import org.example.howareyou.global.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizServiceImplTest {
+
+    private static final String UUID = "quiz-uuid";
+
+    @InjectMocks
+    private QuizServiceImpl quizService;
+
+    @Mock
+    private QuizResultRepository quizResultRepository;
+
+    @Mock
+    private QuizWordRepository quizWordRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private static List<QuizWordGrade> items() {
+        return List.of(
+                new QuizWordGrade(11L, 1, "a", "b", "c", "d", "apple", "m1", "noun"),
+                new QuizWordGrade(12L, 2, "a", "b", "c", "d", "banana", "m2", "noun"),
+                new QuizWordGrade(13L, 3, "a", "b", "c", "d", "cherry", "m3", "noun")
+        );
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void gradeQuiz_appliesAllAnswersInOneBatch() {
+        // given
+        when(quizResultRepository.findByUuidForGrading(UUID))
+                .thenReturn(Optional.of(QuizResult.builder().id(1L).uuid(UUID).completed(false).build()));
+        when(quizWordRepository.findForGrading(1L)).thenReturn(items());
+        when(quizResultRepository.finalizeGradingByUuid(eq(UUID), anyLong(), anyLong(), anyLong(), any(), eq(QuizStatus.SUBMIT)))
+                .thenReturn(1);
+
+        // when
+        SubmitResponse response = quizService.gradeQuiz(UUID, List.of(1, 3, -1));
+
+        // then
+        assertThat(response.getCorrectCount()).isEqualTo(1);
+        assertThat(response.getTotalQuestions()).isEqualTo(3);
+        assertThat(response.getScore()).isEqualTo(33);
+
+        ArgumentCaptor<List<GradedAnswer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(quizWordRepository, times(1)).applyGradingBatch(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new GradedAnswer(11L, 1, true),
+                new GradedAnswer(12L, 3, false),
+                new GradedAnswer(13L, -1, false)
+        );
+
+        ArgumentCaptor<QuizGradedEvent> event = ArgumentCaptor.forClass(QuizGradedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().score()).isEqualTo(33);
+        assertThat(event.getValue().wrongAnswers()).extracting(WrongAnswerResponse::getWord)
+                .containsExactly("banana", "cherry");
+    }
+
+    @Test
+    void gradeQuiz_rejectsAlreadyCompletedQuiz() {
+        // given
+        when(quizResultRepository.findByUuidForGrading(UUID))
+                .thenReturn(Optional.of(QuizResult.builder().id(1L).uuid(UUID).completed(true).build()));
+
+        // when & then
+        assertThatThrownBy(() -> quizService.gradeQuiz(UUID, List.of(1, 2, 3)))
+                .isInstanceOf(CustomException.class)
+                .extracting(e -> ((CustomException) e).getErrorCode())
+                .isEqualTo(ErrorCode.QUIZ_ALREADY_SUBMITTED);
+        verify(quizWordRepository, never()).applyGradingBatch(anyList());
+    }
+
+    /**
+     * 동시 이중 제출: 두 요청이 모두 완료 전 상태를 읽은 최악의 경우에도
+     * 조건부 finalize(completed = false 인 경우에만 갱신)로 한 건만 성공해야 한다.
+     */
+    @Test
+    void gradeQuiz_concurrentDoubleSubmit_onlyOneSucceeds() throws Exception {
+        // given
+        AtomicBoolean completed = new AtomicBoolean(false);
+        CyclicBarrier bothLoaded = new CyclicBarrier(2);
+
+        when(quizResultRepository.findByUuidForGrading(UUID)).thenAnswer(inv -> {
+            QuizResult snapshot = QuizResult.builder().id(1L).uuid(UUID).completed(completed.get()).build();
+            bothLoaded.await(5, TimeUnit.SECONDS);
+            return Optional.of(snapshot);
+        });
+        when(quizWordRepository.findForGrading(1L)).thenReturn(items());
+        when(quizResultRepository.finalizeGradingByUuid(eq(UUID), anyLong(), anyLong(), anyLong(), any(), eq(QuizStatus.SUBMIT)))
+                .thenAnswer(inv -> completed.compareAndSet(false, true) ? 1 : 0);
+
+        // when
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        List<Future<SubmitResponse>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 2; i++) {
+                futures.add(pool.submit(() -> quizService.gradeQuiz(UUID, List.of(1, 2, 3))));
+            }
+
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<SubmitResponse> f : futures) {
+                try {
+                    f.get(5, TimeUnit.SECONDS);
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(CustomException.class);
+                    assertThat(((CustomException) e.getCause()).getErrorCode()).isEqualTo(ErrorCode.QUIZ_ALREADY_SUBMITTED);
+                    rejected++;
+                }
+            }
+
+            // then
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(rejected).isEqualTo(1);
+            assertThat(completed.get()).isTrue();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
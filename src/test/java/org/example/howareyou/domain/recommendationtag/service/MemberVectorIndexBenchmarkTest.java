@@ -0,0 +1,101 @@
+package org.example.howareyou.domain.recommendationtag.service;
+
+import org.example.howareyou.domain.recommendationtag.dto.SimilarityResult;
+import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 유사 회원 Top-N: 회원별 TagVector 코사인 후 전체 정렬 vs 인덱스(연속 float 배열 + 최소 힙) 비교
+ * 10만 명 기준, 결과 일치만 검증하고 시간은 로그
+ * 기본 빌드에서는 건너뜀 → ./gradlew test --tests '*MemberVectorIndexBenchmarkTest' -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MemberVectorIndexBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberVectorIndexBenchmarkTest.class);
+
+    private static final int MEMBERS = 100_000;
+    private static final int TOP_N = 20;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void topN_sortVsHeap() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForHash()).thenReturn(mock(HashOperations.class));
+        MemberVectorIndex index = new MemberVectorIndex(redisTemplate, mock(MemberTagScoreRepository.class));
+
+        Random random = new Random(42);
+        Map<Long, TagVector> vectors = new HashMap<>(MEMBERS * 2);
+        for (long id = 1; id <= MEMBERS; id++) {
+            float[] v = new float[MemberVectorIndex.DIM];
+            for (int k = 0; k < 4; k++) v[random.nextInt(v.length)] = random.nextFloat();
+            vectors.put(id, TagVector.decode(TagVector.encodeFloats(v)));
+        }
+        long loadStartedAt = System.nanoTime();
+        index.upsertAll(vectors);
+        double loadMillis = (System.nanoTime() - loadStartedAt) / 1_000_000.0;
+
+        long queryId = 1L;
+        TagVector queryVector = vectors.get(queryId);
+        float[] query = index.vectorOf(queryId);
+
+        List<SimilarityResult> sorted = sortTopN(vectors, queryId, queryVector);
+        List<SimilarityResult> heap = index.topN(queryId, query, TOP_N);
+        // 동점이 많아 회원 id 가 아니라 유사도 값으로 비교 (float 변환 오차 허용)
+        assertThat(heap).hasSameSizeAs(sorted);
+        for (int k = 0; k < sorted.size(); k++) {
+            assertThat(heap.get(k).similarity()).isCloseTo(sorted.get(k).similarity(), offset(1e-5));
+        }
+
+        double sortMicros = measure(() -> sortTopN(vectors, queryId, queryVector).size());
+        double heapMicros = measure(() -> index.topN(queryId, query, TOP_N).size());
+
+        // 시간은 기록만 (실행 환경에 따라 달라지므로 검증하지 않음)
+        log.info("Top-{} / {}명 - 적재 {}ms, 정렬 {}µs/op, 인덱스 {}µs/op ({}배)", TOP_N, MEMBERS,
+                String.format("%.0f", loadMillis), String.format("%.0f", sortMicros),
+                String.format("%.0f", heapMicros), String.format("%.1f", sortMicros / heapMicros));
+    }
+
+    /** 인덱스 도입 전 방식: 전원 코사인 계산 → 정렬 → 상위 N */
+    private static List<SimilarityResult> sortTopN(Map<Long, TagVector> vectors, long queryId, TagVector query) {
+        double queryNorm = query.norm();
+        List<SimilarityResult> all = new ArrayList<>(vectors.size());
+        vectors.forEach((id, v) -> {
+            if (id == queryId) return;
+            double norm = v.norm();
+            all.add(new SimilarityResult(id, norm == 0 ? 0.0 : query.dot(v) / (queryNorm * norm)));
+        });
+        all.sort(Comparator.comparingDouble(SimilarityResult::similarity).reversed());
+        return all.subList(0, Math.min(TOP_N, all.size()));
+    }
+
+    private static double measure(Supplier<Integer> op) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) sink += op.get();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) sink += op.get();
+        double micros = (System.nanoTime() - startedAt) / 1_000.0 / ITERATIONS;
+        if (sink < 0) throw new IllegalStateException();
+        return micros;
+    }
+}
@@ -0,0 +1,178 @@
+package org.example.howareyou.domain.recommendationtag.service;
+
+import org.example.howareyou.domain.recommendationtag.dto.SimilarityResult;
+import org.example.howareyou.domain.recommendationtag.repository.MemberTagScoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MemberVectorIndexTest {
+
+    private static final int DIM = MemberVectorIndex.DIM;
+
+    private HashOperations<String, Object, Object> hashOps;
+    private MemberVectorIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        hashOps = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOps);
+        index = new MemberVectorIndex(redisTemplate, mock(MemberTagScoreRepository.class));
+    }
+
+    @Test
+    void topN_matchesFullSort_excludingSelf() {
+        // given: 음이 아닌 임의 벡터 300명
+        Random random = new Random(7);
+        for (long id = 1; id <= 300; id++) index.upsert(id, randomVector(random));
+        float[] query = index.vectorOf(1L);
+
+        // when
+        List<SimilarityResult> top = index.topN(1L, query, 10);
+
+        // then: 전체 내적을 정렬한 상위 10명과 같은 순서
+        List<SimilarityResult> all = new ArrayList<>();
+        for (long id = 2; id <= 300; id++) all.add(new SimilarityResult(id, dot(query, index.vectorOf(id))));
+        all.sort(Comparator.comparingDouble(SimilarityResult::similarity).reversed());
+        assertThat(top).extracting(SimilarityResult::memberId)
+                .containsExactlyElementsOf(all.subList(0, 10).stream().map(SimilarityResult::memberId).toList());
+        assertThat(top.get(0).similarity()).isGreaterThanOrEqualTo(top.get(9).similarity());
+    }
+
+    @Test
+    void topN_withFewerCandidatesThanN_returnsAll() {
+        index.upsert(1L, axis(0));
+        index.upsert(2L, axis(0, 1));
+        index.upsert(3L, axis(1));
+
+        List<SimilarityResult> top = index.topN(1L, index.vectorOf(1L), 5);
+
+        assertThat(top).extracting(SimilarityResult::memberId).containsExactly(2L, 3L);
+        assertThat(top.get(1).similarity()).isZero();
+    }
+
+    @Test
+    void topN_hugeN_isBoundedByIndexSize() {
+        index.upsert(1L, axis(0));
+        index.upsert(2L, axis(0, 1));
+
+        // 요청 값만큼 힙 배열을 잡으면 OutOfMemoryError
+        List<SimilarityResult> top = index.topN(1L, index.vectorOf(1L), Integer.MAX_VALUE);
+
+        assertThat(top).extracting(SimilarityResult::memberId).containsExactly(2L);
+    }
+
+    @Test
+    void remove_movesLastMemberIntoFreedSlot() {
+        // given
+        index.upsert(1L, axis(0));
+        index.upsert(2L, axis(1));
+        index.upsert(3L, axis(2));
+        float[] third = index.vectorOf(3L);
+
+        // when
+        index.remove(1L);
+
+        // then: 마지막 회원(3)이 0번 자리로, 벡터는 그대로
+        MemberVectorIndex.Snapshot snapshot = index.snapshot();
+        assertThat(snapshot.size()).isEqualTo(2);
+        assertThat(snapshot.ids()).containsExactly(3L, 2L);
+        assertThat(index.vectorOf(3L)).containsExactly(third);
+        assertThat(index.vectorOf(1L)).isNull();
+        assertThat(index.topN(2L, index.vectorOf(2L), 5)).extracting(SimilarityResult::memberId).containsExactly(3L);
+
+        // 지운 뒤 추가하면 빈 자리(끝)에 들어감
+        index.upsert(4L, axis(3));
+        assertThat(index.snapshot().ids()).containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    void snapshotEncoding_roundTrips() {
+        float[] v = index.upsert(1L, randomVector(new Random(3)));
+
+        String encoded = TagVector.encodeFloats(v);
+
+        assertThat(encoded).hasSize(4 * ((DIM * Float.BYTES + 2) / 3));
+        assertThat(TagVector.decodeFloats(encoded)).containsExactly(v);
+        assertThatThrownBy(() -> TagVector.decodeFloats(TagVector.encodeFloats(v).substring(8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reload_keepsUpsertsAppliedDuringScan() {
+        // given: 스냅샷에는 1(이전 값), 2, 3 → HSCAN 도중 1 갱신, 3 제거, 9 추가
+        float[] stale = normalized(axis(0));
+        List<Map.Entry<Object, Object>> entries = List.of(
+                Map.entry("1", TagVector.encodeFloats(stale)),
+                Map.entry("2", TagVector.encodeFloats(normalized(axis(1)))),
+                Map.entry("3", TagVector.encodeFloats(normalized(axis(2)))));
+        Iterator<Map.Entry<Object, Object>> it = entries.iterator();
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(inv -> it.hasNext());
+        when(cursor.next()).thenAnswer(inv -> it.next());
+        float[][] fresh = new float[1][];
+        when(hashOps.scan(eq("member:vector:index"), any(ScanOptions.class))).thenAnswer(inv -> {
+            fresh[0] = index.upsert(1L, axis(4));
+            index.upsert(9L, axis(5));
+            index.remove(3L);
+            return cursor;
+        });
+
+        // when
+        index.reload();
+
+        // then: 스냅샷이 아니라 나중 증분이 남음
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.vectorOf(1L)).containsExactly(fresh[0]);
+        assertThat(index.vectorOf(2L)).isNotNull();
+        assertThat(index.vectorOf(3L)).isNull();
+        assertThat(index.vectorOf(9L)).isNotNull();
+
+        // 재적재가 끝난 뒤의 변경은 바로 반영
+        index.remove(9L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static TagVector axis(int... dims) {
+        float[] v = new float[DIM];
+        for (int d : dims) v[d] = 1f;
+        return TagVector.decode(TagVector.encodeFloats(v));
+    }
+
+    private static TagVector randomVector(Random random) {
+        float[] v = new float[DIM];
+        for (int d = 0; d < DIM; d++) v[d] = random.nextFloat();
+        return TagVector.decode(TagVector.encodeFloats(v));
+    }
+
+    private static float[] normalized(TagVector v) {
+        return v.normalizedFloats();
+    }
+
+    /** offerRange 와 같은 순서로 누적 */
+    private static float dot(float[] a, float[] b) {
+        float dot = 0f;
+        for (int d = 0; d < DIM; d++) dot += b[d] * a[d];
+        return dot;
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.howareyou.domain.recommendationtag.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TagVectorTest {
+
+    private static final int CALLS = 100_000;
+
+    @Test
+    void encode_isFixedWidthAndRoundTrips() {
+        // given
+        TagVector v = random(new Random(1));
+
+        // when
+        String encoded = v.encode();
+
+        // then: DIM 개 float32 → Base64 고정 길이, float 정밀도로 복원
+        assertThat(encoded).hasSize(4 * ((TagVector.DIM * Float.BYTES + 2) / 3));
+        assertThat(TagVector.decode(encoded).encode()).isEqualTo(encoded);
+        assertThatThrownBy(() -> TagVector.decode(encoded.substring(8))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dotAndNorm_doNotAllocate() {
+        com.sun.management.ThreadMXBean threads = threadMXBean();
+        TagVector a = random(new Random(2));
+        TagVector b = random(new Random(3));
+        double sink = 0;
+        for (int i = 0; i < CALLS; i++) sink += similarity(a, b);   // 워밍업
+
+        // when
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < CALLS; i++) sink += similarity(a, b);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // then: 호출 수와 무관 (측정 자체의 할당만 허용)
+        assertThat(sink).isPositive();
+        assertThat(allocated).isLessThan(CALLS / 10);
+    }
+
+    /** 코사인 = dot / (norm * norm) */
+    private static double similarity(TagVector a, TagVector b) {
+        return a.dot(b) / (a.norm() * b.norm());
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+
+    private static TagVector random(Random random) {
+        float[] v = new float[TagVector.DIM];
+        for (int d = 0; d < v.length; d++) v[d] = random.nextFloat();
+        return TagVector.decode(TagVector.encodeFloats(v));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.howareyou.domain.translate.controller;
+
+import org.example.howareyou.domain.auth.oauth2.handler.OAuth2SuccessHandler;
+import org.example.howareyou.domain.member.entity.Role;
+import org.example.howareyou.domain.member.redis.MemberCacheService;
+import org.example.howareyou.domain.member.redis.PresenceService;
+import org.example.howareyou.domain.translate.dto.TranslateResponseDto;
+import org.example.howareyou.domain.translate.service.GeminiTranslateService;
+import org.example.howareyou.domain.translate.service.LiberTranslateService;
+import org.example.howareyou.global.config.SecurityConfig;
+import org.example.howareyou.global.security.CustomMemberDetails;
+import org.example.howareyou.global.security.jwt.JwtTokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Mono 응답은 ASYNC 재디스패치에서도 인가 검사를 거치므로,
+ * JWT 로 인증한 요청이 재디스패치 후에도 인증 상태를 유지하는지 확인
+ */
+@WebMvcTest(controllers = TranslateController.class, properties = {
+        "jwt.secret=test-secret-test-secret-test-secret-0123456789",
+        "spring.security.oauth2.client.registration.google.client-id=test",
+        "spring.security.oauth2.client.registration.google.client-secret=test"
+})
+@Import({SecurityConfig.class, JwtTokenProvider.class})
+class TranslateControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private LiberTranslateService liberTranslateService;
+
+    @MockitoBean
+    private GeminiTranslateService geminiTranslateService;
+
+    @MockitoBean
+    private UserDetailsService userDetailsService;
+
+    @MockitoBean
+    private MemberCacheService memberCacheService;
+
+    @MockitoBean
+    private PresenceService presenceService;
+
+    @MockitoBean
+    private OAuth2SuccessHandler oAuth2SuccessHandler;
+
+    @Test
+    void authenticatedMonoResponse_survivesAsyncDispatch() throws Exception {
+        // given
+        when(userDetailsService.loadUserByUsername("7"))
+                .thenReturn(new CustomMemberDetails(7L, "a@b.c", "tester", true, Role.USER));
+        TranslateResponseDto dto = new TranslateResponseDto();
+        dto.setTranslatedText("Hello");
+        when(liberTranslateService.translate(any())).thenReturn(Mono.just(dto));
+        String token = jwtTokenProvider.createAccessToken(7L);
+
+        // when
+        MvcResult started = mockMvc.perform(post("/api/translate/basic")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"q\":\"안녕하세요\",\"source\":\"ko\",\"target\":\"en\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.translatedText").value("Hello"));
+    }
+
+    @Test
+    void anonymousRequest_isRejectedBeforeTranslation() throws Exception {
+        mockMvc.perform(post("/api/translate/basic")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"q\":\"안녕하세요\",\"source\":\"ko\",\"target\":\"en\"}"))
+                .andExpect(status().isUnauthorized());
+    }
+}
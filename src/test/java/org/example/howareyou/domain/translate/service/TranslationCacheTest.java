@@ -0,0 +1,175 @@
+package org.example.howareyou.domain.translate.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.howareyou.global.exception.CustomException;
+import org.example.howareyou.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TranslationCacheTest {
+
+    private ValueOperations<String, String> valueOps;
+    private SimpleMeterRegistry meterRegistry;
+    private TranslationCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        valueOps = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new TranslationCache(redisTemplate, meterRegistry, 100, 60, 7, 2000);
+    }
+
+    @Test
+    void concurrentIdenticalRequests_callTranslatorOnce() throws Exception {
+        // given
+        int callers = 8;
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<String> upstream = Sinks.one();
+
+        // when: 번역 서버 응답 전에 같은 요청 8건 구독
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(cache.translate("libretranslate", "ko", "en", "안녕하세요", () -> {
+                calls.incrementAndGet();
+                return upstream.asMono();
+            }).toFuture());
+        }
+        upstream.tryEmitValue("Hello");
+
+        // then
+        for (CompletableFuture<String> r : results) {
+            assertThat(r.get(5, TimeUnit.SECONDS)).isEqualTo("Hello");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(count("miss")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(callers - 1);
+        verify(valueOps, timeout(5000).times(1)).set(anyString(), eq("Hello"), any(Duration.class));
+    }
+
+    @Test
+    void whitespaceAndLanguageCaseVariants_shareOneEntry() {
+        // given
+        cache.translate("gemini", "ko", "en", "안녕  하세요", () -> Mono.just("Hello")).block();
+
+        // when
+        String second = cache.translate("gemini", "KO", "en", " 안녕 하세요 ", () -> {
+            throw new AssertionError("로컬 캐시 hit 이어야 함");
+        }).block();
+
+        // then
+        assertThat(second).isEqualTo("Hello");
+        assertThat(count("hit_local")).isEqualTo(1);
+    }
+
+    @Test
+    void newlines_areKeptInKey() {
+        // given
+        cache.translate("gemini", "ko", "en", "안녕\n하세요", () -> Mono.just("Hello\nthere")).block();
+
+        // when: 줄바꿈 앞뒤 공백은 무시, 줄바꿈 자체는 다른 원문
+        String sameLines = cache.translate("gemini", "ko", "en", "안녕 \n  하세요", () -> Mono.just("x")).block();
+        String oneLine = cache.translate("gemini", "ko", "en", "안녕 하세요", () -> Mono.just("Hello there")).block();
+
+        // then
+        assertThat(sameLines).isEqualTo("Hello\nthere");
+        assertThat(oneLine).isEqualTo("Hello there");
+    }
+
+    @Test
+    void uncachedFallback_isReturnedButNotCached() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        String first = cache.translate("gemini", "ko", "en", "기본값", () -> {
+            calls.incrementAndGet();
+            return TranslationCache.uncached("{raw=body}");
+        }).block();
+        String second = cache.translate("gemini", "ko", "en", "기본값", () -> {
+            calls.incrementAndGet();
+            return Mono.just("default");
+        }).block();
+
+        // then
+        assertThat(first).isEqualTo("{raw=body}");
+        assertThat(second).isEqualTo("default");
+        assertThat(calls.get()).isEqualTo(2);
+        verify(valueOps, never()).set(anyString(), eq("{raw=body}"), any(Duration.class));
+    }
+
+    @Test
+    void redisHit_skipsTranslator() {
+        // given
+        when(valueOps.get(anyString())).thenReturn("Hello");
+
+        // when
+        String result = cache.translate("libretranslate", "ko", "en", "안녕하세요", () -> {
+            throw new AssertionError("Redis hit 이어야 함");
+        }).block();
+
+        // then
+        assertThat(result).isEqualTo("Hello");
+        assertThat(count("hit_redis")).isEqualTo(1);
+    }
+
+    @Test
+    void redisLookup_runsOffCallerThread() {
+        // given
+        AtomicReference<String> lookupThread = new AtomicReference<>();
+        when(valueOps.get(anyString())).thenAnswer(inv -> {
+            lookupThread.set(Thread.currentThread().getName());
+            return null;
+        });
+
+        // when
+        cache.translate("libretranslate", "ko", "en", "스레드", () -> Mono.just("thread")).block();
+
+        // then: 이벤트 루프에서 구독돼도 블로킹 GET 은 boundedElastic 에서 실행
+        assertThat(lookupThread.get()).startsWith("boundedElastic");
+    }
+
+    @Test
+    void failedTranslation_isNotCached() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        assertThatThrownBy(() -> cache.translate("libretranslate", "ko", "en", "실패", () -> {
+            calls.incrementAndGet();
+            return Mono.<String>error(new CustomException(ErrorCode.LT_SERVICE_UNAVAILABLE));
+        }).block()).isInstanceOf(CustomException.class);
+        String retried = cache.translate("libretranslate", "ko", "en", "실패", () -> {
+            calls.incrementAndGet();
+            return Mono.just("failure");
+        }).block();
+
+        // then
+        assertThat(retried).isEqualTo("failure");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    private double count(String result) {
+        return meterRegistry.find("translate.cache.requests").tag("result", result).counters().stream()
+                .mapToDouble(c -> c.count()).sum();
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.howareyou.global.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundResilienceTest {
+
+    private static final String NAME = OutboundResilience.TAGGING;
+    private static final int FLOOD = 30;
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @BeforeEach
+    void setUp() {
+        // 적은 호출로도 OPEN 가능 (거절이 실패로 잡히면 FLOOD 건 안에 OPEN)
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(10)
+                .minimumNumberOfCalls(5)
+                .failureRateThreshold(50)
+                .build());
+    }
+
+    @Test
+    void bulkheadFlood_doesNotOpenBreaker() {
+        // given: 동시 호출 1개가 끝나지 않고 자리를 잡고 있음
+        OutboundResilience resilience = resilience(1, 1000);
+        Sinks.One<String> slow = Sinks.one();
+        Disposable inFlight = resilience.mono(NAME, slow.asMono()).subscribe();
+
+        // when: 나머지 호출은 모두 벌크헤드에서 거절
+        for (int i = 0; i < FLOOD; i++) {
+            assertThatThrownBy(() -> resilience.mono(NAME, Mono.just("ok")).block())
+                    .isInstanceOf(BulkheadFullException.class);
+        }
+        slow.tryEmitValue("done");
+        inFlight.dispose();
+
+        // then: 거절은 서킷 실패로 집계되지 않음
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isZero();
+    }
+
+    @Test
+    void rateLimiterFlood_doesNotOpenBreaker() {
+        // given
+        OutboundResilience resilience = resilience(100, 5);
+
+        // when: 주기당 5건을 넘는 호출은 RequestNotPermitted
+        int rejected = 0;
+        for (int i = 0; i < FLOOD; i++) {
+            try {
+                resilience.mono(NAME, Mono.just("ok")).block();
+            } catch (RequestNotPermitted e) {
+                rejected++;
+            }
+        }
+
+        // then
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        assertThat(rejected).isEqualTo(FLOOD - 5);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        assertThat(breaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(5);
+    }
+
+    /** application.yml 과 같은 성격: 대기 없이 거절하는 벌크헤드/레이트리미터 */
+    private OutboundResilience resilience(int maxConcurrentCalls, int limitForPeriod) {
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        RateLimiterRegistry rateLimiterRegistry = RateLimiterRegistry.of(RateLimiterConfig.custom()
+                .limitForPeriod(limitForPeriod)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+        TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                .timeoutDuration(Duration.ofSeconds(5))
+                .build());
+        return new OutboundResilience(circuitBreakerRegistry, bulkheadRegistry, rateLimiterRegistry, timeLimiterRegistry);
+    }
+}